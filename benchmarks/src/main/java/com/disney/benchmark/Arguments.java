@@ -0,0 +1,62 @@
+package com.disney.benchmark;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// the --name=value options of the command line tools in this module
+final class Arguments {
+    private final Map<String, String> values;
+
+    private Arguments(Map<String, String> values) {
+        this.values = values;
+    }
+
+    static Arguments parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0)
+                throw new IllegalArgumentException("Expected --name=value but got '%s'".formatted(arg));
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new Arguments(values);
+    }
+
+    String get(String name, String fallback) {
+        return values.getOrDefault(name, fallback);
+    }
+
+    boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    int getInt(String name, int fallback) {
+        String value = values.get(name);
+        return Objects.isNull(value) ? fallback : Integer.parseInt(value);
+    }
+
+    long getLong(String name, long fallback) {
+        String value = values.get(name);
+        return Objects.isNull(value) ? fallback : Long.parseLong(value);
+    }
+
+    double getDouble(String name, double fallback) {
+        String value = values.get(name);
+        return Objects.isNull(value) ? fallback : Double.parseDouble(value);
+    }
+
+    boolean getBoolean(String name, boolean fallback) {
+        String value = values.get(name);
+        return Objects.isNull(value) ? fallback : Boolean.parseBoolean(value);
+    }
+
+    // 30s, 2m, 500ms or an ISO-8601 duration
+    Duration getDuration(String name, Duration fallback) {
+        String value = values.get(name);
+        return Objects.isNull(value) ? fallback : DurationStyle.detectAndParse(value);
+    }
+}
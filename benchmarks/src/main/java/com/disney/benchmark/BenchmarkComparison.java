@@ -0,0 +1,120 @@
+package com.disney.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, typically the run of a base commit against the run of a change:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.disney.benchmark.BenchmarkComparison base.json change.json [threshold%]
+ * </pre>
+ * Every benchmark found in both runs is compared on its score and, when the run was profiled with {@code -prof gc},
+ * on the bytes allocated per operation. A metric regresses when it got worse by more than the threshold (10% by
+ * default) and by more than the error margins of both runs; the process then exits with status 1.
+ */
+public final class BenchmarkComparison {
+    static final double DEFAULT_THRESHOLD = 0.10;
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    public record Change(String benchmark, String metric, String unit, double baseline, double candidate,
+                         double margin, boolean lowerIsBetter) {
+
+        // relative change, positive when the candidate is worse
+        public double regression() {
+            double change = (candidate - baseline) / baseline;
+            return lowerIsBetter ? change : -change;
+        }
+
+        public boolean regressed(double threshold) {
+            return regression() > threshold && Math.abs(candidate - baseline) > margin;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkComparison <baseline.json> <candidate.json> [threshold%]");
+            System.exit(2);
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : DEFAULT_THRESHOLD;
+        List<Change> changes = compare(mapper.readTree(new File(args[0])), mapper.readTree(new File(args[1])));
+
+        long regressions = 0;
+        for (Change change : changes) {
+            boolean regressed = change.regressed(threshold);
+            regressions += regressed ? 1 : 0;
+            System.out.printf("%-9s %-70s %-20s %14.3f -> %14.3f %-10s %+7.1f%%%n",
+                    regressed ? "REGRESSED" : "ok", change.benchmark(), change.metric(), change.baseline(),
+                    change.candidate(), change.unit(), change.regression() * 100);
+        }
+        System.out.printf("%d compared, %d regressed beyond %.0f%%%n", changes.size(), regressions, threshold * 100);
+        if (regressions > 0)
+            System.exit(1);
+    }
+
+    public static List<Change> compare(JsonNode baseline, JsonNode candidate) {
+        Map<String, JsonNode> baselineRuns = byName(baseline);
+        List<Change> changes = new ArrayList<>();
+        byName(candidate).forEach((name, run) -> {
+            JsonNode base = baselineRuns.get(name);
+            if (Objects.isNull(base))
+                return;
+            JsonNode metric = run.path("primaryMetric");
+            JsonNode baseMetric = base.path("primaryMetric");
+            // throughput is the only JMH mode where a higher score is better
+            boolean lowerIsBetter = !"thrpt".equals(run.path("mode").asText());
+            changes.add(change(name, "score", baseMetric, metric, lowerIsBetter));
+
+            JsonNode allocation = allocation(run);
+            JsonNode baseAllocation = allocation(base);
+            if (Objects.nonNull(allocation) && Objects.nonNull(baseAllocation))
+                changes.add(change(name, "allocation", baseAllocation, allocation, true));
+        });
+        return changes;
+    }
+
+    private static Change change(String name, String metric, JsonNode baseline, JsonNode candidate,
+                                 boolean lowerIsBetter) {
+        return new Change(name, metric, candidate.path("scoreUnit").asText(), baseline.path("score").asDouble(),
+                candidate.path("score").asDouble(), error(baseline) + error(candidate), lowerIsBetter);
+    }
+
+    // NaN when a run had too few iterations to compute it
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    // older JMH versions prefix the secondary metric names with a middle dot
+    private static JsonNode allocation(JsonNode run) {
+        for (Map.Entry<String, JsonNode> metric : run.path("secondaryMetrics").properties())
+            if (metric.getKey().endsWith(ALLOCATION_METRIC))
+                return metric.getValue();
+        return null;
+    }
+
+    // the benchmark method plus its parameters, e.g. MapperBenchmark.mapPage{pageSize=10}
+    private static Map<String, JsonNode> byName(JsonNode runs) {
+        Map<String, JsonNode> byName = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            String benchmark = run.path("benchmark").asText();
+            String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+            Map<String, String> params = new TreeMap<>();
+            run.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asText()));
+            byName.put(params.isEmpty() ? name : name + params, run);
+        }
+        return byName;
+    }
+}
@@ -0,0 +1,27 @@
+package com.disney.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}: the JMH command line, except that results are written as JSON to
+ * {@code jmh-result.json} unless {@code -rf}/{@code -rff} say otherwise, so every run leaves a file
+ * {@link BenchmarkComparison} can compare.
+ */
+public final class BenchmarkMain {
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(List.of(args));
+        if (!options.contains("-rf"))
+            options.addAll(List.of("-rf", "json"));
+        if (!options.contains("-rff"))
+            options.addAll(List.of("-rff", DEFAULT_RESULT_FILE));
+        Main.main(options.toArray(String[]::new));
+    }
+}
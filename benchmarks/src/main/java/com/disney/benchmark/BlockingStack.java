@@ -0,0 +1,45 @@
+package com.disney.benchmark;
+
+import com.disney.DisneyApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the blocking application (Tomcat, JPA) in process from this module, where the reactive one is on the
+ * classpath too.
+ */
+public final class BlockingStack {
+
+    private BlockingStack() {
+    }
+
+    public static ConfigurableApplicationContext start(String... args) {
+        List<String> options = new ArrayList<>(List.of(
+                "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+                // the load generator is a single client, the limits would measure themselves
+                "--disney.ratelimit.enabled=false",
+                "--disney.concurrency.enabled=false",
+                "--management.server.port=0"));
+        options.addAll(List.of(args));
+        return new SpringApplicationBuilder(DisneyApplication.class)
+                .web(WebApplicationType.SERVLET)
+                // DisneyApplication scans com.disney, which would also pick up the reactive module
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("excludeReactiveModule", new ExcludeReactiveModule()))
+                .run(options.toArray(String[]::new));
+    }
+
+    static class ExcludeReactiveModule extends TypeExcludeFilter {
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getClassMetadata().getClassName().startsWith("com.disney.reactive.");
+        }
+    }
+}
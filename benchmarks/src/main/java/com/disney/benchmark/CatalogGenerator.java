@@ -0,0 +1,296 @@
+package com.disney.benchmark;
+
+import com.disney.model.entity.Movie;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeds a database with a synthetic catalog, large enough to reproduce locally what the API does on production data:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.disney.benchmark.CatalogGenerator \
+ *     --url=jdbc:h2:file:./target/catalog --genres=40 --movies=200000 --characters=1000000
+ * </pre>
+ * The schema is created the way the application's schema profile creates it (Hibernate, {@code ddl-auto=update}),
+ * the application itself only validates it. The rows are written with batched inserts, committed every
+ * {@code --batch-size} rows. Both sides of {@code rel_movie_character} follow a power law with exponent
+ * {@code --skew}: most movies have a small cast and most characters appear in one movie or none, while a few have a
+ * cast of {@code --max-cast} or appear in {@code --max-roles} movies. Genres are skewed the same way. The same
+ * {@code --seed} always produces the same catalog, IDs included.
+ * <p>
+ * The database must not hold a catalog yet, {@code --clean=true} deletes the existing rows first. Against MySQL
+ * ({@code --url=jdbc:mysql://localhost:3306/disneydb --username=root --password=root}) the batches are rewritten into
+ * multi-row inserts.
+ */
+public final class CatalogGenerator {
+    // titles and names are made of these, so the title and name filters match a realistic share of the rows
+    static final String[] WORDS = {"lion", "king", "frozen", "beauty", "beast", "little", "mermaid", "toy", "story",
+            "princess", "frog", "jungle", "book", "sleeping", "snow", "white", "aladdin", "tangled", "brave", "moana",
+            "coco", "incredible", "cars", "monsters", "nemo", "dragon", "castle", "ocean", "kingdom", "wish", "magic",
+            "island"};
+    private static final String[] GENRES = {"Animation", "Adventure", "Comedy", "Fantasy", "Musical", "Family",
+            "Drama", "Action", "Romance", "Documentary", "Science Fiction", "Mystery"};
+    private static final String HISTORY = "Born far from the castle, grew up dreaming of the sea and the stars. ";
+    private static final LocalDate FIRST_RELEASE = LocalDate.of(1937, 12, 21);
+    private static final int GENRE_IDS = 1;
+    private static final int MOVIE_IDS = 2;
+    private static final int CHARACTER_IDS = 3;
+
+    private final Connection connection;
+    private final Settings settings;
+    // Hibernate maps UUID to binary(16) on MySQL and MariaDB and to a native uuid column elsewhere
+    private final boolean binaryIds;
+
+    public record Settings(int genres, int movies, int characters, int maxCast, int maxRoles, double skew,
+                           int batchSize, long seed) {
+    }
+
+    public record Summary(long genres, long movies, long characters, long roles, Duration elapsed) {
+    }
+
+    private CatalogGenerator(Connection connection, Settings settings) throws SQLException {
+        this.connection = connection;
+        this.settings = settings;
+        String database = connection.getMetaData().getDatabaseProductName();
+        this.binaryIds = database.contains("MySQL") || database.contains("MariaDB");
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Arguments arguments = Arguments.parse(args);
+        String url = arguments.get("url", "jdbc:h2:file:./target/catalog");
+        // without it Connector/J sends a batch as one statement per row
+        if (url.startsWith("jdbc:mysql:") && !url.contains("rewriteBatchedStatements"))
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        DataSource dataSource = new DriverManagerDataSource(url, arguments.get("username", "sa"),
+                arguments.get("password", ""));
+        Settings settings = new Settings(
+                arguments.getInt("genres", 40),
+                arguments.getInt("movies", 200_000),
+                arguments.getInt("characters", 1_000_000),
+                arguments.getInt("max-cast", 40),
+                arguments.getInt("max-roles", 250),
+                arguments.getDouble("skew", 1.0),
+                arguments.getInt("batch-size", 1_000),
+                arguments.getLong("seed", 42));
+
+        createSchema(dataSource);
+        if (arguments.getBoolean("clean", false))
+            clean(dataSource);
+        Summary summary = generate(dataSource, settings);
+        System.out.printf("%d genres, %d movies, %d characters and %d roles written to %s in %ds%n",
+                summary.genres(), summary.movies(), summary.characters(), summary.roles(), url,
+                summary.elapsed().toSeconds());
+    }
+
+    // the same naming strategies Spring Boot configures, so the tables match the ones the application creates
+    public static void createSchema(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(Movie.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "update",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factory.afterPropertiesSet();
+        try (EntityManagerFactory entityManagerFactory = factory.getObject()) {
+            // building the factory is what updates the schema
+        }
+    }
+
+    public static void clean(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String table : new String[]{"rel_movie_character", "movies", "characters", "genres"})
+                statement.executeUpdate("DELETE FROM " + table);
+        }
+    }
+
+    public static Summary generate(DataSource dataSource, Settings settings) throws SQLException {
+        if ((long) settings.characters() * settings.maxRoles() < settings.movies())
+            throw new IllegalArgumentException("%d characters with at most %d roles each can't cast %d movies"
+                    .formatted(settings.characters(), settings.maxRoles(), settings.movies()));
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CatalogGenerator generator = new CatalogGenerator(connection, settings);
+            long genres = generator.insertGenres();
+            long characters = generator.insertCharacters();
+            long movies = generator.insertMovies();
+            long roles = generator.insertRoles();
+            return new Summary(genres, movies, characters, roles, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private long insertGenres() throws SQLException {
+        try (Batch batch = new Batch("genres", "INSERT INTO genres (id, name) VALUES (?, ?)")) {
+            for (int row = 0; row < settings.genres(); row++) {
+                String name = row < GENRES.length ? GENRES[row] : "%s %d".formatted(GENRES[row % GENRES.length], row);
+                bindId(batch.statement, 1, id(GENRE_IDS, row));
+                batch.statement.setString(2, name);
+                batch.add();
+            }
+            return batch.rows;
+        }
+    }
+
+    private long insertCharacters() throws SQLException {
+        SplittableRandom random = new SplittableRandom(settings.seed() + CHARACTER_IDS);
+        try (Batch batch = new Batch("characters", "INSERT INTO characters "
+                + "(id, image, name, age, weight, history, deleted) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int row = 0; row < settings.characters(); row++) {
+                bindId(batch.statement, 1, id(CHARACTER_IDS, row));
+                batch.statement.setString(2, "character-%d.png".formatted(row));
+                batch.statement.setString(3, "%s %d".formatted(capitalized(word(random)), row + 1));
+                batch.statement.setInt(4, 1 + random.nextInt(100));
+                batch.statement.setDouble(5, 1 + random.nextInt(20_000) / 100.0);
+                batch.statement.setString(6, HISTORY.repeat(1 + random.nextInt(3)).trim());
+                batch.statement.setBoolean(7, false);
+                batch.add();
+            }
+            return batch.rows;
+        }
+    }
+
+    private long insertMovies() throws SQLException {
+        SplittableRandom random = new SplittableRandom(settings.seed() + MOVIE_IDS);
+        Zipf genres = new Zipf(settings.genres(), settings.skew());
+        int releaseDays = (int) (LocalDate.of(2024, 1, 1).toEpochDay() - FIRST_RELEASE.toEpochDay());
+        try (Batch batch = new Batch("movies", "INSERT INTO movies "
+                + "(id, image, title, creation_date, rate, genre_id, deleted) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int row = 0; row < settings.movies(); row++) {
+                bindId(batch.statement, 1, id(MOVIE_IDS, row));
+                batch.statement.setString(2, "movie-%d.jpg".formatted(row));
+                batch.statement.setString(3, "%s %s %d".formatted(capitalized(word(random)),
+                        capitalized(word(random)), row + 1));
+                batch.statement.setObject(4, FIRST_RELEASE.plusDays(random.nextInt(releaseDays)));
+                batch.statement.setInt(5, 1 + random.nextInt(5));
+                bindId(batch.statement, 6, id(GENRE_IDS, genres.sample(random)));
+                batch.statement.setBoolean(7, false);
+                batch.add();
+            }
+            return batch.rows;
+        }
+    }
+
+    // the characters are drawn by popularity, skipping the ones that already have the maximum number of roles
+    private long insertRoles() throws SQLException {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        Zipf castSizes = new Zipf(settings.maxCast(), settings.skew());
+        Zipf popularity = new Zipf(settings.characters(), settings.skew());
+        int[] roles = new int[settings.characters()];
+        int[] cast = new int[settings.maxCast()];
+        try (Batch batch = new Batch("roles",
+                "INSERT INTO rel_movie_character (movie_id, character_id) VALUES (?, ?)")) {
+            for (int movie = 0; movie < settings.movies(); movie++) {
+                int castSize = Math.min(castSizes.sample(random) + 1, settings.characters());
+                int castCount = 0;
+                for (int attempt = 0; castCount < castSize && attempt < castSize * 50; attempt++) {
+                    int character = popularity.sample(random);
+                    if (roles[character] >= settings.maxRoles() || contains(cast, castCount, character))
+                        continue;
+                    cast[castCount++] = character;
+                    roles[character]++;
+                    bindId(batch.statement, 1, id(MOVIE_IDS, movie));
+                    bindId(batch.statement, 2, id(CHARACTER_IDS, character));
+                    batch.add();
+                }
+            }
+            return batch.rows;
+        }
+    }
+
+    // version 4 UUIDs derived from the seed, the table and the row, so no table has to keep its IDs in memory
+    private UUID id(int table, long row) {
+        long base = mix(settings.seed() * 31 + table) + row * 0x9E3779B97F4A7C15L;
+        long mostSignificant = (mix(base) & ~0xF000L) | 0x4000L;
+        long leastSignificant = (mix(base ^ 0x5DEECE66DL) & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private void bindId(PreparedStatement statement, int index, UUID id) throws SQLException {
+        if (!binaryIds) {
+            statement.setObject(index, id);
+            return;
+        }
+        statement.setBytes(index, ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++)
+            if (values[i] == value)
+                return true;
+        return false;
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String capitalized(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    // one prepared statement, executed and committed every batch-size rows
+    private final class Batch implements AutoCloseable {
+        private final String table;
+        private final PreparedStatement statement;
+        private final long start = System.nanoTime();
+        private int pending;
+        private long rows;
+
+        private Batch(String table, String sql) throws SQLException {
+            this.table = table;
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            rows++;
+            if (++pending == settings.batchSize())
+                flush();
+        }
+
+        private void flush() throws SQLException {
+            if (pending > 0)
+                statement.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("%-10s %,12d rows %,12.0f rows/s%n", table, rows, rows / seconds);
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.disney.benchmark;
+
+import com.disney.model.dto.request.MovieRequestDto;
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.basic.CharacterBasicResponseDto;
+import com.disney.model.dto.response.basic.GenreBasicResponseDto;
+import com.disney.model.dto.response.basic.MovieBasicInfoResponseDto;
+import com.disney.model.dto.response.basic.MovieBasicResponseDto;
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.model.mapper.CharacterMapper;
+import com.disney.model.mapper.GenreMapper;
+import com.disney.model.mapper.MovieMapper;
+import com.disney.model.mapper.implementation.CharacterMapperImpl;
+import com.disney.model.mapper.implementation.GenreMapperImpl;
+import com.disney.model.mapper.implementation.MovieMapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.disney.util.ApiUtils.OF_PATTERN;
+
+/**
+ * Deterministic response data shaped like the real catalog: every movie has a genre and a handful of characters
+ * with a short history.
+ */
+public final class Fixtures {
+    private static final long SEED = 42;
+
+    private Fixtures() {
+    }
+
+    public static Page<MovieResponseDto> moviePage(int pageSize, int charactersPerMovie) {
+        Random random = new Random(SEED);
+        List<MovieResponseDto> movies = IntStream.range(0, pageSize)
+                .mapToObj(i -> movie(random, i, charactersPerMovie))
+                .toList();
+        return new PageImpl<>(movies, PageRequest.of(0, pageSize), pageSize * 25L);
+    }
+
+    // the same page as entities, the way the repository hands it to the service: like in a persistence context,
+    // movies of the page share genre and character instances
+    public static Page<Movie> movieEntityPage(int pageSize, int charactersPerMovie) {
+        Random random = new Random(SEED);
+        List<Genre> genres = IntStream.range(0, 12)
+                .mapToObj(i -> Genre.builder().id(uuidValue(random)).name("Genre %d".formatted(i)).build())
+                .toList();
+        List<Character> cast = IntStream.range(0, Math.max(charactersPerMovie, pageSize * charactersPerMovie / 2))
+                .mapToObj(i -> Character.builder()
+                        .id(uuidValue(random))
+                        .image("character-%d.png".formatted(i))
+                        .name("Character %d".formatted(i))
+                        .age(5 + random.nextInt(80))
+                        .weight(20 + random.nextInt(8000) / 100.0)
+                        .history("A short history for character %d.".formatted(i))
+                        .build())
+                .toList();
+        List<Movie> movies = IntStream.range(0, pageSize)
+                .mapToObj(i -> Movie.builder()
+                        .id(uuidValue(random))
+                        .image("movie-%d.jpg".formatted(i))
+                        .title("Movie title %d".formatted(i))
+                        .creationDate(LocalDate.of(1937, 12, 21).plusDays(random.nextInt(30_000)))
+                        .rate(1 + random.nextInt(5))
+                        .genre(genres.get(random.nextInt(genres.size())))
+                        .characters(random.ints(0, cast.size()).distinct().limit(charactersPerMovie)
+                                .mapToObj(cast::get).collect(Collectors.toSet()))
+                        .build())
+                .toList();
+        movies.forEach(movie -> movie.getCharacters().forEach(character -> character.getMovies().add(movie)));
+        return new PageImpl<>(movies, PageRequest.of(0, pageSize), pageSize * 25L);
+    }
+
+    // the characters cast in a page of movies, each linked back to the movies of the page it appears in
+    public static List<Character> castOf(Page<Movie> movies) {
+        return movies.getContent().stream()
+                .flatMap(movie -> movie.getCharacters().stream())
+                .distinct()
+                .toList();
+    }
+
+    // wired like the application context, including the lazy reference the genre and character mappers hold
+    public static Mappers mappers() {
+        LazyMovieMapper lazyMovieMapper = new LazyMovieMapper();
+        GenreMapper genreMapper = new GenreMapperImpl(lazyMovieMapper);
+        CharacterMapper characterMapper = new CharacterMapperImpl(lazyMovieMapper);
+        lazyMovieMapper.target = new MovieMapperImpl(genreMapper, characterMapper);
+        return new Mappers(lazyMovieMapper.target, characterMapper, genreMapper);
+    }
+
+    public record Mappers(MovieMapper movie, CharacterMapper character, GenreMapper genre) {
+    }
+
+    private static MovieResponseDto movie(Random random, int index, int charactersPerMovie) {
+        List<CharacterBasicResponseDto> characters = IntStream.range(0, charactersPerMovie)
+                .mapToObj(i -> new CharacterBasicResponseDto(uuid(random), "character-%d-%d.png".formatted(index, i),
+                        "Character %d of movie %d".formatted(i, index), 5 + random.nextInt(80),
+                        20 + random.nextInt(8000) / 100.0, "A short history for character %d.".formatted(i)))
+                .toList();
+        return new MovieResponseDto(uuid(random), "movie-%d.jpg".formatted(index), "Movie title %d".formatted(index),
+                LocalDate.of(1937, 12, 21).plusDays(random.nextInt(30_000)).format(OF_PATTERN), 1 + random.nextInt(5),
+                new GenreBasicResponseDto(uuid(random), "Genre %d".formatted(random.nextInt(12))), characters);
+    }
+
+    // stands in for the proxy Spring injects for @Lazy
+    private static final class LazyMovieMapper implements MovieMapper {
+        private MovieMapper target;
+
+        @Override
+        public Movie toEntity(MovieRequestDto dto) {
+            return target.toEntity(dto);
+        }
+
+        @Override
+        public MovieResponseDto toDTO(Movie entity) {
+            return target.toDTO(entity);
+        }
+
+        @Override
+        public MovieBasicResponseDto toBasicDTO(Movie entity) {
+            return target.toBasicDTO(entity);
+        }
+
+        @Override
+        public MovieBasicInfoResponseDto toBasicInfoDTO(Movie entity) {
+            return target.toBasicInfoDTO(entity);
+        }
+    }
+
+    private static String uuid(Random random) {
+        return uuidValue(random).toString();
+    }
+
+    private static UUID uuidValue(Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,199 @@
+package com.disney.benchmark;
+
+import com.disney.config.metrics.RequestStatistics;
+import com.disney.config.metrics.ServiceTimingAspect;
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.repository.GenreRepository;
+import com.disney.service.GenreService;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ExistenceProperties;
+import com.disney.service.cache.ResponseCache;
+import com.disney.service.cache.ResponseCacheProperties;
+import com.disney.service.implement.GenreServiceImpl;
+import com.disney.service.loader.BatchLoader;
+import com.disney.service.loader.LoaderProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * What the metrics cost on the hot path, with {@code instrumentation} off and on: {@code serviceCall} is a service
+ * method doing almost nothing, so it shows the timing aspect and the request counters alone, {@code loadMovie} is an
+ * entity load from H2 with the Hibernate statistics, the statement inspector and the interceptor switched on.
+ * Every meter records into a Prometheus registry with percentile histograms, as in the application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+// Hibernate's load path takes about ten seconds to settle
+@Warmup(iterations = 6, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationOverheadBenchmark {
+    private static final int MOVIES = 64;
+
+    @Param({"off", "on"})
+    private String instrumentation;
+
+    private boolean instrumented;
+    private PrometheusMeterRegistry meterRegistry;
+    private RequestStatistics statistics;
+    private DistributionSummary statements;
+    private DistributionSummary entityLoads;
+    private BatchLoader<UUID, GenreResponseDto> genreLoader;
+    private ResponseCache<UUID, GenreResponseDto> genreCache;
+    private GenreService genreService;
+    private String genreId;
+    private HikariDataSource pool;
+    private EntityManagerFactory entityManagerFactory;
+    private List<UUID> movieIds;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        instrumented = instrumentation.equals("on");
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        });
+        statistics = new RequestStatistics();
+        statements = DistributionSummary.builder("disney.request.statements")
+                .tag("method", "GET").tag("uri", "/benchmark").register(meterRegistry);
+        entityLoads = DistributionSummary.builder("disney.request.entity.loads")
+                .tag("method", "GET").tag("uri", "/benchmark").register(meterRegistry);
+
+        // the loader and the cache are off, the genre comes straight out of the batch function
+        UUID id = UUID.randomUUID();
+        GenreResponseDto genre = GenreResponseDto.builder().id(id.toString()).name("drama").movies(List.of()).build();
+        genreId = id.toString();
+        genreLoader = new BatchLoader<>("genres", keys -> keys.stream()
+                .collect(Collectors.toMap(Function.identity(), key -> genre)),
+                new LoaderProperties(false, Duration.ZERO, 1, 1, Duration.ofSeconds(5)), meterRegistry);
+        genreCache = new ResponseCache<>("genres", new ResponseCacheProperties(false, Duration.ZERO, Duration.ZERO,
+                1.0, 0, 1), new EntityGenerations(), Genre.class, List.of(Genre.class), value -> List.of(),
+                genreLoader::load, () -> false, hit -> {}, meterRegistry);
+        GenreService target = new GenreServiceImpl(unused(GenreRepository.class), Fixtures.mappers().genre(),
+                genreCache, new ExistenceFilter<>("genres", Genre.class, Genre::getId, Stream::empty,
+                        () -> 0, TransactionOperations.withoutTransaction(),
+                        new ExistenceProperties(false, 0.01, 0, Duration.ZERO), meterRegistry));
+        if (instrumented) {
+            AspectJProxyFactory factory = new AspectJProxyFactory(target);
+            factory.addAspect(new ServiceTimingAspect(meterRegistry));
+            genreService = factory.getProxy();
+        } else {
+            genreService = target;
+        }
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:instrumentation-overhead;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        CatalogGenerator.createSchema(dataSource);
+        // one role per character, so a load is the movie and its own cast, not the connected graph
+        CatalogGenerator.generate(dataSource, new CatalogGenerator.Settings(10, 1000, 4000, 4, 1, 1.0, 1000, 42));
+        // pooled like the application, a new H2 connection per load would be most of the time
+        pool = new HikariDataSource();
+        pool.setDataSource(dataSource);
+        entityManagerFactory = entityManagerFactory(pool);
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            movieIds = entityManager.createQuery("SELECT m.id FROM Movie m", UUID.class)
+                    .setMaxResults(MOVIES).getResultList();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+        pool.close();
+        genreCache.close();
+        genreLoader.close();
+        meterRegistry.close();
+    }
+
+    @Benchmark
+    public GenreResponseDto serviceCall() {
+        if (!instrumented)
+            return genreService.getGenreById(genreId);
+        statistics.begin();
+        try {
+            return genreService.getGenreById(genreId);
+        } finally {
+            record(statistics.end());
+        }
+    }
+
+    @Benchmark
+    public Movie loadMovie() {
+        UUID id = movieIds.get(next++ & (MOVIES - 1));
+        if (instrumented)
+            statistics.begin();
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return entityManager.find(Movie.class, id);
+        } finally {
+            if (instrumented)
+                record(statistics.end());
+        }
+    }
+
+    private void record(RequestStatistics.Counts counts) {
+        statements.record(counts.statements());
+        entityLoads.record(counts.entityLoads());
+    }
+
+    private EntityManagerFactory entityManagerFactory(DataSource dataSource) {
+        Map<String, Object> properties = new HashMap<>(Map.of(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName()));
+        if (instrumented) {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, statistics);
+            properties.put(AvailableSettings.INTERCEPTOR, statistics);
+        }
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(Movie.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    // getGenreById(String) goes through the loader only, the repository is never called
+    private static <T> T unused(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+}
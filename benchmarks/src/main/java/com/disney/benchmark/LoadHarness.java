@@ -0,0 +1,523 @@
+package com.disney.benchmark;
+
+import com.disney.model.dto.request.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+import static com.disney.util.ApiUtils.*;
+
+/**
+ * Drives every endpoint of the running API with a weighted mix of requests from a fixed number of concurrent clients,
+ * then reports the throughput and the latency percentiles (HdrHistogram) of each operation:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.disney.benchmark.LoadHarness \
+ *     --base-url=http://localhost:8080 --concurrency=64 --warmup=15s --duration=60s
+ * </pre>
+ * Without {@code --base-url} the application is started in this process against {@code --jdbc-url} (by default the
+ * H2 file {@link CatalogGenerator} writes), which is enough to compare two commits but shares the CPU with the
+ * clients.
+ * <p>
+ * Before the run the harness samples {@code --sample-pages} pages of every list to learn the IDs of the catalog.
+ * Reads then favour a few popular IDs and the first pages ({@code --skew}), updates touch the same IDs, and deletes
+ * only take IDs that are never read. {@code --mix=movies.get:70,movies.list:30} replaces the default mix; see
+ * {@link Operation} for the names. With {@code --rate} the clients send at that total rate and the latency is
+ * measured from when a request was due, so a stalled server shows up in the percentiles instead of lowering the rate
+ * (coordinated omission). {@code --hgrm=total.hgrm} writes the full latency distribution of the run.
+ * <p>
+ * {@code --seed} fixes the sampled pages and, client by client, the operations picked and the IDs they use, so two
+ * runs send the same sequence of requests; only how far each client gets in the time given varies.
+ */
+public final class LoadHarness {
+    private static final int MAX_FILTERED_PAGE = 3;
+
+    private final Settings settings;
+    private final Mix mix;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    // one generator split off per client and phase, in order, so each client's sequence depends on the seed only
+    private final SplittableRandom seeds;
+    private Catalog movies;
+    private Catalog characters;
+    private Catalog genres;
+
+    public enum Operation {
+        MOVIES_GET("movies.get", 24, LoadHarness::getMovie),
+        MOVIES_LIST("movies.list", 18, LoadHarness::listMovies),
+        MOVIES_CREATE("movies.create", 2, LoadHarness::createMovie),
+        MOVIES_UPDATE("movies.update", 2, LoadHarness::updateMovie),
+        MOVIES_DELETE("movies.delete", 1, LoadHarness::deleteMovie),
+        CHARACTERS_GET("characters.get", 20, LoadHarness::getCharacter),
+        CHARACTERS_LIST("characters.list", 14, LoadHarness::listCharacters),
+        CHARACTERS_CREATE("characters.create", 2, LoadHarness::createCharacter),
+        CHARACTERS_UPDATE("characters.update", 2, LoadHarness::updateCharacter),
+        CHARACTERS_DELETE("characters.delete", 1, LoadHarness::deleteCharacter),
+        GENRES_GET("genres.get", 6, LoadHarness::getGenre),
+        GENRES_LIST("genres.list", 6, LoadHarness::listGenres),
+        GENRES_CREATE("genres.create", 1, LoadHarness::createGenre),
+        GENRES_UPDATE("genres.update", 1, LoadHarness::updateGenre);
+
+        private final String key;
+        private final int defaultWeight;
+        private final RequestFactory requestFactory;
+
+        Operation(String key, int defaultWeight, RequestFactory requestFactory) {
+            this.key = key;
+            this.defaultWeight = defaultWeight;
+            this.requestFactory = requestFactory;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        static Operation of(String key) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation '%s', expected one of %s"
+                            .formatted(key, Arrays.stream(values()).map(Operation::key).toList())));
+        }
+    }
+
+    // builds the next request of an operation, or null when there is nothing left to do (no more IDs to delete)
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest.Builder create(LoadHarness harness, RandomGenerator random) throws IOException;
+    }
+
+    // the weights of the operations, picked in proportion to them
+    public static final class Mix {
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        // operations weighing 0 are left out, they would share a cumulative weight with the one before them
+        private Mix(Map<Operation, Integer> weights) {
+            weights.values().removeIf(weight -> weight <= 0);
+            this.operations = weights.keySet().toArray(Operation[]::new);
+            this.cumulativeWeights = new int[operations.length];
+            int sum = 0;
+            for (int i = 0; i < operations.length; i++) {
+                sum += weights.get(operations[i]);
+                cumulativeWeights[i] = sum;
+            }
+            if (sum <= 0)
+                throw new IllegalArgumentException("The mix needs at least one operation with a positive weight");
+        }
+
+        public static Mix defaults() {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            Arrays.stream(Operation.values()).forEach(operation -> weights.put(operation, operation.defaultWeight));
+            return new Mix(weights);
+        }
+
+        // movies.get:70,movies.list:30
+        public static Mix parse(String value) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : value.split(",")) {
+                String[] parts = entry.trim().split(":");
+                if (parts.length != 2)
+                    throw new IllegalArgumentException("Expected operation:weight but got '%s'".formatted(entry));
+                weights.put(Operation.of(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+            return new Mix(weights);
+        }
+
+        public Set<Operation> operations() {
+            return EnumSet.copyOf(List.of(operations));
+        }
+
+        Operation pick(RandomGenerator random) {
+            int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int index = Arrays.binarySearch(cumulativeWeights, ticket + 1);
+            return operations[index >= 0 ? index : -index - 1];
+        }
+    }
+
+    public record Settings(int concurrency, Duration warmup, Duration duration, double rate, int samplePages,
+                           double skew, Duration timeout, long seed) {
+    }
+
+    // latencies in microseconds
+    public record OperationResult(String operation, long requests, long errors, double throughput,
+                                  Histogram latencies) {
+    }
+
+    // failures counts the responses by status, -1 for the requests that got no response at all
+    public record Report(List<OperationResult> operations, OperationResult total, Map<Integer, Long> failures,
+                         long skipped) {
+    }
+
+    private LoadHarness(String baseUrl, Settings settings, Mix mix) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.mix = mix;
+        this.seeds = new SplittableRandom(settings.seed());
+        // Tomcat serves plain HTTP/1.1, the upgrade attempt would only add a round of headers to every connection
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.timeout())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Arguments arguments = Arguments.parse(args);
+        Settings settings = new Settings(
+                arguments.getInt("concurrency", 64),
+                arguments.getDuration("warmup", Duration.ofSeconds(15)),
+                arguments.getDuration("duration", Duration.ofSeconds(60)),
+                arguments.getDouble("rate", 0),
+                arguments.getInt("sample-pages", 50),
+                arguments.getDouble("skew", 1.0),
+                arguments.getDuration("timeout", Duration.ofSeconds(30)),
+                arguments.getLong("seed", 42));
+        Mix mix = arguments.has("mix") ? Mix.parse(arguments.get("mix", "")) : Mix.defaults();
+
+        Report report;
+        if (arguments.has("base-url")) {
+            report = run(arguments.get("base-url", ""), settings, mix);
+        } else {
+            try (ConfigurableApplicationContext context = BlockingStack.start("--server.port=0",
+                    "--spring.datasource.url=%s".formatted(arguments.get("jdbc-url", "jdbc:h2:file:./target/catalog")),
+                    "--spring.datasource.username=%s".formatted(arguments.get("username", "sa")),
+                    "--spring.datasource.password=%s".formatted(arguments.get("password", "")),
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN")) {
+                report = run("http://localhost:%s".formatted(context.getEnvironment()
+                        .getProperty("local.server.port")), settings, mix);
+            }
+        }
+        print(report, System.out);
+        if (arguments.has("hgrm")) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(Path.of(arguments.get("hgrm", ""))))) {
+                // the histogram is in microseconds, the file in milliseconds
+                report.total().latencies().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    public static Report run(String baseUrl, Settings settings, Mix mix) throws IOException, InterruptedException {
+        LoadHarness harness = new LoadHarness(baseUrl, settings, mix);
+        harness.discover();
+        if (!settings.warmup().isZero()) {
+            System.out.printf("warming up for %ds%n", settings.warmup().toSeconds());
+            harness.drive(settings.warmup());
+        }
+        System.out.printf("running %d clients for %ds%n", settings.concurrency(), settings.duration().toSeconds());
+        return harness.drive(settings.duration());
+    }
+
+    public static void print(Report report, PrintStream out) {
+        out.printf("%n%-18s %9s %7s %9s %9s %9s %9s %9s %9s%n", "operation", "requests", "errors", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        report.operations().forEach(result -> printRow(result, out));
+        printRow(report.total(), out);
+        if (!report.failures().isEmpty())
+            out.printf("failures by status: %s%n", report.failures());
+        if (report.skipped() > 0)
+            out.printf("%d deletes skipped, every sampled ID was already deleted%n", report.skipped());
+    }
+
+    private static void printRow(OperationResult result, PrintStream out) {
+        Histogram latencies = result.latencies();
+        out.printf("%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", result.operation(), result.requests(),
+                result.errors(), result.throughput(), latencies.getValueAtPercentile(50) / 1000.0,
+                latencies.getValueAtPercentile(90) / 1000.0, latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getValueAtPercentile(99.9) / 1000.0, latencies.getMaxValue() / 1000.0);
+    }
+
+    private void discover() throws IOException, InterruptedException {
+        Random random = new Random(settings.seed());
+        movies = sample(MOVIE_BASE_URL, random);
+        characters = sample(CHARACTER_BASE_URL, random);
+        genres = sample(GENRE_BASE_URL, random);
+        if (movies.isEmpty() || characters.isEmpty() || genres.isEmpty())
+            throw new IllegalStateException("%s has no movies, characters or genres to load test, seed it with %s"
+                    .formatted(baseUrl, CatalogGenerator.class.getSimpleName()));
+    }
+
+    private Catalog sample(String path, Random random) throws IOException, InterruptedException {
+        System.out.printf("sampling %s%n", path);
+        JsonNode first = getJson("%s%s?page=0".formatted(baseUrl, path));
+        long total = first.path("total").asLong(first.path("items").size());
+        int pages = (int) Math.max(1, (total + ELEMENTS_PER_PAGE - 1) / ELEMENTS_PER_PAGE);
+        // pages of an unordered list may overlap, an ID must not be deleted twice
+        Set<String> ids = new LinkedHashSet<>();
+        first.path("items").forEach(item -> ids.add(item.path("id").asText()));
+        for (int page : random.ints(1, Math.max(2, pages)).distinct().limit(Math.min(settings.samplePages(), pages - 1))
+                .toArray())
+            getJson("%s%s?page=%d".formatted(baseUrl, path, page)).path("items")
+                    .forEach(item -> ids.add(item.path("id").asText()));
+        List<String> shuffled = new ArrayList<>(ids);
+        Collections.shuffle(shuffled, random);
+        return new Catalog(shuffled, pages, settings.skew());
+    }
+
+    private JsonNode getJson(String url) throws IOException, InterruptedException {
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request(url).timeout(settings.timeout()).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } catch (HttpTimeoutException e) {
+            throw new IllegalStateException("GET %s took longer than %ds, raise --timeout to sample this catalog"
+                    .formatted(url, settings.timeout().toSeconds()), e);
+        }
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("GET %s answered %d".formatted(url, response.statusCode()));
+        return objectMapper.readTree(response.body());
+    }
+
+    private Report drive(Duration duration) throws InterruptedException {
+        Phase phase = new Phase(mix.operations());
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        // the interval between two requests of the same client when a rate is set
+        long interval = settings.rate() > 0 ? (long) (settings.concurrency() * 1e9 / settings.rate()) : 0;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < settings.concurrency(); client++) {
+                long firstRequest = start + client * interval / settings.concurrency();
+                RandomGenerator random = seeds.split();
+                clients.submit(() -> drive(phase, random, firstRequest, interval, deadline));
+            }
+        }
+        return phase.report(System.nanoTime() - start);
+    }
+
+    private void drive(Phase phase, RandomGenerator random, long firstRequest, long interval, long deadline) {
+        long due = firstRequest;
+        while (true) {
+            if (interval > 0) {
+                long wait = due - System.nanoTime();
+                if (wait > 0)
+                    LockSupport.parkNanos(wait);
+            } else {
+                due = System.nanoTime();
+            }
+            if (due >= deadline)
+                return;
+            Operation operation = mix.pick(random);
+            phase.record(operation, send(operation, random), System.nanoTime() - due);
+            due += interval;
+        }
+    }
+
+    // the status of the response, 0 when there was nothing to send and -1 when no response came back
+    private int send(Operation operation, RandomGenerator random) {
+        try {
+            HttpRequest.Builder request = operation.requestFactory.create(this, random);
+            if (Objects.isNull(request))
+                return 0;
+            return httpClient.send(request.timeout(settings.timeout()).build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private HttpRequest.Builder getMovie(RandomGenerator random) {
+        return request("%s%s/%s".formatted(baseUrl, MOVIE_BASE_URL, movies.popular(random))).GET();
+    }
+
+    private HttpRequest.Builder listMovies(RandomGenerator random) {
+        String order = random.nextBoolean() ? "ASC" : "DESC";
+        if (random.nextInt(10) < 3)
+            return request("%s%s?page=%d&title=%s&order=%s".formatted(baseUrl, MOVIE_BASE_URL,
+                    random.nextInt(MAX_FILTERED_PAGE), word(random), order)).GET();
+        return request("%s%s?page=%d&order=%s".formatted(baseUrl, MOVIE_BASE_URL, movies.page(random), order)).GET();
+    }
+
+    private HttpRequest.Builder createMovie(RandomGenerator random) throws IOException {
+        return json(MOVIE_BASE_URL, "POST", MovieRequestDto.builder()
+                .image("movie-load.jpg")
+                .title("Load %s %d".formatted(word(random), random.nextInt(1_000_000)))
+                .creationDate("2001/01/%02d".formatted(1 + random.nextInt(28)))
+                .rate(1 + random.nextInt(5))
+                .genreId(genres.popular(random))
+                .charactersId(Set.of(characters.popular(random)))
+                .build());
+    }
+
+    private HttpRequest.Builder updateMovie(RandomGenerator random) throws IOException {
+        return json("%s/%s".formatted(MOVIE_BASE_URL, movies.popular(random)), "PATCH",
+                MovieUpdateRequestDto.builder().rate(1 + random.nextInt(5)).build());
+    }
+
+    private HttpRequest.Builder deleteMovie(RandomGenerator random) {
+        return delete(MOVIE_BASE_URL, movies.disposable());
+    }
+
+    private HttpRequest.Builder getCharacter(RandomGenerator random) {
+        return request("%s%s/%s".formatted(baseUrl, CHARACTER_BASE_URL, characters.popular(random))).GET();
+    }
+
+    private HttpRequest.Builder listCharacters(RandomGenerator random) {
+        int filter = random.nextInt(10);
+        if (filter < 2)
+            return request("%s%s?page=%d&name=%s".formatted(baseUrl, CHARACTER_BASE_URL,
+                    random.nextInt(MAX_FILTERED_PAGE), word(random))).GET();
+        if (filter < 3)
+            return request("%s%s?page=%d&age=%d".formatted(baseUrl, CHARACTER_BASE_URL,
+                    random.nextInt(MAX_FILTERED_PAGE), 1 + random.nextInt(100))).GET();
+        return request("%s%s?page=%d".formatted(baseUrl, CHARACTER_BASE_URL, characters.page(random))).GET();
+    }
+
+    private HttpRequest.Builder createCharacter(RandomGenerator random) throws IOException {
+        return json(CHARACTER_BASE_URL, "POST", CharacterRequestDto.builder()
+                .image("character-load.png")
+                .name("Load %s %d".formatted(word(random), random.nextInt(1_000_000)))
+                .age(1 + random.nextInt(100))
+                .weight(1 + random.nextInt(200))
+                .history("Created by the load harness.")
+                .moviesId(Set.of(movies.popular(random)))
+                .build());
+    }
+
+    private HttpRequest.Builder updateCharacter(RandomGenerator random) throws IOException {
+        return json("%s/%s".formatted(CHARACTER_BASE_URL, characters.popular(random)), "PATCH",
+                CharacterUpdateRequestDto.builder().age(1 + random.nextInt(100)).build());
+    }
+
+    private HttpRequest.Builder deleteCharacter(RandomGenerator random) {
+        return delete(CHARACTER_BASE_URL, characters.disposable());
+    }
+
+    private HttpRequest.Builder getGenre(RandomGenerator random) {
+        return request("%s%s/%s".formatted(baseUrl, GENRE_BASE_URL, genres.popular(random))).GET();
+    }
+
+    private HttpRequest.Builder listGenres(RandomGenerator random) {
+        return request("%s%s?page=%d".formatted(baseUrl, GENRE_BASE_URL, genres.page(random))).GET();
+    }
+
+    private HttpRequest.Builder createGenre(RandomGenerator random) throws IOException {
+        return json(GENRE_BASE_URL, "POST", GenreRequestDto.builder()
+                .name("Load %s %d".formatted(word(random), random.nextInt(1_000_000)))
+                .build());
+    }
+
+    private HttpRequest.Builder updateGenre(RandomGenerator random) throws IOException {
+        return json("%s/%s".formatted(GENRE_BASE_URL, genres.popular(random)), "PATCH",
+                GenreUpdateRequestDto.builder().name("Genre %d".formatted(random.nextInt(1_000_000))).build());
+    }
+
+    private HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).header("Accept", "application/json");
+    }
+
+    private HttpRequest.Builder json(String path, String method, Object body) throws IOException {
+        return request(baseUrl + path)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    private HttpRequest.Builder delete(String path, String id) {
+        return Objects.isNull(id) ? null : request("%s%s/%s".formatted(baseUrl, path, id)).DELETE();
+    }
+
+    private static String word(RandomGenerator random) {
+        return CatalogGenerator.WORDS[random.nextInt(CatalogGenerator.WORDS.length)];
+    }
+
+    // the sampled IDs of one list: most are read, the last tenth is kept apart for the deletes
+    private static final class Catalog {
+        private final List<String> readable;
+        private final Queue<String> disposable;
+        private final Zipf popularity;
+        private final Zipf pages;
+
+        private Catalog(List<String> ids, int pages, double skew) {
+            int reads = ids.size() < 10 ? ids.size() : ids.size() - ids.size() / 10;
+            this.readable = List.copyOf(ids.subList(0, reads));
+            this.disposable = new ConcurrentLinkedQueue<>(ids.subList(reads, ids.size()));
+            this.popularity = readable.isEmpty() ? null : new Zipf(readable.size(), skew);
+            this.pages = new Zipf(pages, skew);
+        }
+
+        private boolean isEmpty() {
+            return readable.isEmpty();
+        }
+
+        private String popular(RandomGenerator random) {
+            return readable.get(popularity.sample(random));
+        }
+
+        private int page(RandomGenerator random) {
+            return pages.sample(random);
+        }
+
+        private String disposable() {
+            return disposable.poll();
+        }
+    }
+
+    // what the clients recorded during one run of the mix
+    private static final class Phase {
+        private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        private final Map<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+        private final LongAdder skipped = new LongAdder();
+
+        private Phase(Set<Operation> operations) {
+            operations.forEach(operation -> {
+                latencies.put(operation, new Recorder(3));
+                errors.put(operation, new LongAdder());
+            });
+        }
+
+        private void record(Operation operation, int status, long nanos) {
+            if (status == 0) {
+                skipped.increment();
+                return;
+            }
+            latencies.get(operation).recordValue(Math.max(1, nanos / 1000));
+            if (status < 200 || status >= 300) {
+                errors.get(operation).increment();
+                failures.computeIfAbsent(status, key -> new LongAdder()).increment();
+            }
+        }
+
+        private Report report(long elapsedNanos) {
+            double seconds = elapsedNanos / 1e9;
+            Histogram all = new Histogram(3);
+            long allErrors = 0;
+            List<OperationResult> results = new ArrayList<>();
+            for (Map.Entry<Operation, Recorder> entry : latencies.entrySet()) {
+                Histogram histogram = entry.getValue().getIntervalHistogram();
+                long operationErrors = errors.get(entry.getKey()).sum();
+                results.add(new OperationResult(entry.getKey().key(), histogram.getTotalCount(), operationErrors,
+                        histogram.getTotalCount() / seconds, histogram));
+                all.add(histogram);
+                allErrors += operationErrors;
+            }
+            Map<Integer, Long> failuresByStatus = new TreeMap<>();
+            failures.forEach((status, count) -> failuresByStatus.put(status, count.sum()));
+            return new Report(results, new OperationResult("total", all.getTotalCount(), allErrors,
+                    all.getTotalCount() / seconds, all), failuresByStatus, skipped.sum());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.disney.benchmark;
+
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.basic.MovieBasicResponseDto;
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Movie;
+import com.disney.model.mapper.CharacterMapper;
+import com.disney.model.mapper.MovieMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a page of entities into response DTOs, as the list endpoints do for every request. Run it with
+ * {@code -prof gc} to get the bytes allocated per page next to the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private List<Movie> movies;
+    private List<Character> characters;
+    private MovieMapper movieMapper;
+    private CharacterMapper characterMapper;
+
+    @Setup
+    public void setUp() {
+        var page = Fixtures.movieEntityPage(pageSize, 6);
+        var mappers = Fixtures.mappers();
+        movies = page.getContent();
+        // as many characters as movies, so the scores compare page for page
+        characters = Fixtures.castOf(page).stream().limit(pageSize).toList();
+        movieMapper = mappers.movie();
+        characterMapper = mappers.character();
+    }
+
+    @Benchmark
+    public List<MovieResponseDto> mapPage() {
+        return movies.stream().map(movieMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<MovieBasicResponseDto> mapBasicPage() {
+        return movies.stream().map(movieMapper::toBasicDTO).toList();
+    }
+
+    @Benchmark
+    public List<CharacterResponseDto> mapCharacterPage() {
+        return characters.stream().map(characterMapper::toDTO).toList();
+    }
+}
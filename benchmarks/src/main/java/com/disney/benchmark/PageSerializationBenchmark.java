@@ -0,0 +1,106 @@
+package com.disney.benchmark;
+
+import com.disney.model.dto.response.PageEnvelope;
+import com.disney.model.entity.Movie;
+import com.disney.model.mapper.MovieMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a page of movie entities to a response stream, the way the list endpoints did it ({@code page}: map every
+ * row into a {@code PageImpl}, then let Jackson reflect over it) against the {@link PageEnvelope} they return now,
+ * which maps each row as it is written. The fixture rows have their associations loaded, as the services hand them
+ * over, so the mapping never touches the database.
+ * <p>
+ * {@code write} covers the whole response; run it with {@code -prof gc} to compare the allocation per request.
+ * {@code firstByte} stops as soon as the generator hands its first bytes to the stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+    @Param({"page", "envelope"})
+    private String shape;
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private Page<Movie> rows;
+    private MovieMapper movieMapper;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        rows = Fixtures.movieEntityPage(pageSize, 6);
+        movieMapper = Fixtures.mappers().movie();
+        writer = new ObjectMapper().writer();
+    }
+
+    @Benchmark
+    public void write(Blackhole blackhole) throws IOException {
+        writer.writeValue(new DiscardingStream(blackhole, false), response());
+    }
+
+    @Benchmark
+    public void firstByte(Blackhole blackhole) throws IOException {
+        try {
+            writer.writeValue(new DiscardingStream(blackhole, true), response());
+        } catch (FirstByteReached reached) {
+            // expected once the first chunk leaves the generator
+        }
+    }
+
+    private Object response() {
+        return switch (shape) {
+            case "page" -> rows.map(movieMapper::toDTO);
+            default -> PageEnvelope.of(rows, movieMapper::toDTO);
+        };
+    }
+
+    private static final class FirstByteReached extends IOException {
+        private static final FirstByteReached INSTANCE = new FirstByteReached();
+
+        private FirstByteReached() {
+            super(null, null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    // stands in for the servlet output stream: consumes the bytes, optionally stopping at the first write
+    private static final class DiscardingStream extends OutputStream {
+        private final Blackhole blackhole;
+        private final boolean stopAtFirstByte;
+
+        private DiscardingStream(Blackhole blackhole, boolean stopAtFirstByte) {
+            this.blackhole = blackhole;
+            this.stopAtFirstByte = stopAtFirstByte;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            blackhole.consume(b);
+            if (stopAtFirstByte)
+                throw FirstByteReached.INSTANCE;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            blackhole.consume(bytes);
+            if (stopAtFirstByte)
+                throw FirstByteReached.INSTANCE;
+        }
+    }
+}
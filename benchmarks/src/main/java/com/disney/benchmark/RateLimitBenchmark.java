@@ -0,0 +1,53 @@
+package com.disney.benchmark;
+
+import com.disney.config.ratelimit.RateLimitProperties;
+import com.disney.config.ratelimit.RateLimiter;
+import com.disney.config.ratelimit.RouteClass;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the rate limiter adds to every request, with every core taking tokens at once: {@code clients} is how many
+ * distinct clients the requests come from, one client has all threads contend for the same bucket. The limits are
+ * high enough that every request is let through, as for a well-behaved client. At 50k requests per second a
+ * request has 20 µs to spend in total.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    private int clients;
+
+    private RateLimiter rateLimiter;
+    private String[] clientKeys;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Limit unlimited = new RateLimitProperties.Limit(Integer.MAX_VALUE, 1e9);
+        rateLimiter = new RateLimiter(new RateLimitProperties(true, List.of("/api/**"), List.of("/api/v1/*"),
+                unlimited, unlimited, unlimited, Duration.ofMinutes(10), clients));
+        clientKeys = new String[clients];
+        for (int i = 0; i < clients; i++)
+            clientKeys[i] = "10.0.%d.%d".formatted(i / 256, i % 256);
+    }
+
+    @TearDown
+    public void tearDown() {
+        rateLimiter.close();
+    }
+
+    @Benchmark
+    public Duration acquire() {
+        return rateLimiter.acquire(clientKeys[ThreadLocalRandom.current().nextInt(clients)], RouteClass.BULK);
+    }
+}
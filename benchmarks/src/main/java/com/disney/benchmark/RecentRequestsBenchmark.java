@@ -0,0 +1,49 @@
+package com.disney.benchmark;
+
+import com.disney.config.requests.RecentRequest;
+import com.disney.config.requests.RecentRequests;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What recording a request costs every request thread when all cores serve at once: {@code off} only builds the
+ * entry, {@code single} writes every thread into one ring, {@code striped} is the application's setting of one ring
+ * per core. The difference between {@code single} and {@code striped} is the contention on the shared counter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class RecentRequestsBenchmark {
+    private static final int CAPACITY = 4096;
+
+    @Param({"off", "single", "striped"})
+    private String ring;
+
+    private RecentRequests recentRequests;
+
+    @Setup
+    public void setUp() {
+        recentRequests = switch (ring) {
+            case "single" -> new RecentRequests(CAPACITY, 1);
+            case "striped" -> new RecentRequests(CAPACITY, RecentRequests.defaultStripes());
+            default -> null;
+        };
+    }
+
+    @Benchmark
+    public void record(Blackhole blackhole) {
+        RecentRequest request = new RecentRequest(Instant.now(), "GET", "/api/v1/movies", "listMovies",
+                "/api/v1/movies", "title=Frozen", 200, 12.5, 3, 2048);
+        if (recentRequests == null)
+            blackhole.consume(request);
+        else
+            recentRequests.record(request);
+    }
+}
@@ -0,0 +1,104 @@
+package com.disney.benchmark;
+
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Movie;
+import com.disney.repository.specification.CharacterSpecification;
+import com.disney.repository.specification.MovieSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning the list filters into a criteria query through {@link MovieSpecification} and
+ * {@link CharacterSpecification}, against the Hibernate metamodel of the real entities (on an in-memory H2, no query
+ * is run). The genre and movies filters parse their IDs and go through the associations, the movies one with a join.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationBenchmark {
+    private final MovieSpecification movieSpec = new MovieSpecification();
+    private final CharacterSpecification characterSpec = new CharacterSpecification();
+    private EntityManagerFactory entityManagerFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    @State(Scope.Benchmark)
+    public static class MovieFilters {
+        @Param({"none", "title", "title-desc", "genre", "title-genre"})
+        private String filters;
+        private String title;
+        private String genre;
+        private String order;
+
+        @Setup
+        public void setUp() {
+            title = filters.startsWith("title") ? "lion" : null;
+            genre = filters.endsWith("genre") ? UUID.randomUUID().toString() : null;
+            order = filters.endsWith("desc") ? "DESC" : "ASC";
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CharacterFilters {
+        @Param({"none", "name-age", "movies", "name-age-movies"})
+        private String filters;
+        private String name;
+        private int age;
+        private Set<String> movies;
+
+        @Setup
+        public void setUp() {
+            name = filters.startsWith("name-age") ? "simba" : null;
+            age = filters.startsWith("name-age") ? 4 : 0;
+            movies = filters.endsWith("movies")
+                    ? Set.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString())
+                    : Set.of();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:specifications;DB_CLOSE_DELAY=-1");
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(Movie.class.getPackageName());
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+        criteriaBuilder = entityManagerFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<Movie> movieQuery(MovieFilters filters) {
+        CriteriaQuery<Movie> query = criteriaBuilder.createQuery(Movie.class);
+        Root<Movie> root = query.from(Movie.class);
+        return query.where(movieSpec.getByFilters(filters.title, filters.genre, filters.order)
+                .toPredicate(root, query, criteriaBuilder));
+    }
+
+    @Benchmark
+    public CriteriaQuery<Character> characterQuery(CharacterFilters filters) {
+        CriteriaQuery<Character> query = criteriaBuilder.createQuery(Character.class);
+        Root<Character> root = query.from(Character.class);
+        return query.where(characterSpec.getByFilters(filters.name, filters.age, filters.movies)
+                .toPredicate(root, query, criteriaBuilder));
+    }
+}
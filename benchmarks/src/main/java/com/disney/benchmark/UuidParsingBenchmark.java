@@ -0,0 +1,43 @@
+package com.disney.benchmark;
+
+import com.disney.model.InvalidUUIDFormatException;
+import com.disney.util.ApiUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ApiUtils#getUUIDFromString} on the IDs every by-ID endpoint parses, valid or not. An invalid ID costs the
+ * exception the handler turns into a 400.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidParsingBenchmark {
+    private final String valid = new UUID(0x6ba7b8109dad11d1L, 0x80b400c04fd430c8L).toString();
+
+    // its own state, so only parseInvalid runs once per input
+    @State(Scope.Benchmark)
+    public static class InvalidInput {
+        @Param({"not-an-uuid", "6ba7b810-9dad-11d1-80b4"})
+        private String value;
+    }
+
+    @Benchmark
+    public UUID parseValid() {
+        return ApiUtils.getUUIDFromString(valid);
+    }
+
+    @Benchmark
+    public Object parseInvalid(InvalidInput input) {
+        try {
+            return ApiUtils.getUUIDFromString(input.value);
+        } catch (InvalidUUIDFormatException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.disney.benchmark;
+
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.function.Function.identity;
+
+/**
+ * Encode and decode time of a movie page in every format the API negotiates. The encoded size of each page is
+ * printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+    @Param({"json", "smile", "cbor"})
+    private String format;
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private PageEnvelope<MovieResponseDto> page;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    // what a client keeps from the page
+    public record PageContent(List<MovieResponseDto> items, Long total) {
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case "smile" -> new SmileMapper();
+            case "cbor" -> new CBORMapper();
+            default -> new ObjectMapper();
+        };
+        page = PageEnvelope.of(Fixtures.moviePage(pageSize, 6), identity());
+        writer = mapper.writer();
+        reader = mapper.readerFor(PageContent.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        encoded = writer.writeValueAsBytes(page);
+        System.out.printf("%n%s page of %d movies: %d bytes%n", format, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageContent decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
@@ -0,0 +1,35 @@
+package com.disney.benchmark;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws ranks {@code 0..n-1} with a probability proportional to {@code 1 / (rank + 1)^exponent}: the skew of a real
+ * catalog, where a few genres hold most movies and a few entities get most of the reads.
+ */
+final class Zipf {
+    private final double[] cumulative;
+
+    Zipf(int size, double exponent) {
+        if (size < 1)
+            throw new IllegalArgumentException("A Zipf distribution needs at least one rank");
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++)
+            cumulative[rank] /= sum;
+    }
+
+    int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        // rounding may leave the last cumulative value a hair below 1
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,91 @@
+package com.disney.benchmark;
+
+import com.disney.benchmark.BenchmarkComparison.Change;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.disney.benchmark.BenchmarkComparison.DEFAULT_THRESHOLD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+public class BenchmarkComparisonTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode run(String mode, double score, double error, Double allocation) throws Exception {
+        String secondary = Objects.isNull(allocation) ? "{}" : """
+                {"gc.alloc.rate.norm": {"score": %s, "scoreError": 1.0, "scoreUnit": "B/op"}}""".formatted(allocation);
+        return objectMapper.readTree("""
+                [{"benchmark": "com.disney.benchmark.MapperBenchmark.mapPage", "mode": "%s",
+                  "params": {"pageSize": "10"},
+                  "primaryMetric": {"score": %s, "scoreError": %s, "scoreUnit": "ns/op"},
+                  "secondaryMetrics": %s}]""".formatted(mode, score, error, secondary));
+    }
+
+    @DisplayName(value = "JUnit Test for flag a benchmark that got slower beyond the threshold and the error margin")
+    @Test
+    public void givenSlowerCandidate_whenCompare_thenScoreRegressed() throws Exception {
+        // given
+        JsonNode baseline = run("avgt", 100, 2, null);
+        JsonNode candidate = run("avgt", 130, 2, null);
+
+        // when
+        List<Change> changes = BenchmarkComparison.compare(baseline, candidate);
+
+        // then
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.benchmark()).isEqualTo("MapperBenchmark.mapPage{pageSize=10}");
+            assertThat(change.regression()).isCloseTo(0.30, offset(1e-9));
+            assertThat(change.regressed(DEFAULT_THRESHOLD)).isTrue();
+        });
+    }
+
+    @DisplayName(value = "JUnit Test for ignore a change that stays within the error margin of both runs")
+    @Test
+    public void givenChangeWithinErrorMargin_whenCompare_thenNothingRegressed() throws Exception {
+        // given
+        JsonNode baseline = run("avgt", 100, 15, null);
+        JsonNode candidate = run("avgt", 125, 15, null);
+
+        // when - then
+        assertThat(BenchmarkComparison.compare(baseline, candidate))
+                .noneMatch(change -> change.regressed(DEFAULT_THRESHOLD));
+    }
+
+    @DisplayName(value = "JUnit Test for treat a higher throughput as an improvement")
+    @Test
+    public void givenHigherThroughput_whenCompare_thenNothingRegressed() throws Exception {
+        // given
+        JsonNode baseline = run("thrpt", 1000, 5, null);
+        JsonNode candidate = run("thrpt", 1500, 5, null);
+
+        // when
+        List<Change> changes = BenchmarkComparison.compare(baseline, candidate);
+
+        // then
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.regression()).isNegative();
+            assertThat(change.regressed(DEFAULT_THRESHOLD)).isFalse();
+        });
+    }
+
+    @DisplayName(value = "JUnit Test for compare the allocation per operation when both runs were profiled")
+    @Test
+    public void givenProfiledRuns_whenCompare_thenAllocationRegressed() throws Exception {
+        // given
+        JsonNode baseline = run("avgt", 100, 1, 4368.0);
+        JsonNode candidate = run("avgt", 100, 1, 18774.0);
+
+        // when
+        List<Change> changes = BenchmarkComparison.compare(baseline, candidate);
+
+        // then
+        assertThat(changes).extracting(Change::metric).containsExactly("score", "allocation");
+        assertThat(changes.get(0).regressed(DEFAULT_THRESHOLD)).isFalse();
+        assertThat(changes.get(1).regressed(DEFAULT_THRESHOLD)).isTrue();
+    }
+}
@@ -0,0 +1,83 @@
+package com.disney.benchmark;
+
+import com.disney.benchmark.CatalogGenerator.Settings;
+import com.disney.benchmark.CatalogGenerator.Summary;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CatalogGeneratorTest {
+    private static final Settings SETTINGS = new Settings(5, 300, 1_000, 12, 40, 1.0, 64, 7);
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1".formatted(name));
+        CatalogGenerator.createSchema(dataSource);
+        return dataSource;
+    }
+
+    @DisplayName(value = "JUnit Test for seed every table of the catalog with the configured number of rows")
+    @Test
+    public void givenSettings_whenGenerate_thenEveryTableIsSeeded() throws Exception {
+        // given
+        DataSource dataSource = database("catalog-counts");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // when
+        Summary summary = CatalogGenerator.generate(dataSource, SETTINGS);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM genres", Long.class)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movies", Long.class)).isEqualTo(300);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM characters", Long.class)).isEqualTo(1_000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rel_movie_character", Long.class))
+                .isEqualTo(summary.roles())
+                .isBetween(300L, 300L * 12);
+    }
+
+    @DisplayName(value = "JUnit Test for skew the roles towards a few characters without exceeding the limits")
+    @Test
+    public void givenSettings_whenGenerate_thenRolesFollowAPowerLaw() throws Exception {
+        // given
+        DataSource dataSource = database("catalog-roles");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // when
+        CatalogGenerator.generate(dataSource, SETTINGS);
+
+        // then
+        List<Integer> castSizes = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM rel_movie_character GROUP BY movie_id", Integer.class);
+        List<Integer> roles = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM rel_movie_character GROUP BY character_id ORDER BY 1 DESC", Integer.class);
+        assertThat(castSizes).hasSize(300).allSatisfy(size -> assertThat(size).isBetween(1, 12));
+        assertThat(roles).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(40));
+        // the most popular character appears in far more movies than a typical one, many appear in none
+        assertThat(roles.get(0)).isGreaterThan(10 * roles.get(roles.size() / 2));
+        assertThat(roles).hasSizeLessThan(1_000);
+    }
+
+    @DisplayName(value = "JUnit Test for write the same catalog, IDs included, for the same seed")
+    @Test
+    public void givenSameSeed_whenGenerateTwice_thenSameCatalog() throws Exception {
+        // given
+        DataSource first = database("catalog-first");
+        DataSource second = database("catalog-second");
+        String query = "SELECT m.id, m.title, m.genre_id, r.character_id FROM movies m "
+                + "JOIN rel_movie_character r ON r.movie_id = m.id ORDER BY m.id, r.character_id";
+
+        // when
+        CatalogGenerator.generate(first, SETTINGS);
+        CatalogGenerator.generate(second, SETTINGS);
+
+        // then
+        assertThat(new JdbcTemplate(first).queryForList(query))
+                .isEqualTo(new JdbcTemplate(second).queryForList(query));
+    }
+}
@@ -0,0 +1,67 @@
+package com.disney.benchmark;
+
+import com.disney.benchmark.LoadHarness.Mix;
+import com.disney.benchmark.LoadHarness.Operation;
+import com.disney.benchmark.LoadHarness.Report;
+import com.disney.benchmark.LoadHarness.Settings;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LoadHarnessTest {
+
+    @DisplayName(value = "JUnit Test for parse a mix made of the named operations only")
+    @Test
+    public void givenMix_whenParse_thenOnlyNamedOperations() {
+        // given - when
+        Mix mix = Mix.parse("movies.get:3, genres.list:1,characters.delete:0");
+
+        // then
+        assertThat(mix.operations()).containsExactly(Operation.MOVIES_GET, Operation.GENRES_LIST);
+        assertThatThrownBy(() -> Mix.parse("movies.watch:1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("movies.get");
+    }
+
+    @DisplayName(value = "JUnit Test for drive every endpoint of a generated catalog without errors")
+    @Test
+    public void givenGeneratedCatalog_whenRun_thenEveryOperationSucceeds() throws Exception {
+        // given
+        String url = "jdbc:h2:mem:load-harness;DB_CLOSE_DELAY=-1";
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        CatalogGenerator.createSchema(dataSource);
+        CatalogGenerator.generate(dataSource, new CatalogGenerator.Settings(4, 100, 300, 3, 3, 1.0, 100, 42));
+        // no warmup, it could use up the few IDs kept for the deletes; the seeded clients pick every operation
+        // within their first requests, the same ones on every run
+        Settings settings = new Settings(4, Duration.ZERO, Duration.ofSeconds(3), 0, 30, 1.0,
+                Duration.ofSeconds(10), 42);
+        Mix everyOperation = Mix.parse(Arrays.stream(Operation.values())
+                .map(operation -> operation.key() + ":1")
+                .collect(Collectors.joining(",")));
+
+        try (ConfigurableApplicationContext context = BlockingStack.start("--server.port=0",
+                "--spring.datasource.url=%s".formatted(url), "--spring.datasource.username=sa",
+                "--spring.datasource.password=", "--spring.jpa.show-sql=false", "--logging.level.root=WARN")) {
+            // when
+            Report report = LoadHarness.run("http://localhost:%s".formatted(
+                    context.getEnvironment().getProperty("local.server.port")), settings, everyOperation);
+
+            // then
+            assertThat(report.operations()).hasSize(Operation.values().length).allSatisfy(result -> {
+                assertThat(result.requests()).as(result.operation()).isPositive();
+                assertThat(result.errors()).as(result.operation()).isZero();
+            });
+            assertThat(report.total().latencies().getValueAtPercentile(99)).isPositive();
+        }
+    }
+}
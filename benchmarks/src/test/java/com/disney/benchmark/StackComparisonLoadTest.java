@@ -0,0 +1,211 @@
+package com.disney.benchmark;
+
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.reactive.DisneyReactiveApplication;
+import com.disney.repository.CharacterRepository;
+import com.disney.repository.GenreRepository;
+import com.disney.repository.MovieRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+import static com.disney.util.ApiUtils.MOVIE_BASE_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same read load against the blocking stack (Tomcat, JPA, Hikari) and the reactive one (Netty, R2DBC),
+ * both reading the same database through a pool of the same size, and prints the peak JVM threads and the
+ * peak connections in use next to the throughput and p99 latency. Excluded from the default build, run it with
+ * {@code mvn test -Pload-test -pl benchmarks -am -Dtest=StackComparisonLoadTest -Dsurefire.failIfNoSpecifiedTests=false};
+ * the concurrency levels can be changed with {@code -Dload.clients=200,1000}.
+ * <p>
+ * The R2DBC driver of H2 runs every statement on the calling thread, so the numbers only mean something against a
+ * real server: pass {@code -Dload.jdbc.url}, {@code -Dload.r2dbc.url}, {@code -Dload.db.username} and
+ * {@code -Dload.db.password} to point both stacks at the same (empty) MySQL database.
+ */
+@Tag("load")
+public class StackComparisonLoadTest {
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final int MOVIES = 50;
+    private static final int POOL_SIZE = 10;
+    private static final String JDBC_URL = System.getProperty("load.jdbc.url",
+            "jdbc:h2:mem:stack-comparison;DB_CLOSE_DELAY=-1");
+    private static final String R2DBC_URL = System.getProperty("load.r2dbc.url",
+            "r2dbc:h2:mem:///stack-comparison?options=DB_CLOSE_DELAY=-1");
+    private static final String USERNAME = System.getProperty("load.db.username", "sa");
+    private static final String PASSWORD = System.getProperty("load.db.password", "");
+
+    private record LoadResult(String stack, int clients, long requests, long errors, double throughput, double p99,
+                              int peakThreads, int peakConnections, int peakPendingConnections) {
+    }
+
+    @DisplayName(value = "Load Test comparing threads and connections used by the blocking and reactive stacks")
+    @Test
+    public void givenConcurrentClients_whenCallingBothStacks_thenCompareResourceUsage() throws Exception {
+        int[] clients = Arrays.stream(System.getProperty("load.clients", "200,1000").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+
+        List<LoadResult> results = new ArrayList<>();
+        // the blocking application owns the schema, the reactive one reads the same database
+        try (ConfigurableApplicationContext blocking = startBlocking()) {
+            List<String> movieIds = seed(blocking);
+            HikariDataSource hikari = blocking.getBean(HikariDataSource.class);
+            results.addAll(run("blocking", blocking, movieIds, clients, () -> hikari.getHikariPoolMXBean()
+                    .getActiveConnections(), () -> hikari.getHikariPoolMXBean().getThreadsAwaitingConnection()));
+
+            try (ConfigurableApplicationContext reactive = startReactive()) {
+                ConnectionPool pool = (ConnectionPool) reactive.getBean(ConnectionFactory.class);
+                results.addAll(run("reactive", reactive, movieIds, clients,
+                        () -> pool.getMetrics().orElseThrow().acquiredSize(),
+                        () -> pool.getMetrics().orElseThrow().pendingAcquireSize()));
+            }
+        }
+
+        System.out.printf("%n%-9s %8s %9s %7s %10s %9s %8s %8s %8s%n", "stack", "clients", "requests", "errors",
+                "req/s", "p99 ms", "threads", "conns", "pending");
+        results.forEach(result -> System.out.printf("%-9s %8d %9d %7d %10.1f %9.2f %8d %8d %8d%n", result.stack(),
+                result.clients(), result.requests(), result.errors(), result.throughput(), result.p99(),
+                result.peakThreads(), result.peakConnections(), result.peakPendingConnections()));
+        assertThat(results).allSatisfy(result -> assertThat(result.requests()).isPositive());
+    }
+
+    private ConfigurableApplicationContext startBlocking() {
+        return BlockingStack.start("--server.port=0",
+                "--spring.datasource.url=%s".formatted(JDBC_URL),
+                "--spring.datasource.username=%s".formatted(USERNAME),
+                "--spring.datasource.password=%s".formatted(PASSWORD),
+                "--spring.datasource.hikari.maximum-pool-size=%d".formatted(POOL_SIZE),
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=10000");
+    }
+
+    private ConfigurableApplicationContext startReactive() {
+        return new SpringApplicationBuilder(DisneyReactiveApplication.class, NettyServer.class)
+                .web(WebApplicationType.REACTIVE)
+                .run("--server.port=0",
+                        "--spring.r2dbc.url=%s".formatted(R2DBC_URL),
+                        "--spring.r2dbc.username=%s".formatted(USERNAME),
+                        "--spring.r2dbc.password=%s".formatted(PASSWORD),
+                        "--spring.r2dbc.pool.initial-size=%d".formatted(POOL_SIZE),
+                        "--spring.r2dbc.pool.max-size=%d".formatted(POOL_SIZE),
+                        "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+                        "--logging.level.root=WARN");
+    }
+
+    private List<LoadResult> run(String stack, ConfigurableApplicationContext context, List<String> movieIds,
+                                 int[] clients, IntSupplier connections, IntSupplier pendingConnections)
+            throws Exception {
+        String baseUrl = "http://localhost:%s%s".formatted(
+                context.getEnvironment().getProperty("local.server.port"), MOVIE_BASE_URL);
+        drive(stack, baseUrl, movieIds, 100, connections, pendingConnections); // warm-up
+        List<LoadResult> results = new ArrayList<>();
+        for (int concurrentClients : clients)
+            results.add(drive(stack, baseUrl, movieIds, concurrentClients, connections, pendingConnections));
+        return results;
+    }
+
+    private LoadResult drive(String stack, String baseUrl, List<String> movieIds, int clients,
+                             IntSupplier connections, IntSupplier pendingConnections) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicInteger peakConnections = new AtomicInteger();
+        AtomicInteger peakPending = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[clients][REQUESTS_PER_CLIENT];
+        long start;
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        try (HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build()) {
+            threads.resetPeakThreadCount();
+            sampler.scheduleAtFixedRate(() -> {
+                peakConnections.accumulateAndGet(connections.getAsInt(), Math::max);
+                peakPending.accumulateAndGet(pendingConnections.getAsInt(), Math::max);
+            }, 0, 5, TimeUnit.MILLISECONDS);
+            start = System.nanoTime();
+            // the clients run on virtual threads so they do not inflate the platform thread count being measured
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                IntStream.range(0, clients).forEach(client -> executor.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        // alternates between a single movie and the first page of the movie list
+                        String url = i % 2 == 0
+                                ? "%s/%s".formatted(baseUrl, movieIds.get((client + i) % movieIds.size()))
+                                : "%s?page=0".formatted(baseUrl);
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                                            .header("Accept", "application/json")
+                                            .timeout(Duration.ofSeconds(60)).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200)
+                                errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[client][i] = System.nanoTime() - sent;
+                    }
+                }));
+            }
+        } finally {
+            sampler.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        long[] sorted = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double p99 = sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1_000_000.0;
+        return new LoadResult(stack, clients, sorted.length, errors.get(), sorted.length / (elapsed / 1e9), p99,
+                threads.getPeakThreadCount(), peakConnections.get(), peakPending.get());
+    }
+
+    private List<String> seed(ConfigurableApplicationContext context) {
+        Genre genre = context.getBean(GenreRepository.class).save(Genre.builder().name("Load Genre").build());
+        CharacterRepository characterRepository = context.getBean(CharacterRepository.class);
+        Set<Character> characters = new HashSet<>(characterRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(i -> Character.builder().name("Character %d".formatted(i)).image("character.jpg")
+                        .age(20 + i).weight(70).history("History").build())
+                .toList()));
+        return context.getBean(MovieRepository.class).saveAll(IntStream.range(0, MOVIES)
+                        .mapToObj(i -> Movie.builder().title("Movie %d".formatted(i)).image("movie.jpg").rate(4)
+                                .creationDate(LocalDate.of(2000, 1, 1).plusDays(i)).genre(genre)
+                                .characters(characters).build())
+                        .toList())
+                .stream().map(movie -> movie.getId().toString()).toList();
+    }
+
+    // both servers are on the classpath and Boot would otherwise serve the reactive stack from Tomcat
+    @Configuration(proxyBeanMethods = false)
+    static class NettyServer {
+        @Bean
+        NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+            return new NettyReactiveWebServerFactory();
+        }
+    }
+}
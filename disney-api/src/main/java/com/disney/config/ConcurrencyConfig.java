@@ -0,0 +1,26 @@
+package com.disney.config;
+
+import com.disney.config.concurrency.ConcurrencyLimitAspect;
+import com.disney.config.concurrency.ConcurrencyLimiter;
+import com.disney.config.concurrency.ConcurrencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "disney.concurrency", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ConcurrencyProperties.class)
+public class ConcurrencyConfig {
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(ConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        return new ConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    @Bean
+    public ConcurrencyLimitAspect concurrencyLimitAspect(ConcurrencyLimiter concurrencyLimiter) {
+        return new ConcurrencyLimitAspect(concurrencyLimiter);
+    }
+}
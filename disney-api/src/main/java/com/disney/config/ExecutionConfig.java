@@ -0,0 +1,65 @@
+package com.disney.config;
+
+import com.disney.config.datasource.AdmissionControlledDataSource;
+import com.disney.config.datasource.AdmissionProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class ExecutionConfig {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionConfig.class);
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    // every request, and the service calls it makes, runs on its own virtual thread
+    @Bean
+    @ConditionalOnProperty(prefix = "disney.threads.virtual", name = "enabled", havingValue = "true")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadExecutorCustomizer() {
+        logger.info("Serving requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "disney.datasource.admission", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor admissionGatePostProcessor(ObjectProvider<AdmissionProperties> properties,
+                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AdmissionGatePostProcessor(properties, meterRegistry);
+    }
+
+    // ordered, so the gate is applied to the pool before anything else wraps it
+    private record AdmissionGatePostProcessor(ObjectProvider<AdmissionProperties> properties,
+                                              ObjectProvider<MeterRegistry> meterRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+            if (!(bean instanceof HikariDataSource pool))
+                return bean;
+            AdmissionProperties admission = properties.getObject();
+            // the pool reports -1 until it is started when no size was configured
+            int poolSize = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+            int permits = admission.permits() > 0 ? admission.permits() : poolSize;
+            logger.info("Admission gate with {} permits in front of the '{}' pool", permits, beanName);
+            return new AdmissionControlledDataSource(pool, beanName, permits, admission.timeout(),
+                    meterRegistry.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.disney.config;
+
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.repository.CharacterRepository;
+import com.disney.repository.GenreRepository;
+import com.disney.repository.MovieRepository;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ExistenceListener;
+import com.disney.service.cache.ExistenceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ExistenceProperties.class)
+public class ExistenceFilterConfig {
+    private final ExistenceProperties properties;
+    private final MeterRegistry meterRegistry;
+    // read-write, so the scan is routed to the primary
+    private final TransactionTemplate primaryTransaction;
+
+    public ExistenceFilterConfig(ExistenceProperties properties, MeterRegistry meterRegistry,
+                                 PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Bean
+    public ExistenceFilter<Movie> movieExistence(MovieRepository movieRepository) {
+        return started(new ExistenceFilter<>("movies", Movie.class, Movie::getId, movieRepository::streamIds,
+                movieRepository::count, primaryTransaction, properties, meterRegistry));
+    }
+
+    @Bean
+    public ExistenceFilter<Character> characterExistence(CharacterRepository characterRepository) {
+        return started(new ExistenceFilter<>("characters", Character.class, Character::getId,
+                characterRepository::streamIds, characterRepository::count, primaryTransaction,
+                properties, meterRegistry));
+    }
+
+    @Bean
+    public ExistenceFilter<Genre> genreExistence(GenreRepository genreRepository) {
+        return started(new ExistenceFilter<>("genres", Genre.class, Genre::getId, genreRepository::streamIds,
+                genreRepository::count, primaryTransaction, properties, meterRegistry));
+    }
+
+    @Bean
+    public ExistenceListener existenceListener(EntityManagerFactory entityManagerFactory,
+                                               List<ExistenceFilter<?>> filters) {
+        ExistenceListener listener = new ExistenceListener(filters);
+        listener.register(entityManagerFactory);
+        return listener;
+    }
+
+    // built before the services can use them, the first requests find them ready
+    private static <E> ExistenceFilter<E> started(ExistenceFilter<E> filter) {
+        filter.start();
+        return filter;
+    }
+}
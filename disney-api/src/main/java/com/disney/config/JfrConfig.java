@@ -0,0 +1,57 @@
+package com.disney.config;
+
+import com.disney.config.jfr.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// the events cost a flag check while no recording enables them, the summary enables them for every request
+@Configuration
+@ConditionalOnProperty(prefix = "disney.jfr", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+    @Bean
+    public static BeanPostProcessor jfrTransactionManagerPostProcessor() {
+        return new TransactionManagerPostProcessor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<JfrRequestFilter> jfrRequestFilter() {
+        return new FilterRegistrationBean<>(new JfrRequestFilter());
+    }
+
+    @Bean
+    public JfrServiceAspect jfrServiceAspect() {
+        return new JfrServiceAspect();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "disney.jfr", name = "summary-enabled", havingValue = "true")
+    public JfrSummary jfrSummary(JfrProperties properties) {
+        JfrSummary summary = new JfrSummary(properties);
+        summary.start();
+        return summary;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "disney.jfr", name = "summary-enabled", havingValue = "true")
+    public JfrEndpoint jfrEndpoint(JfrProperties properties, JfrSummary summary) {
+        return new JfrEndpoint(properties, summary);
+    }
+
+    private static final class TransactionManagerPostProcessor implements BeanPostProcessor {
+        @Override
+        public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+            if (bean instanceof PlatformTransactionManager transactionManager
+                    && !(bean instanceof JfrTransactionManager))
+                return new JfrTransactionManager(transactionManager);
+            return bean;
+        }
+    }
+}
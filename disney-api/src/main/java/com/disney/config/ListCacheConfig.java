@@ -0,0 +1,87 @@
+package com.disney.config;
+
+import com.disney.config.concurrency.ConcurrencyLimitAspect;
+import com.disney.config.datasource.ReadYourWritesTracker;
+import com.disney.config.datasource.RoutingProperties;
+import com.disney.config.timing.ServerTiming;
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Movie;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.GenerationListener;
+import com.disney.service.cache.ListCacheProperties;
+import com.disney.service.cache.ListQueryCache;
+import com.disney.service.cache.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+@Configuration
+@EnableConfigurationProperties(ListCacheProperties.class)
+public class ListCacheConfig {
+    private final ListCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration replicaLag;
+    private final BooleanSupplier bypass;
+    private final Consumer<Boolean> lookups = hit -> {
+        ConcurrencyLimitAspect.cacheLookup(hit);
+        ServerTiming timing = ServerTiming.current();
+        if (Objects.nonNull(timing))
+            timing.cacheLookup(hit);
+    };
+
+    public ListCacheConfig(ListCacheProperties properties, MeterRegistry meterRegistry,
+                           PlatformTransactionManager transactionManager,
+                           ObjectProvider<ReadYourWritesTracker> readYourWrites,
+                           ObjectProvider<RoutingProperties> routing) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        // a client pinned to the primary after a write reads its lists from there too, never from the cache
+        ReadYourWritesTracker tracker = readYourWrites.getIfAvailable();
+        this.bypass = Objects.isNull(tracker) ? () -> false : tracker::isCurrentClientPinned;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // a usable replica is at most max-lag behind, as of the last check
+        RoutingProperties routingProperties = routing.getIfAvailable();
+        this.replicaLag = Objects.isNull(routingProperties) ? Duration.ZERO
+                : routingProperties.maxLag().plus(routingProperties.lagCheckInterval());
+    }
+
+    @Bean
+    public EntityGenerations entityGenerations(EntityManagerFactory entityManagerFactory) {
+        EntityGenerations generations = new EntityGenerations();
+        GenerationListener.register(entityManagerFactory, generations);
+        return generations;
+    }
+
+    // movies are filtered on their own columns only
+    @Bean
+    public ListQueryCache<Movie, MovieResponseDto> movieListCache(EntityGenerations generations,
+                                                                  ResponseCache<UUID, MovieResponseDto> movieCache) {
+        return new ListQueryCache<>("movies", properties, generations, List.of(Movie.class), Movie::getId,
+                movieCache::load, readOnlyTransaction, replicaLag, bypass, lookups, meterRegistry);
+    }
+
+    // the movies of a character are the characters collection of the movie, so movie writes count as well
+    @Bean
+    public ListQueryCache<Character, CharacterResponseDto> characterListCache(
+            EntityGenerations generations, ResponseCache<UUID, CharacterResponseDto> characterCache) {
+        return new ListQueryCache<>("characters", properties, generations, List.of(Character.class, Movie.class),
+                Character::getId, characterCache::load, readOnlyTransaction, replicaLag, bypass, lookups,
+                meterRegistry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.disney.config;
+
+import com.disney.config.datasource.ReadYourWritesTracker;
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.model.mapper.CharacterMapper;
+import com.disney.model.mapper.GenreMapper;
+import com.disney.model.mapper.MovieMapper;
+import com.disney.repository.CharacterRepository;
+import com.disney.repository.GenreRepository;
+import com.disney.repository.MovieRepository;
+import com.disney.service.loader.BatchLoader;
+import com.disney.service.loader.LoaderProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static java.util.stream.Collectors.toMap;
+
+@Configuration
+@EnableConfigurationProperties(LoaderProperties.class)
+public class LoaderConfig {
+    private final LoaderProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BooleanSupplier bypass;
+
+    public LoaderConfig(LoaderProperties properties, MeterRegistry meterRegistry,
+                        PlatformTransactionManager transactionManager,
+                        ObjectProvider<ReadYourWritesTracker> readYourWrites) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        // clients pinned to the primary after a write must not share a batch that may be read from the replica
+        ReadYourWritesTracker tracker = readYourWrites.getIfAvailable();
+        this.bypass = Objects.isNull(tracker) ? () -> false : tracker::isCurrentClientPinned;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // the batches map to DTOs inside their own transaction, entities never leave the loader thread
+    @Bean
+    public BatchLoader<UUID, MovieResponseDto> movieLoader(MovieRepository movieRepository, MovieMapper movieMapper) {
+        return new BatchLoader<>("movies", ids -> readOnlyTransaction.execute(status ->
+                movieRepository.findAllById(ids).stream().collect(toMap(Movie::getId, movieMapper::toDTO))),
+                properties, meterRegistry, bypass);
+    }
+
+    @Bean
+    public BatchLoader<UUID, CharacterResponseDto> characterLoader(CharacterRepository characterRepository,
+                                                                   CharacterMapper characterMapper) {
+        return new BatchLoader<>("characters", ids -> readOnlyTransaction.execute(status ->
+                characterRepository.findAllById(ids).stream()
+                        .collect(toMap(Character::getId, characterMapper::toDTO))),
+                properties, meterRegistry, bypass);
+    }
+
+    @Bean
+    public BatchLoader<UUID, GenreResponseDto> genreLoader(GenreRepository genreRepository, GenreMapper genreMapper) {
+        return new BatchLoader<>("genres", ids -> readOnlyTransaction.execute(status ->
+                genreRepository.findAllById(ids).stream().collect(toMap(Genre::getId, genreMapper::toDTO))),
+                properties, meterRegistry, bypass);
+    }
+}
@@ -0,0 +1,61 @@
+package com.disney.config;
+
+import com.disney.config.metrics.RequestResourceFilter;
+import com.disney.config.metrics.RequestResourceProperties;
+import com.disney.config.metrics.RequestStatistics;
+import com.disney.config.metrics.RequestStatisticsFilter;
+import com.disney.config.metrics.ServiceTimingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// endpoint, repository, connection pool and Hibernate metrics come from Boot, these add what it does not measure
+@Configuration
+@ConditionalOnProperty(prefix = "disney.metrics", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RequestResourceProperties.class)
+public class MetricsConfig {
+
+    @Bean
+    public RequestStatistics requestStatistics() {
+        return new RequestStatistics();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsHooks(RequestStatistics requestStatistics) {
+        return properties -> {
+            // Boot's Hibernate metrics read these, so they are only collected while the metrics are on
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, requestStatistics);
+            properties.put(AvailableSettings.INTERCEPTOR, requestStatistics);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(RequestStatistics requestStatistics,
+                                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatisticsFilter(requestStatistics, meterRegistry));
+        // just outside the recent requests filter, which reads the counts before they are cleared
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "disney.metrics.resources", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<RequestResourceFilter> requestResourceFilter(RequestResourceProperties properties,
+                                                                               MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new RequestResourceFilter(properties, meterRegistry));
+    }
+
+    @Bean
+    public ServiceTimingAspect serviceTimingAspect(MeterRegistry meterRegistry) {
+        return new ServiceTimingAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.disney.config;
+
+import com.disney.config.ratelimit.RateLimitFilter;
+import com.disney.config.ratelimit.RateLimitProperties;
+import com.disney.config.ratelimit.RateLimiter;
+import com.disney.config.warmup.WarmUpToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Objects;
+
+@Configuration
+@ConditionalOnProperty(prefix = "disney.ratelimit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        RateLimiter rateLimiter = new RateLimiter(properties);
+        Gauge.builder("disney.ratelimit.clients", rateLimiter, RateLimiter::clients).register(meterRegistry);
+        rateLimiter.start();
+        return rateLimiter;
+    }
+
+    // ahead of the filters that do work per request, a rejected request should cost as little as possible
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter,
+                                                                   RateLimitProperties properties,
+                                                                   ObjectProvider<WarmUpToken> warmUpToken,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        WarmUpToken token = warmUpToken.getIfAvailable();
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(new RateLimitFilter(
+                rateLimiter, properties, Objects.isNull(token) ? request -> false : token::sentWith, objectMapper,
+                meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
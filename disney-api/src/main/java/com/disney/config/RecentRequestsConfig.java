@@ -0,0 +1,36 @@
+package com.disney.config;
+
+import com.disney.config.requests.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "disney.requests.recent", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RecentRequestsProperties.class)
+public class RecentRequestsConfig {
+
+    @Bean
+    public RecentRequests recentRequests(RecentRequestsProperties properties) {
+        int stripes = properties.stripes() > 0 ? properties.stripes() : RecentRequests.defaultStripes();
+        return new RecentRequests(properties.capacity(), stripes);
+    }
+
+    // last in the chain, inside the request statistics filter whose counts it reads
+    @Bean
+    public FilterRegistrationBean<RecentRequestFilter> recentRequestFilter(RecentRequestsProperties properties,
+                                                                           RecentRequests recentRequests) {
+        FilterRegistrationBean<RecentRequestFilter> registration = new FilterRegistrationBean<>(
+                new RecentRequestFilter(recentRequests, properties.maxQueryLength()));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public RecentRequestsEndpoint recentRequestsEndpoint(RecentRequests recentRequests) {
+        return new RecentRequestsEndpoint(recentRequests);
+    }
+}
@@ -0,0 +1,99 @@
+package com.disney.config;
+
+import com.disney.config.concurrency.ConcurrencyLimitAspect;
+import com.disney.config.datasource.ReadYourWritesTracker;
+import com.disney.config.timing.ServerTiming;
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.EntityKey;
+import com.disney.service.cache.ResponseCache;
+import com.disney.service.cache.ResponseCacheProperties;
+import com.disney.service.loader.BatchLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+    private final ResponseCacheProperties properties;
+    private final EntityGenerations generations;
+    private final MeterRegistry meterRegistry;
+    private final BooleanSupplier bypass;
+    private final Consumer<Boolean> lookups = hit -> {
+        ConcurrencyLimitAspect.cacheLookup(hit);
+        ServerTiming timing = ServerTiming.current();
+        if (Objects.nonNull(timing))
+            timing.cacheLookup(hit);
+    };
+
+    public ResponseCacheConfig(ResponseCacheProperties properties, EntityGenerations generations,
+                               MeterRegistry meterRegistry, ObjectProvider<ReadYourWritesTracker> readYourWrites) {
+        this.properties = properties;
+        this.generations = generations;
+        this.meterRegistry = meterRegistry;
+        // a client pinned to the primary after a write must see it, not an entry cached before
+        ReadYourWritesTracker tracker = readYourWrites.getIfAvailable();
+        this.bypass = Objects.isNull(tracker) ? () -> false : tracker::isCurrentClientPinned;
+    }
+
+    // a write drops the entry of its row and the ones whose response shows it, a movie shows its genre and characters
+    @Bean
+    public ResponseCache<UUID, MovieResponseDto> movieCache(BatchLoader<UUID, MovieResponseDto> movieLoader) {
+        return new ResponseCache<>("movies", properties, generations, Movie.class,
+                List.of(Movie.class, Genre.class, Character.class), ResponseCacheConfig::shows, movieLoader::load,
+                bypass, lookups, meterRegistry);
+    }
+
+    @Bean
+    public ResponseCache<UUID, CharacterResponseDto> characterCache(
+            BatchLoader<UUID, CharacterResponseDto> characterLoader) {
+        return new ResponseCache<>("characters", properties, generations, Character.class,
+                List.of(Character.class, Movie.class), ResponseCacheConfig::shows, characterLoader::load, bypass,
+                lookups, meterRegistry);
+    }
+
+    @Bean
+    public ResponseCache<UUID, GenreResponseDto> genreCache(BatchLoader<UUID, GenreResponseDto> genreLoader) {
+        return new ResponseCache<>("genres", properties, generations, Genre.class, List.of(Genre.class, Movie.class),
+                ResponseCacheConfig::shows, genreLoader::load, bypass, lookups, meterRegistry);
+    }
+
+    private static Collection<EntityKey> shows(MovieResponseDto movie) {
+        Collection<EntityKey> shown = new ArrayList<>();
+        if (Objects.nonNull(movie.genre()))
+            shown.add(key(Genre.class, movie.genre().id()));
+        if (Objects.nonNull(movie.characters()))
+            movie.characters().forEach(character -> shown.add(key(Character.class, character.id())));
+        return shown;
+    }
+
+    private static Collection<EntityKey> shows(CharacterResponseDto character) {
+        return Objects.isNull(character.movies()) ? List.of()
+                : character.movies().stream().map(movie -> key(Movie.class, movie.id())).toList();
+    }
+
+    private static Collection<EntityKey> shows(GenreResponseDto genre) {
+        return Objects.isNull(genre.movies()) ? List.of()
+                : genre.movies().stream().map(movie -> key(Movie.class, movie.id())).toList();
+    }
+
+    private static EntityKey key(Class<?> type, String id) {
+        return EntityKey.of(type, UUID.fromString(id));
+    }
+}
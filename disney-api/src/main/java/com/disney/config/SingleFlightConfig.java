@@ -0,0 +1,37 @@
+package com.disney.config;
+
+import com.disney.config.datasource.ReadYourWritesTracker;
+import com.disney.config.singleflight.SingleFlightFilter;
+import com.disney.config.singleflight.SingleFlightProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Objects;
+
+@Configuration
+@ConditionalOnProperty(prefix = "disney.singleflight", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SingleFlightProperties.class)
+public class SingleFlightConfig {
+
+    // behind the rate limiter, a duplicate still costs its client a token, and behind the filter that tells which
+    // client a request comes from
+    @Bean
+    public FilterRegistrationBean<SingleFlightFilter> singleFlightFilter(
+            SingleFlightProperties properties, MeterRegistry meterRegistry,
+            ObjectProvider<ReadYourWritesTracker> readYourWrites) {
+        ReadYourWritesTracker tracker = readYourWrites.getIfAvailable();
+        SingleFlightFilter filter = new SingleFlightFilter(properties,
+                Objects.isNull(tracker) ? () -> false : tracker::isCurrentClientPinned, meterRegistry);
+        Gauge.builder("disney.singleflight.in.flight", filter, SingleFlightFilter::inFlight).register(meterRegistry);
+        FilterRegistrationBean<SingleFlightFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        return registration;
+    }
+}
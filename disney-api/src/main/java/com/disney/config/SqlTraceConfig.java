@@ -0,0 +1,56 @@
+package com.disney.config;
+
+import com.disney.config.tracing.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "disney.sql.trace", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SqlTraceProperties.class)
+public class SqlTraceConfig {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // wraps the data source Hibernate uses, after the admission gate and in front of the read/write routing
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new TracingPostProcessor();
+    }
+
+    @Bean
+    public SqlTraceLog sqlTraceLog(SqlTraceProperties properties, MeterRegistry meterRegistry) {
+        return new SqlTraceLog(properties, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlTraceFilter> sqlTraceFilter(SqlTraceProperties properties, SqlTraceLog traceLog) {
+        return new FilterRegistrationBean<>(new SqlTraceFilter(properties, traceLog));
+    }
+
+    @Bean
+    public SqlTraceEndpoint sqlTraceEndpoint(SqlTraceProperties properties, SqlTraceLog traceLog) {
+        return new SqlTraceEndpoint(properties, traceLog);
+    }
+
+    private static final class TracingPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+            if (beanName.equals(DATA_SOURCE_BEAN) && bean instanceof DataSource dataSource)
+                return new TracingDataSource(dataSource);
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.disney.config;
+
+import com.disney.config.startup.StartupProperties;
+import com.disney.config.startup.TrainingRunExit;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(StartupProperties.class)
+public class StartupConfig {
+
+    @Bean
+    public TrainingRunExit trainingRunExit(StartupProperties properties) {
+        return new TrainingRunExit(properties);
+    }
+}
@@ -0,0 +1,53 @@
+package com.disney.config;
+
+import com.disney.config.warmup.HotKeyStore;
+import com.disney.config.warmup.WarmUpProperties;
+import com.disney.config.warmup.WarmUpRunner;
+import com.disney.config.warmup.WarmUpToken;
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.repository.GenreRepository;
+import com.disney.service.cache.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+@Configuration
+@ConditionalOnProperty(prefix = "disney.warmup", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfig {
+
+    @Bean
+    public HotKeyStore hotKeyStore(List<ResponseCache<UUID, ?>> caches, WarmUpProperties properties) {
+        HotKeyStore store = new HotKeyStore(caches, properties);
+        store.start();
+        return store;
+    }
+
+    @Bean
+    public WarmUpToken warmUpToken() {
+        return new WarmUpToken();
+    }
+
+    @Bean
+    public WarmUpRunner warmUpRunner(WarmUpProperties properties, HotKeyStore hotKeys, WarmUpToken token,
+                                     GenreRepository genreRepository, PlatformTransactionManager transactionManager,
+                                     ResponseCache<UUID, MovieResponseDto> movieCache,
+                                     ResponseCache<UUID, CharacterResponseDto> characterCache,
+                                     ResponseCache<UUID, GenreResponseDto> genreCache,
+                                     ApplicationContext context, MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new WarmUpRunner(properties, hotKeys, token, genreRepository, readOnlyTransaction, movieCache,
+                characterCache, genreCache, context, meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.disney.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Serves every endpoint as CBOR ({@code application/cbor}) or Smile ({@code application/x-jackson-smile}) when the
+ * client asks for it in the {@code Accept} header; JSON stays the default.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public WireFormatConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    // Spring registers both converters once the formats are on the classpath, but with a bare ObjectMapper;
+    // rebuild them from Boot's builder so they share the modules and features of the JSON one
+    @Override
+    public void extendMessageConverters(@NonNull List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> switch (converter) {
+            case MappingJackson2CborHttpMessageConverter cbor ->
+                    new MappingJackson2CborHttpMessageConverter(objectMapper(new CBORFactory()));
+            case MappingJackson2SmileHttpMessageConverter smile ->
+                    new MappingJackson2SmileHttpMessageConverter(objectMapper(new SmileFactory()));
+            default -> converter;
+        });
+    }
+
+    private ObjectMapper objectMapper(JsonFactory factory) {
+        return objectMapperBuilder.getObject().factory(factory).build();
+    }
+}
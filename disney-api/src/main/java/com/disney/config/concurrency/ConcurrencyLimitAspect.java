@@ -0,0 +1,83 @@
+package com.disney.config.concurrency;
+
+import com.disney.config.ratelimit.RouteClass;
+import com.disney.model.dto.response.PageEnvelope;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Takes a permit for every call into the service implementations: a write when it runs in a read-write transaction,
+ * a bulk read when it returns a page, a read otherwise. A service calling another one already holds the permit of
+ * the outer call and does not take a second. The caches report their lookups with {@link #cacheLookup(boolean)}, a
+ * call that only hit them is not sampled.
+ */
+@Aspect
+// inside the service timer and the JFR event, so a rejection is timed, outside the transaction advice, so a
+// rejected call never opens one
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ConcurrencyLimitAspect {
+    private static final ThreadLocal<Call> ADMITTED = new ThreadLocal<>();
+    private final ConcurrencyLimiter limiter;
+    private final ConcurrentMap<Method, RouteClass> routeClasses = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitAspect(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Around("within(com.disney.service.implement..*)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (Objects.nonNull(ADMITTED.get()))
+            return joinPoint.proceed();
+        RouteClass routeClass = routeClasses.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> routeClass(AopUtils.getMostSpecificMethod(method,
+                        AopUtils.getTargetClass(joinPoint.getTarget()))));
+        ConcurrencyLimiter.Permit permit = limiter.acquire(routeClass);
+        Call call = new Call();
+        ADMITTED.set(call);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            ADMITTED.remove();
+            limiter.release(permit, failure, call.hit && !call.missed);
+        }
+    }
+
+    // called by the caches on the thread of the service call, outside one it is ignored
+    public static void cacheLookup(boolean hit) {
+        Call call = ADMITTED.get();
+        if (Objects.isNull(call))
+            return;
+        if (hit)
+            call.hit = true;
+        else
+            call.missed = true;
+    }
+
+    private static RouteClass routeClass(Method method) {
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+        if (Objects.nonNull(transactional) && !transactional.readOnly())
+            return RouteClass.WRITE;
+        return PageEnvelope.class.isAssignableFrom(method.getReturnType()) ? RouteClass.BULK : RouteClass.READ;
+    }
+
+    private static final class Call {
+        private boolean hit;
+        private boolean missed;
+    }
+}
@@ -0,0 +1,101 @@
+package com.disney.config.concurrency;
+
+import com.disney.config.ratelimit.RouteClass;
+import com.disney.model.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTransientException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits a service call only while both the adaptive limit on all calls and the bulkhead of its kind have a permit
+ * left, and rejects it at once otherwise, so a slow database sheds load instead of piling requests up on the Tomcat
+ * threads. Reads, writes and bulk reads each have their own bulkhead, a burst of writes cannot take the permits the
+ * reads need.
+ */
+public class ConcurrencyLimiter {
+    private final VegasLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger[] bulkheadInFlight = new AtomicInteger[RouteClass.values().length];
+    private final int[] bulkheads = new int[RouteClass.values().length];
+    private final Counter[] limitRejections = new Counter[RouteClass.values().length];
+    private final Counter[] bulkheadRejections = new Counter[RouteClass.values().length];
+
+    public record Permit(RouteClass routeClass, long start, int inFlight) {
+    }
+
+    public ConcurrencyLimiter(ConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.limit = new VegasLimit(properties.initialLimit(), properties.minLimit(), properties.maxLimit(),
+                properties.probeInterval());
+        bulkheads[RouteClass.READ.ordinal()] = properties.readBulkhead();
+        bulkheads[RouteClass.WRITE.ordinal()] = properties.writeBulkhead();
+        bulkheads[RouteClass.BULK.ordinal()] = properties.bulkBulkhead();
+        Gauge.builder("disney.concurrency.limit", limit, VegasLimit::limit).register(meterRegistry);
+        Gauge.builder("disney.concurrency.in.flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        for (RouteClass routeClass : RouteClass.values()) {
+            int i = routeClass.ordinal();
+            String name = routeClass.name().toLowerCase();
+            bulkheadInFlight[i] = new AtomicInteger();
+            Gauge.builder("disney.concurrency.bulkhead.in.flight", bulkheadInFlight[i], AtomicInteger::get)
+                    .tag("class", name).register(meterRegistry);
+            limitRejections[i] = Counter.builder("disney.concurrency.rejected")
+                    .tag("class", name).tag("reason", "limit").register(meterRegistry);
+            bulkheadRejections[i] = Counter.builder("disney.concurrency.rejected")
+                    .tag("class", name).tag("reason", "bulkhead").register(meterRegistry);
+        }
+    }
+
+    public Permit acquire(RouteClass routeClass) {
+        int i = routeClass.ordinal();
+        if (bulkheadInFlight[i].incrementAndGet() > bulkheads[i]) {
+            bulkheadInFlight[i].decrementAndGet();
+            bulkheadRejections[i].increment();
+            throw new ServiceOverloadedException("Too many concurrent " + routeClass.name().toLowerCase()
+                    + " calls, try again later");
+        }
+        int current = inFlight.incrementAndGet();
+        if (current > limit.limit()) {
+            inFlight.decrementAndGet();
+            bulkheadInFlight[i].decrementAndGet();
+            limitRejections[i].increment();
+            throw new ServiceOverloadedException("The service is overloaded, try again later");
+        }
+        return new Permit(routeClass, System.nanoTime(), current);
+    }
+
+    /**
+     * Gives the permit back and feeds the call's latency to the limit, unless the call was answered from the caches
+     * alone: it never waited for the database, its latency would only drag the no-load baseline down.
+     */
+    public void release(Permit permit, Throwable failure, boolean fromCache) {
+        long rtt = System.nanoTime() - permit.start();
+        inFlight.decrementAndGet();
+        bulkheadInFlight[permit.routeClass().ordinal()].decrementAndGet();
+        boolean dropped = dropped(failure);
+        if (fromCache && !dropped)
+            return;
+        limit.onSample(permit.routeClass(), rtt, permit.inFlight(), dropped);
+    }
+
+    public int limit() {
+        return limit.limit();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    // the failures that mean the database could not keep up, a missing entity or a bad argument says nothing
+    private static boolean dropped(Throwable failure) {
+        for (Throwable cause = failure; Objects.nonNull(cause); cause = cause.getCause())
+            if (cause instanceof TransientDataAccessException || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException)
+                return true;
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.disney.config.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * The adaptive limit on the service calls in flight, between {@code min-limit} and {@code max-limit}, and the fixed
+ * bulkhead of each kind of call inside it. {@code probe-interval} is how many samples the no-load latency is kept
+ * before it is measured again, so the limit can recover after the database got permanently slower or faster.
+ */
+@ConfigurationProperties(prefix = "disney.concurrency")
+public record ConcurrencyProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("1000") int probeInterval,
+        @DefaultValue("64") int readBulkhead,
+        @DefaultValue("8") int writeBulkhead,
+        @DefaultValue("16") int bulkBulkhead
+) {
+}
@@ -0,0 +1,79 @@
+package com.disney.config.concurrency;
+
+import com.disney.config.ratelimit.RouteClass;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrency limit that follows latency, after TCP Vegas: with {@code noLoad} the fastest latency seen for the
+ * same kind of call (a page takes longer than a lookup by ID, measured against one it would always look queued), a
+ * call that took {@code rtt} with the limit at {@code L} means about {@code L * (1 - noLoad / rtt)} calls were queued
+ * somewhere behind it. A short queue grows the limit, a long one shrinks it, both by {@code log10(L)}; a dropped
+ * call, a timeout or a connection that could not be had, cuts it by a tenth. Samples taken while fewer than half the
+ * permits were in use say nothing about the limit and are ignored.
+ */
+public class VegasLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final int probeInterval;
+    // samples that arrive while another thread is updating are dropped rather than waited for
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile int limit;
+    private double estimate;
+    private final long[] noLoadRtts = new long[RouteClass.values().length];
+    private final int[] samples = new int[RouteClass.values().length];
+
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit, int probeInterval) {
+        if (minLimit <= 0 || minLimit > maxLimit)
+            throw new IllegalArgumentException("The limits must be positive and the minimum not above the maximum");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeInterval = probeInterval;
+        this.estimate = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.limit = (int) estimate;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public void onSample(RouteClass routeClass, long rttNanos, int inFlight, boolean dropped) {
+        if (!lock.tryLock())
+            return;
+        try {
+            update(routeClass.ordinal(), rttNanos, inFlight, dropped);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(int routeClass, long rtt, int inFlight, boolean dropped) {
+        double step = Math.max(1, Math.log10(estimate));
+        if (dropped) {
+            set(estimate * 0.9);
+            return;
+        }
+        if (++samples[routeClass] >= probeInterval) {
+            samples[routeClass] = 0;
+            noLoadRtts[routeClass] = rtt;
+            return;
+        }
+        long noLoadRtt = noLoadRtts[routeClass];
+        if (noLoadRtt == 0 || rtt < noLoadRtt) {
+            noLoadRtts[routeClass] = rtt;
+            return;
+        }
+        if (inFlight * 2 < estimate)
+            return;
+        double queue = Math.ceil(estimate * (1 - (double) noLoadRtt / rtt));
+        if (queue <= 3 * step)
+            set(estimate + step);
+        else if (queue > 6 * step)
+            set(estimate - step);
+    }
+
+    private void set(double next) {
+        estimate = Math.min(maxLimit, Math.max(minLimit, next));
+        limit = (int) estimate;
+    }
+}
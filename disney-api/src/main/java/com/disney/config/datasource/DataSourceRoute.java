@@ -0,0 +1,6 @@
+package com.disney.config.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,35 @@
+package com.disney.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the client of the request to the {@link ReadYourWritesTracker}. The client is its address, a header of its
+ * own could be set to another client's value to pin it or changed on every request to never be pinned; behind a
+ * proxy the address is the forwarded one, which {@code server.forward-headers-strategy} only takes from trusted
+ * proxies.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        tracker.bindClient(request.getRemoteAddr());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            tracker.clearClient();
+        }
+    }
+}
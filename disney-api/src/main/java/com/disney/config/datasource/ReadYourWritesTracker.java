@@ -0,0 +1,74 @@
+package com.disney.config.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pins a client to the primary for a short window after one of its write transactions commits, so the reads
+ * that follow a write never observe a replica that has not caught up yet.
+ */
+public class ReadYourWritesTracker {
+    private static final int PURGE_THRESHOLD = 10_000;
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+    private final long stickyWindowNanos;
+    private final ConcurrentMap<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+    }
+
+    public void bindClient(String client) {
+        CURRENT_CLIENT.set(client);
+    }
+
+    public void clearClient() {
+        CURRENT_CLIENT.remove();
+    }
+
+    public boolean isCurrentClientPinned() {
+        String client = CURRENT_CLIENT.get();
+        if (stickyWindowNanos == 0 || Objects.isNull(client))
+            return false;
+        Long until = pinnedUntil.get(client);
+        if (Objects.isNull(until))
+            return false;
+        if (System.nanoTime() - until < 0)
+            return true;
+        pinnedUntil.remove(client, until);
+        return false;
+    }
+
+    /**
+     * Pins the current client once the current read-write transaction commits. Outside an actual transaction, or
+     * when the transaction already recorded its write, nothing is registered.
+     */
+    public void recordWrite() {
+        String client = CURRENT_CLIENT.get();
+        if (stickyWindowNanos == 0 || Objects.isNull(client)
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this))
+            return;
+        TransactionSynchronizationManager.bindResource(this, client);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesTracker.this);
+            }
+
+            @Override
+            public void afterCommit() {
+                if (pinnedUntil.size() > PURGE_THRESHOLD) {
+                    long now = System.nanoTime();
+                    pinnedUntil.values().removeIf(until -> now - until >= 0);
+                }
+                pinnedUntil.put(client, System.nanoTime() + stickyWindowNanos);
+            }
+        });
+    }
+}
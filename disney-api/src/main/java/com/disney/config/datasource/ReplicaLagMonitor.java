@@ -0,0 +1,104 @@
+package com.disney.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically checks the replica and marks it unusable while it is unreachable or lagging behind the primary
+ * more than the configured limit. The lag query must return the lag in seconds, e.g. {@code SHOW REPLICA STATUS}
+ * on MySQL (read from {@code Seconds_Behind_Source}) or a heartbeat table query; when no query is configured only
+ * connectivity is checked.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+    private static final String MYSQL_LAG_COLUMN = "Seconds_Behind_Source";
+    private final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private final DataSource replica;
+    private final RoutingProperties properties;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean replicaUsable = true;
+    private volatile double lagSeconds = 0;
+
+    public ReplicaLagMonitor(DataSource replica, RoutingProperties properties, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.properties = properties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("disney.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds").register(meterRegistry);
+        Gauge.builder("disney.datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        long interval = properties.lagCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public void check() {
+        boolean usable;
+        try (Connection connection = replica.getConnection()) {
+            if (StringUtils.hasText(properties.lagQuery())) {
+                Double lag = queryLag(connection);
+                lagSeconds = Objects.isNull(lag) ? Double.NaN : lag;
+                // a null lag means the replication thread is stopped
+                usable = Objects.nonNull(lag) && lag <= toSeconds(properties.maxLag());
+            } else {
+                lagSeconds = 0;
+                usable = connection.isValid(1);
+            }
+        } catch (SQLException e) {
+            logger.debug("Replica health check failed", e);
+            lagSeconds = Double.NaN;
+            usable = false;
+        }
+        if (usable != replicaUsable)
+            logger.warn("Replica is now {}, lag {}s", usable ? "in use" : "bypassed", lagSeconds);
+        replicaUsable = usable;
+    }
+
+    private Double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.lagQuery())) {
+            if (!resultSet.next())
+                return null;
+            int column;
+            try {
+                column = resultSet.findColumn(MYSQL_LAG_COLUMN);
+            } catch (SQLException e) {
+                column = 1;
+            }
+            Object value = resultSet.getObject(column);
+            return Objects.isNull(value) ? null : Double.valueOf(value.toString());
+        }
+    }
+
+    private static double toSeconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,16 @@
+package com.disney.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "disney.datasource.routing")
+public record RoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0s") Duration stickyWindow,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("") String lagQuery,
+        @DefaultValue("5s") Duration lagCheckInterval
+) {
+}
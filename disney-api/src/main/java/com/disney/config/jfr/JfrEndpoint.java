@@ -0,0 +1,35 @@
+package com.disney.config.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+// /actuator/jfr
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+    private final JfrProperties properties;
+    private final JfrSummary summary;
+
+    public record JfrReport(double windowSeconds, double thresholdMillis,
+                            List<JfrSummary.OperationSummary> slowestOperations,
+                            List<JfrSummary.Operation> recentOperations) {
+    }
+
+    public JfrEndpoint(JfrProperties properties, JfrSummary summary) {
+        this.properties = properties;
+        this.summary = summary;
+    }
+
+    @ReadOperation
+    public JfrReport report() {
+        return new JfrReport(properties.summaryWindow().toMillis() / 1000.0,
+                properties.summaryThreshold().toNanos() / 1_000_000.0, summary.summary(), summary.recent());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        summary.clear();
+    }
+}
@@ -0,0 +1,16 @@
+package com.disney.config.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "disney.jfr")
+public record JfrProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean summaryEnabled,
+        @DefaultValue("5m") Duration summaryWindow,
+        @DefaultValue("10ms") Duration summaryThreshold,
+        @DefaultValue("4096") int summaryCapacity
+) {
+}
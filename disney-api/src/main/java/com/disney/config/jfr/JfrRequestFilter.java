@@ -0,0 +1,43 @@
+package com.disney.config.jfr;
+
+import com.disney.config.metrics.CountingResponse;
+import com.disney.config.metrics.RouteTemplate;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Emits a {@link RequestEvent} per request while a recording has it enabled, otherwise the request goes straight
+ * through and the response is not wrapped.
+ */
+public class JfrRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestEvent event = new RequestEvent();
+        if (!event.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CountingResponse countingResponse = new CountingResponse(response);
+        event.begin();
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                event.route = RouteTemplate.of(request);
+                event.status = response.getStatus();
+                event.responseBytes = countingResponse.written();
+                event.commit();
+            }
+        }
+    }
+}
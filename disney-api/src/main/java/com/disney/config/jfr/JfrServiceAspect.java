@@ -0,0 +1,68 @@
+package com.disney.config.jfr;
+
+import com.disney.model.dto.response.PageEnvelope;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Emits a {@link ServiceEvent} per call into the service implementations while a recording has it enabled. The
+ * list methods return a lazy page, their event does not include mapping the rows.
+ */
+@Aspect
+// inside the service timer, outside the transaction advice
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class JfrServiceAspect {
+
+    @Around("within(com.disney.service.implement..*)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceEvent event = new ServiceEvent();
+        if (!event.isEnabled())
+            return joinPoint.proceed();
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            event.rows = rows(result);
+            return result;
+        } catch (Throwable e) {
+            event.exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+                event.operation = joinPoint.getSignature().getName();
+                event.entityId = entityId(joinPoint.getArgs());
+                event.commit();
+            }
+        }
+    }
+
+    private static long rows(Object result) {
+        if (Objects.isNull(result))
+            return 0;
+        if (result instanceof PageEnvelope<?> page)
+            return page.count();
+        if (result instanceof Collection<?> collection)
+            return collection.size();
+        if (result instanceof Optional<?> optional)
+            return optional.isPresent() ? 1 : 0;
+        return 1;
+    }
+
+    private static String entityId(Object[] args) {
+        if (args.length == 0)
+            return null;
+        if (args[0] instanceof UUID id)
+            return id.toString();
+        return args[0] instanceof String id ? id : null;
+    }
+}
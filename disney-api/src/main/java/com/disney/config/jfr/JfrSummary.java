@@ -0,0 +1,85 @@
+package com.disney.config.jfr;
+
+import com.disney.config.tracing.RecentRing;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the application's own events from an in-process recording and keeps the most recent ones over the
+ * threshold, summarised per operation over a rolling window. While it runs the events are enabled for every
+ * request, not only while an external recording is taken.
+ */
+public class JfrSummary implements AutoCloseable {
+    private final JfrProperties properties;
+    private final RecentRing<Operation> operations;
+    private final RecordingStream stream = new RecordingStream();
+
+    public record Operation(Instant at, String type, String name, double durationMillis) {
+    }
+
+    public record OperationSummary(String type, String name, long count, double averageMillis, double maxMillis) {
+    }
+
+    public JfrSummary(JfrProperties properties) {
+        this.properties = properties;
+        this.operations = new RecentRing<>(properties.summaryCapacity());
+        for (String event : List.of(RequestEvent.NAME, ServiceEvent.NAME, TransactionEvent.NAME))
+            stream.enable(event).withThreshold(properties.summaryThreshold()).withoutStackTrace();
+        stream.onEvent(RequestEvent.NAME, event -> record("request",
+                event.getString("method") + " " + event.getString("route"), event));
+        stream.onEvent(ServiceEvent.NAME, event -> record("service",
+                event.getString("service") + "." + event.getString("operation"), event));
+        stream.onEvent(TransactionEvent.NAME, event -> record("transaction", event.getString("name"), event));
+    }
+
+    public void start() {
+        stream.startAsync();
+    }
+
+    // the operations of the window, slowest first
+    public List<OperationSummary> summary() {
+        Instant since = Instant.now().minus(properties.summaryWindow());
+        Map<List<String>, List<Operation>> byOperation = operations.snapshot().stream()
+                .filter(operation -> operation.at().isAfter(since))
+                .collect(Collectors.groupingBy(operation -> List.of(operation.type(), operation.name())));
+        return byOperation.values().stream()
+                .map(JfrSummary::summarise)
+                .sorted(Comparator.comparingDouble(OperationSummary::maxMillis).reversed())
+                .toList();
+    }
+
+    public List<Operation> recent() {
+        return operations.snapshot();
+    }
+
+    public void clear() {
+        operations.clear();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private void record(String type, String name, RecordedEvent event) {
+        operations.add(new Operation(event.getEndTime(), type, String.valueOf(name),
+                event.getDuration().toNanos() / 1_000_000.0));
+    }
+
+    private static OperationSummary summarise(List<Operation> operations) {
+        Operation first = operations.get(0);
+        double total = 0;
+        double max = 0;
+        for (Operation operation : operations) {
+            total += operation.durationMillis();
+            max = Math.max(max, operation.durationMillis());
+        }
+        return new OperationSummary(first.type(), first.name(), operations.size(), total / operations.size(), max);
+    }
+}
@@ -0,0 +1,86 @@
+package com.disney.config.jfr;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emits a {@link TransactionEvent} for every transaction obtained from the wrapped manager while a recording has
+ * it enabled, a joined transaction gets its own event flagged as not new.
+ */
+public class JfrTransactionManager implements PlatformTransactionManager {
+    private static final String COMMIT = "commit";
+    private static final String ROLLBACK = "rollback";
+    private static final String FAILED = "failed";
+    private final PlatformTransactionManager target;
+    // the status objects do not override equals, so they are told apart by identity
+    private final Map<TransactionStatus, TransactionEvent> open = new ConcurrentHashMap<>();
+
+    public JfrTransactionManager(PlatformTransactionManager target) {
+        this.target = target;
+    }
+
+    public PlatformTransactionManager getTarget() {
+        return target;
+    }
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) throws TransactionException {
+        TransactionEvent event = new TransactionEvent();
+        if (!event.isEnabled())
+            return target.getTransaction(definition);
+        event.begin();
+        if (Objects.nonNull(definition)) {
+            event.name = definition.getName();
+            event.readOnly = definition.isReadOnly();
+        }
+        TransactionStatus status;
+        try {
+            status = target.getTransaction(definition);
+        } catch (RuntimeException | Error e) {
+            event.outcome = FAILED;
+            event.commit();
+            throw e;
+        }
+        event.newTransaction = status.isNewTransaction();
+        open.put(status, event);
+        return status;
+    }
+
+    @Override
+    public void commit(TransactionStatus status) throws TransactionException {
+        TransactionEvent event = open.remove(status);
+        // a commit of a transaction marked rollback-only rolls it back
+        String outcome = status.isRollbackOnly() ? ROLLBACK : COMMIT;
+        try {
+            target.commit(status);
+        } catch (RuntimeException | Error e) {
+            outcome = FAILED;
+            throw e;
+        } finally {
+            complete(event, outcome);
+        }
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) throws TransactionException {
+        TransactionEvent event = open.remove(status);
+        try {
+            target.rollback(status);
+        } finally {
+            complete(event, ROLLBACK);
+        }
+    }
+
+    private static void complete(TransactionEvent event, String outcome) {
+        if (Objects.isNull(event))
+            return;
+        event.outcome = outcome;
+        event.commit();
+    }
+}
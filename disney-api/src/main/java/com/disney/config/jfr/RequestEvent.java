@@ -0,0 +1,27 @@
+package com.disney.config.jfr;
+
+import jdk.jfr.*;
+
+@Name(RequestEvent.NAME)
+@Label("Request")
+@Description("An HTTP request served by the application, from the first filter to the last byte written")
+@Category({"Disney", "Web"})
+@StackTrace(false)
+public class RequestEvent extends Event {
+    public static final String NAME = "com.disney.Request";
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    @Description("URI template the request was mapped to")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Response Size")
+    @Description("Bytes written to the response, characters when it was written through a writer")
+    @DataAmount
+    public long responseBytes;
+}
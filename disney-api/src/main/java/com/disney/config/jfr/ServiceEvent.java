@@ -0,0 +1,29 @@
+package com.disney.config.jfr;
+
+import jdk.jfr.*;
+
+@Name(ServiceEvent.NAME)
+@Label("Service Call")
+@Description("A call into a service implementation, including its transaction")
+@Category({"Disney", "Service"})
+@StackTrace(false)
+public class ServiceEvent extends Event {
+    public static final String NAME = "com.disney.ServiceCall";
+
+    @Label("Service")
+    public String service;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Entity ID")
+    @Description("The ID the call was made for, when its first argument is one")
+    public String entityId;
+
+    @Label("Rows")
+    @Description("Rows on the returned page, 1 for a single result, 0 for none")
+    public long rows;
+
+    @Label("Exception")
+    public String exception;
+}
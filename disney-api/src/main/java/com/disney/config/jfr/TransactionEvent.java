@@ -0,0 +1,25 @@
+package com.disney.config.jfr;
+
+import jdk.jfr.*;
+
+@Name(TransactionEvent.NAME)
+@Label("Transaction")
+@Description("From the transaction being obtained to its commit or rollback")
+@Category({"Disney", "Transaction"})
+@StackTrace(false)
+public class TransactionEvent extends Event {
+    public static final String NAME = "com.disney.Transaction";
+
+    @Label("Name")
+    public String name;
+
+    @Label("Read Only")
+    public boolean readOnly;
+
+    @Label("New Transaction")
+    @Description("False when the call joined a transaction that was already running")
+    public boolean newTransaction;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,101 @@
+package com.disney.config.metrics;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.lang.NonNull;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Objects;
+
+/**
+ * Counts what is written to the response: bytes through the output stream, characters through the writer.
+ */
+public class CountingResponse extends HttpServletResponseWrapper {
+    private long written;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public CountingResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    public long written() {
+        return written;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (Objects.isNull(outputStream))
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (Objects.isNull(writer))
+            writer = new PrintWriter(new FilterWriter(super.getWriter()) {
+                @Override
+                public void write(int c) throws IOException {
+                    super.write(c);
+                    written++;
+                }
+
+                @Override
+                public void write(@NonNull char[] buffer, int offset, int length) throws IOException {
+                    super.write(buffer, offset, length);
+                    written += length;
+                }
+
+                @Override
+                public void write(@NonNull String text, int offset, int length) throws IOException {
+                    super.write(text, offset, length);
+                    written += length;
+                }
+            });
+        return writer;
+    }
+
+    private final class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream target;
+
+        CountingOutputStream(ServletOutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+            written++;
+        }
+
+        @Override
+        public void write(@NonNull byte[] buffer, int offset, int length) throws IOException {
+            target.write(buffer, offset, length);
+            written += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            target.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            target.setWriteListener(listener);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.disney.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the heap allocated and the CPU time used by a sample of the requests as {@code disney.request.allocated}
+ * and {@code disney.request.cpu}, tagged with the method, the URI template and the status, and logs every request
+ * slower than the threshold with what it used. Both are read from the request thread's own counters, so the work the
+ * batch loaders do for a request is not included. A virtual thread has no such counters, the JVM reports -1 for them
+ * and a virtual thread may change carriers mid-request, so those requests are only counted as unmeasured.
+ */
+public class RequestResourceFilter extends OncePerRequestFilter {
+    private static final long UNMEASURED = -1;
+    private final Logger logger = LoggerFactory.getLogger(RequestResourceFilter.class);
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final RequestResourceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean allocationSupported;
+    private final boolean cpuTimeSupported;
+    private final ConcurrentMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    private record Meters(DistributionSummary allocated, Timer cpu, Counter unmeasured) {
+    }
+
+    public RequestResourceFilter(RequestResourceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.allocationSupported = threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled();
+        this.cpuTimeSupported = threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < properties.sampleRate();
+        boolean measurable = !Thread.currentThread().isVirtual();
+        long start = System.nanoTime();
+        long allocatedBefore = sampled && measurable ? allocatedBytes() : UNMEASURED;
+        long cpuBefore = sampled && measurable ? cpuTime() : UNMEASURED;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long duration = System.nanoTime() - start;
+            long allocated = difference(allocatedBefore, allocatedBytes(allocatedBefore));
+            long cpu = difference(cpuBefore, cpuTime(cpuBefore));
+            if (sampled || duration >= properties.slowThreshold().toNanos())
+                record(request, response.getStatus(), sampled, duration, allocated, cpu);
+        }
+    }
+
+    private void record(HttpServletRequest request, int status, boolean sampled, long duration, long allocated,
+                        long cpu) {
+        String method = request.getMethod();
+        String uri = RouteTemplate.of(request);
+        if (sampled) {
+            Meters route = meters(method, uri, status);
+            if (allocated == UNMEASURED && cpu == UNMEASURED)
+                route.unmeasured().increment();
+            if (allocated != UNMEASURED)
+                route.allocated().record(allocated);
+            if (cpu != UNMEASURED)
+                route.cpu().record(cpu, TimeUnit.NANOSECONDS);
+        }
+        if (duration >= properties.slowThreshold().toNanos())
+            logger.warn("Slow request {} {} ({}) {} took {} ms, cpu {}, allocated {}", method, request.getRequestURI(),
+                    uri, status, TimeUnit.NANOSECONDS.toMillis(duration),
+                    cpu == UNMEASURED ? "n/a" : TimeUnit.NANOSECONDS.toMillis(cpu) + " ms",
+                    allocated == UNMEASURED ? "n/a" : allocated / 1024 + " KiB");
+    }
+
+    private Meters meters(String method, String uri, int status) {
+        return meters.computeIfAbsent(method + ' ' + uri + ' ' + status, key -> new Meters(
+                DistributionSummary.builder("disney.request.allocated").baseUnit("bytes")
+                        .tag("method", method).tag("uri", uri).tag("status", String.valueOf(status))
+                        .register(meterRegistry),
+                Timer.builder("disney.request.cpu")
+                        .tag("method", method).tag("uri", uri).tag("status", String.valueOf(status))
+                        .register(meterRegistry),
+                Counter.builder("disney.request.resources.unmeasured")
+                        .tag("method", method).tag("uri", uri).tag("status", String.valueOf(status))
+                        .register(meterRegistry)));
+    }
+
+    private long allocatedBytes() {
+        return allocationSupported ? threads.getCurrentThreadAllocatedBytes() : UNMEASURED;
+    }
+
+    // read again only when the first read succeeded
+    private long allocatedBytes(long before) {
+        return before == UNMEASURED ? UNMEASURED : allocatedBytes();
+    }
+
+    private long cpuTime() {
+        return cpuTimeSupported ? threads.getCurrentThreadCpuTime() : UNMEASURED;
+    }
+
+    private long cpuTime(long before) {
+        return before == UNMEASURED ? UNMEASURED : cpuTime();
+    }
+
+    private static long difference(long before, long after) {
+        return before == UNMEASURED || after == UNMEASURED ? UNMEASURED : after - before;
+    }
+}
@@ -0,0 +1,14 @@
+package com.disney.config.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "disney.metrics.resources")
+public record RequestResourceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1.0") double sampleRate,
+        @DefaultValue("500ms") Duration slowThreshold
+) {
+}
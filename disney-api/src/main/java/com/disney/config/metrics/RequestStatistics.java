@@ -0,0 +1,60 @@
+package com.disney.config.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+import java.util.Objects;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entities it loads on the current request thread, through the
+ * {@link StatementInspector} and {@link Interceptor} hooks of the session factory. The batch loaders query on their
+ * own threads for several requests at once, that work is not counted here.
+ */
+public class RequestStatistics implements StatementInspector, Interceptor {
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public static final class Counts {
+        private int statements;
+        private int entityLoads;
+
+        public int statements() {
+            return statements;
+        }
+
+        public int entityLoads() {
+            return entityLoads;
+        }
+    }
+
+    public void begin() {
+        CURRENT.set(new Counts());
+    }
+
+    public Counts end() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return Objects.isNull(counts) ? new Counts() : counts;
+    }
+
+    // the counts so far of the request on this thread, null outside one
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = CURRENT.get();
+        if (Objects.nonNull(counts))
+            counts.statements++;
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        Counts counts = CURRENT.get();
+        if (Objects.nonNull(counts))
+            counts.entityLoads++;
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.disney.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the statements and entity loads of every request as {@code disney.request.statements} and
+ * {@code disney.request.entity.loads}, tagged like {@code http.server.requests} with the method and the URI template.
+ * The response is written inside the chain, so the lazy loads made while serializing a page are included.
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+    private final RequestStatistics statistics;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Summaries> summaries = new ConcurrentHashMap<>();
+
+    private record Summaries(DistributionSummary statements, DistributionSummary entityLoads) {
+    }
+
+    public RequestStatisticsFilter(RequestStatistics statistics, MeterRegistry meterRegistry) {
+        this.statistics = statistics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        statistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.Counts counts = statistics.end();
+            Summaries route = summaries(request.getMethod(), RouteTemplate.of(request));
+            route.statements().record(counts.statements());
+            route.entityLoads().record(counts.entityLoads());
+        }
+    }
+
+    private Summaries summaries(String method, String uri) {
+        return summaries.computeIfAbsent(method + ' ' + uri, key -> new Summaries(
+                DistributionSummary.builder("disney.request.statements")
+                        .tag("method", method).tag("uri", uri).register(meterRegistry),
+                DistributionSummary.builder("disney.request.entity.loads")
+                        .tag("method", method).tag("uri", uri).register(meterRegistry)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.disney.config.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Objects;
+
+public final class RouteTemplate {
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private RouteTemplate() {
+    }
+
+    // the template the handler was mapped with, a raw path would give every ID its own time series
+    public static String of(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Objects.isNull(pattern) ? UNKNOWN : pattern.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package com.disney.config.ratelimit;
+
+import com.disney.model.HttpCodeResponse;
+import com.disney.model.dto.response.ApiErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Rejects a request with 429 and a {@code Retry-After} header once its client has used up the bucket of the
+ * request's route class. Safe methods are reads, a GET of a bulk path lists a collection; everything else is a
+ * write. Paths outside the limited ones, the actuator endpoints among them, are never limited. A client is the remote
+ * address: a header the client sets itself would let it pick a fresh bucket on every request. Behind a proxy the
+ * address is the forwarded one, which {@code server.forward-headers-strategy} only takes from trusted proxies. The
+ * exempt requests, those of the warm-up, are never limited either.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimiter rateLimiter;
+    private final List<PathPattern> paths;
+    private final List<PathPattern> bulkPaths;
+    private final Predicate<HttpServletRequest> exempt;
+    private final ObjectMapper objectMapper;
+    private final Map<RouteClass, Counter> rejected = new EnumMap<>(RouteClass.class);
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties,
+                           Predicate<HttpServletRequest> exempt, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.paths = properties.paths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.bulkPaths = properties.bulkPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.exempt = exempt;
+        this.objectMapper = objectMapper;
+        for (RouteClass routeClass : RouteClass.values())
+            rejected.put(routeClass, Counter.builder("disney.ratelimit.rejected")
+                    .tag("class", routeClass.name().toLowerCase()).register(meterRegistry));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        if (!matches(paths, path) || exempt.test(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RouteClass routeClass = routeClass(request.getMethod(), path);
+        Duration wait = rateLimiter.acquire(request.getRemoteAddr(), routeClass);
+        if (wait.isZero()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejected.get(routeClass).increment();
+        reject(request, response, wait);
+    }
+
+    private RouteClass routeClass(String method, PathContainer path) {
+        boolean safe = HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+                || HttpMethod.OPTIONS.matches(method);
+        if (!safe)
+            return RouteClass.WRITE;
+        return HttpMethod.GET.matches(method) && matches(bulkPaths, path) ? RouteClass.BULK : RouteClass.READ;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Duration wait) throws IOException {
+        // whole seconds, rounded up so a client that waits as told is let through
+        long seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .message("Too many requests, retry in " + seconds + " s")
+                .path("uri=" + request.getRequestURI())
+                .errorCode(HttpCodeResponse.RATE_LIMITED)
+                .build());
+    }
+
+    private static boolean matches(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns)
+            if (pattern.matches(path))
+                return true;
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package com.disney.config.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Token buckets per client and route class: {@code capacity} requests may be made at once, after which they are let
+ * through at {@code refill-per-second}. A client is its address, the one a trusted proxy forwarded when there is one.
+ * At most {@code max-clients} get buckets of their own, the clients seen after that share one until idle ones go.
+ */
+@ConfigurationProperties(prefix = "disney.ratelimit")
+public record RateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/api/**") List<String> paths,
+        @DefaultValue("/api/v1/*") List<String> bulkPaths,
+        @DefaultValue Limit reads,
+        @DefaultValue Limit writes,
+        @DefaultValue Limit bulk,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue("100000") int maxClients
+) {
+    public record Limit(
+            @DefaultValue("100") int capacity,
+            @DefaultValue("50") double refillPerSecond
+    ) {
+    }
+}
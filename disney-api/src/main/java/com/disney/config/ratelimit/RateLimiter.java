@@ -0,0 +1,121 @@
+package com.disney.config.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * The token buckets of every client, one per route class. Each bucket is a single long, the time at which it will
+ * be full again (the generic cell rate algorithm): taking a token moves that time one refill interval forward with a
+ * compare-and-set, so requests never lock and a client's buckets are only contended by that client. The map itself
+ * only locks a bin the first time a client is seen. Buckets that have been full for the idle timeout are dropped;
+ * a full bucket is what a new client gets, so dropping one loses nothing. Once the map holds the maximum clients,
+ * the new ones take their tokens from shared overflow buckets, so spoofed or rotated addresses cannot grow it without
+ * bound, only crowd each other out.
+ */
+public class RateLimiter implements AutoCloseable {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final long[] intervals = new long[RouteClass.values().length];
+    private final long[] bursts = new long[RouteClass.values().length];
+    private final long idleTimeout;
+    private final int maxClients;
+    private final LongSupplier clock;
+    private final Map<String, AtomicLongArray> clients = new ConcurrentHashMap<>();
+    private final AtomicLongArray overflow;
+    private final ScheduledExecutorService evictor;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    public RateLimiter(RateLimitProperties properties, LongSupplier clock) {
+        configure(RouteClass.READ, properties.reads());
+        configure(RouteClass.WRITE, properties.writes());
+        configure(RouteClass.BULK, properties.bulk());
+        if (properties.maxClients() <= 0)
+            throw new IllegalArgumentException("The maximum clients must be positive");
+        this.idleTimeout = properties.idleTimeout().toNanos();
+        this.maxClients = properties.maxClients();
+        this.clock = clock;
+        this.overflow = full(clock.getAsLong());
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        long interval = Math.max(1, idleTimeout / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Takes a token from the client's bucket of the route class.
+     *
+     * @return zero when the request may go ahead, otherwise how long until a token is available
+     */
+    public Duration acquire(String client, RouteClass routeClass) {
+        int bucket = routeClass.ordinal();
+        long now = clock.getAsLong();
+        AtomicLongArray buckets = buckets(client, now);
+        while (true) {
+            long fullAt = buckets.get(bucket);
+            long next = Math.max(fullAt, now) + intervals[bucket];
+            long wait = next - now - bursts[bucket];
+            if (wait > 0)
+                return Duration.ofNanos(wait);
+            if (buckets.compareAndSet(bucket, fullAt, next))
+                return Duration.ZERO;
+        }
+    }
+
+    // the size is read before adding, concurrent new clients may pass the maximum by a few
+    private AtomicLongArray buckets(String client, long now) {
+        AtomicLongArray buckets = clients.get(client);
+        if (buckets != null)
+            return buckets;
+        if (clients.size() >= maxClients)
+            return overflow;
+        return clients.computeIfAbsent(client, key -> full(now));
+    }
+
+    public int clients() {
+        return clients.size();
+    }
+
+    public void evictIdle() {
+        long idleSince = clock.getAsLong() - idleTimeout;
+        // a request racing the removal takes its token from the dropped buckets, at worst one token is forgiven
+        clients.values().removeIf(buckets -> {
+            for (int i = 0; i < buckets.length(); i++)
+                if (buckets.get(i) - idleSince > 0)
+                    return false;
+            return true;
+        });
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdown();
+    }
+
+    private void configure(RouteClass routeClass, RateLimitProperties.Limit limit) {
+        if (limit.capacity() <= 0 || limit.refillPerSecond() <= 0)
+            throw new IllegalArgumentException("The " + routeClass + " limit must be positive");
+        intervals[routeClass.ordinal()] = Math.max(1, (long) (NANOS_PER_SECOND / limit.refillPerSecond()));
+        bursts[routeClass.ordinal()] = intervals[routeClass.ordinal()] * limit.capacity();
+    }
+
+    private static AtomicLongArray full(long now) {
+        AtomicLongArray buckets = new AtomicLongArray(RouteClass.values().length);
+        for (int i = 0; i < buckets.length(); i++)
+            buckets.set(i, now);
+        return buckets;
+    }
+}
@@ -0,0 +1,8 @@
+package com.disney.config.ratelimit;
+
+/**
+ * What a request costs the database: a single read, a write, or a bulk read of a whole page of a collection.
+ */
+public enum RouteClass {
+    READ, WRITE, BULK
+}
@@ -0,0 +1,11 @@
+package com.disney.config.requests;
+
+import java.time.Instant;
+
+/**
+ * One served request. {@code statements} is -1 when the request statistics are off, {@code handler} is the
+ * controller method, e.g. {@code listMovies}, or null when no handler matched.
+ */
+public record RecentRequest(Instant at, String method, String route, String handler, String uri, String query,
+                            int status, double durationMillis, int statements, long bytes) {
+}
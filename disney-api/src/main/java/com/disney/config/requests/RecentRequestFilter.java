@@ -0,0 +1,60 @@
+package com.disney.config.requests;
+
+import com.disney.config.metrics.CountingResponse;
+import com.disney.config.metrics.RequestStatistics;
+import com.disney.config.metrics.RouteTemplate;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Records every request in {@link RecentRequests}. It runs inside the request statistics filter, so the statement
+ * count is read before that filter clears it.
+ */
+public class RecentRequestFilter extends OncePerRequestFilter {
+    private final RecentRequests recentRequests;
+    private final int maxQueryLength;
+
+    public RecentRequestFilter(RecentRequests recentRequests, int maxQueryLength) {
+        this.recentRequests = recentRequests;
+        this.maxQueryLength = maxQueryLength;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        CountingResponse countingResponse = new CountingResponse(response);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            double durationMillis = (System.nanoTime() - start) / 1_000_000.0;
+            RequestStatistics.Counts counts = RequestStatistics.current();
+            recentRequests.record(new RecentRequest(Instant.now(), request.getMethod(), RouteTemplate.of(request),
+                    handler(request), request.getRequestURI(), query(request), response.getStatus(), durationMillis,
+                    Objects.isNull(counts) ? -1 : counts.statements(), countingResponse.written()));
+        }
+    }
+
+    private String query(HttpServletRequest request) {
+        String query = request.getQueryString();
+        if (Objects.isNull(query) || query.length() <= maxQueryLength)
+            return query;
+        return query.substring(0, maxQueryLength);
+    }
+
+    private static String handler(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                ? handler.getMethod().getName()
+                : null;
+    }
+}
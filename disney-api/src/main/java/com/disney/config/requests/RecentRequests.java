@@ -0,0 +1,59 @@
+package com.disney.config.requests;
+
+import com.disney.config.tracing.RecentRing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The last requests served, kept in one {@link RecentRing} per stripe so that request threads on different cores
+ * mostly increment different counters. A thread always writes to the same stripe; the stripes are merged and
+ * ordered by time when read, so the history is the most recent {@code capacity / stripes} of each stripe rather
+ * than exactly the last {@code capacity} requests.
+ */
+public class RecentRequests {
+    private final RecentRing<RecentRequest>[] stripes;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    public RecentRequests(int capacity, int stripes) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The capacity must be positive");
+        int count = Integer.highestOneBit(Math.max(1, Math.min(stripes, capacity)));
+        this.stripes = new RecentRing[count];
+        // each ring's slot array sits between the counters, so neighbouring stripes do not share a cache line
+        for (int i = 0; i < count; i++)
+            this.stripes[i] = new RecentRing<>((capacity + count - 1) / count);
+        this.mask = count - 1;
+    }
+
+    // one stripe per core, rounded down to a power of two
+    public static int defaultStripes() {
+        return Integer.highestOneBit(Runtime.getRuntime().availableProcessors());
+    }
+
+    public void record(RecentRequest request) {
+        stripes[stripe()].add(request);
+    }
+
+    // newest first
+    public List<RecentRequest> snapshot() {
+        List<RecentRequest> requests = new ArrayList<>();
+        for (RecentRing<RecentRequest> stripe : stripes)
+            requests.addAll(stripe.snapshot());
+        requests.sort(Comparator.comparing(RecentRequest::at).reversed());
+        return requests;
+    }
+
+    public void clear() {
+        for (RecentRing<RecentRequest> stripe : stripes)
+            stripe.clear();
+    }
+
+    private int stripe() {
+        // thread ids are sequential, mixed so that pool threads created together spread over the stripes
+        long id = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (id >>> 32) & mask;
+    }
+}
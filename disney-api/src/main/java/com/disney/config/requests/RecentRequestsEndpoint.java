@@ -0,0 +1,68 @@
+package com.disney.config.requests;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * /actuator/requests, filtered by any of handler, route, method, status, age and minimum duration, e.g. the
+ * slowest 50 {@code listMovies} calls of the last minute:
+ * {@code /actuator/requests?handler=listMovies&since=1m&order=slowest&limit=50}.
+ */
+@Endpoint(id = "requests")
+public class RecentRequestsEndpoint {
+    private static final int DEFAULT_LIMIT = 100;
+    private final RecentRequests recentRequests;
+
+    public enum Order {
+        RECENT, SLOWEST
+    }
+
+    public RecentRequestsEndpoint(RecentRequests recentRequests) {
+        this.recentRequests = recentRequests;
+    }
+
+    @ReadOperation
+    public List<RecentRequest> requests(@Nullable String handler, @Nullable String route, @Nullable String method,
+                                        @Nullable Integer status, @Nullable Duration since,
+                                        @Nullable Double minMillis, @Nullable Order order,
+                                        @Nullable Integer limit) {
+        Predicate<RecentRequest> filter = request -> true;
+        if (Objects.nonNull(handler))
+            filter = filter.and(request -> handler.equals(request.handler()));
+        if (Objects.nonNull(route))
+            filter = filter.and(request -> route.equals(request.route()));
+        if (Objects.nonNull(method))
+            filter = filter.and(request -> method.equalsIgnoreCase(request.method()));
+        if (Objects.nonNull(status))
+            filter = filter.and(request -> request.status() == status);
+        if (Objects.nonNull(since)) {
+            Instant after = Instant.now().minus(since);
+            filter = filter.and(request -> request.at().isAfter(after));
+        }
+        if (Objects.nonNull(minMillis))
+            filter = filter.and(request -> request.durationMillis() >= minMillis);
+        // the snapshot is newest first already
+        Comparator<RecentRequest> ordering = order == Order.SLOWEST
+                ? Comparator.comparingDouble(RecentRequest::durationMillis).reversed()
+                : (first, second) -> 0;
+        return recentRequests.snapshot().stream()
+                .filter(filter)
+                .sorted(ordering)
+                .limit(Objects.isNull(limit) ? DEFAULT_LIMIT : limit)
+                .toList();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recentRequests.clear();
+    }
+}
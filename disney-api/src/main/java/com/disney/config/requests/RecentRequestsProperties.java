@@ -0,0 +1,13 @@
+package com.disney.config.requests;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "disney.requests.recent")
+public record RecentRequestsProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("4096") int capacity,
+        @DefaultValue("0") int stripes,
+        @DefaultValue("256") int maxQueryLength
+) {
+}
@@ -0,0 +1,173 @@
+package com.disney.config.singleflight;
+
+import com.disney.config.metrics.RouteTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Lets one of several identical GETs in flight at the same time run, and hands its response to the others. Two
+ * requests are identical when they have the same path, the same parameters in any order and the same
+ * {@code Accept} header; the API answers every client the same, so nothing else can change the response. A
+ * request that waits longer than the timeout for the one running, or whose leader failed, runs on its own.
+ * The requests served a shared response do not reach the filters after this one. A client pinned to the primary
+ * after a write runs its requests itself, a shared response may have been read from a replica behind its write.
+ */
+public class SingleFlightFilter extends OncePerRequestFilter {
+    private static final String LEADER = "leader";
+    private static final String SHARED = "shared";
+    private static final String TIMEOUT = "timeout";
+    private static final String FAILED = "failed";
+    private final List<PathPattern> paths;
+    private final long timeoutNanos;
+    private final BooleanSupplier bypass;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> outcomes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DistributionSummary> sharedPerFlight = new ConcurrentHashMap<>();
+
+    // what the leader wrote, replayed to the requests that waited for it
+    private record SharedResponse(String route, int status, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<SharedResponse> response = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+
+    public SingleFlightFilter(SingleFlightProperties properties, BooleanSupplier bypass, MeterRegistry meterRegistry) {
+        this.paths = properties.paths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.timeoutNanos = properties.timeout().toNanos();
+        this.bypass = bypass;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public int inFlight() {
+        return flights.size();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()))
+            return true;
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (PathPattern pattern : paths)
+            if (pattern.matches(path))
+                return false;
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (bypass.getAsBoolean()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = key(request);
+        Flight flight = new Flight();
+        Flight running = flights.putIfAbsent(key, flight);
+        if (Objects.isNull(running)) {
+            lead(key, flight, request, response, filterChain);
+            return;
+        }
+        running.followers.incrementAndGet();
+        SharedResponse shared;
+        try {
+            shared = running.response.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            filterChain.doFilter(request, response);
+            outcome(RouteTemplate.of(request), TIMEOUT);
+            return;
+        } catch (ExecutionException e) {
+            filterChain.doFilter(request, response);
+            outcome(RouteTemplate.of(request), FAILED);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for an identical request", e);
+        }
+        outcome(shared.route(), SHARED);
+        replay(shared, response);
+    }
+
+    private void lead(String key, Flight flight, HttpServletRequest request, HttpServletResponse response,
+                      FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, bufferedResponse);
+            String route = RouteTemplate.of(request);
+            // removed before the waiters are woken, a request arriving from now on starts a new flight
+            flights.remove(key, flight);
+            flight.response.complete(new SharedResponse(route, bufferedResponse.getStatus(), headers(bufferedResponse),
+                    bufferedResponse.getContentAsByteArray()));
+            outcome(route, LEADER);
+            sharedPerFlight(route).record(flight.followers.get());
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.response.completeExceptionally(e);
+            throw e;
+        } finally {
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        // sorted by name, the values of each in the order given, which can matter
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet())
+            for (String value : parameter.getValue()) {
+                key.append(separator).append(parameter.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        return key.append(" accept=").append(Objects.toString(request.getHeader(HttpHeaders.ACCEPT), "")).toString();
+    }
+
+    private static Map<String, List<String>> headers(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames())
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name))
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+        // depending on the version, the buffering wrapper holds the content type back until the body is copied
+        if (Objects.nonNull(response.getContentType()) && !headers.containsKey(HttpHeaders.CONTENT_TYPE))
+            headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+        return headers;
+    }
+
+    private static void replay(SharedResponse shared, HttpServletResponse response) throws IOException {
+        response.setStatus(shared.status());
+        shared.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentLength(shared.body().length);
+        response.getOutputStream().write(shared.body());
+    }
+
+    private void outcome(String route, String outcome) {
+        outcomes.computeIfAbsent(route + ' ' + outcome, key -> Counter.builder("disney.singleflight.requests")
+                .tag("uri", route).tag("outcome", outcome).register(meterRegistry)).increment();
+    }
+
+    private DistributionSummary sharedPerFlight(String route) {
+        return sharedPerFlight.computeIfAbsent(route, key -> DistributionSummary.builder("disney.singleflight.shared")
+                .tag("uri", route).register(meterRegistry));
+    }
+}
@@ -0,0 +1,15 @@
+package com.disney.config.singleflight;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "disney.singleflight")
+public record SingleFlightProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/api/**") List<String> paths,
+        @DefaultValue("2s") Duration timeout
+) {
+}
@@ -0,0 +1,10 @@
+package com.disney.config.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "disney.startup")
+public record StartupProperties(
+        @DefaultValue("false") boolean exitWhenReady
+) {
+}
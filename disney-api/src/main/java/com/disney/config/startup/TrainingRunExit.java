@@ -0,0 +1,33 @@
+package com.disney.config.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Ends a training run: once the application is ready, which is after the schema was validated, the caches filled
+ * and the warm-up mix replayed, the context is closed and the JVM exits. Started with
+ * {@code -XX:ArchiveClassesAtExit}, the exit is what writes the class-data-sharing archive, so it holds every class
+ * a real start loads and nothing a request loads later.
+ * <p>
+ * The property is read at run time rather than as a condition on the bean, the AOT processed context fixes its
+ * conditions when the application is built.
+ */
+public class TrainingRunExit implements ApplicationListener<ApplicationReadyEvent> {
+    private final Logger logger = LoggerFactory.getLogger(TrainingRunExit.class);
+    private final StartupProperties properties;
+
+    public TrainingRunExit(StartupProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!properties.exitWhenReady())
+            return;
+        logger.info("Training run ready in {}, exiting", event.getTimeTaken());
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
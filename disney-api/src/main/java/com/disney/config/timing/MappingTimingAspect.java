@@ -0,0 +1,25 @@
+package com.disney.config.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Objects;
+
+// the mappers are already proxied for validation, this adds one more interceptor to them
+@Aspect
+public class MappingTimingAspect {
+
+    @Around("within(com.disney.model.mapper.implementation..*)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServerTiming timing = ServerTiming.current();
+        if (Objects.isNull(timing))
+            return joinPoint.proceed();
+        timing.mappingStarted();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.mappingEnded();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.disney.config.timing;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The time spent in each phase of the current request, collected while the client asked for a {@code Server-Timing}
+ * header. The phases overlap: a page is mapped while it is serialized and mapping can load lazy associations, so
+ * they do not add up to the total.
+ */
+public final class ServerTiming {
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private final long start = System.nanoTime();
+    private long dbNanos;
+    private int statements;
+    private long mappingNanos;
+    // mappers call each other through their proxies, only the outermost call is timed
+    private int mappingDepth;
+    private long mappingStart;
+    private long serializationStart;
+    private long serializationNanos;
+    private int cacheHits;
+    private int cacheMisses;
+
+    private ServerTiming() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new ServerTiming());
+    }
+
+    public static ServerTiming end() {
+        ServerTiming timing = CURRENT.get();
+        CURRENT.remove();
+        if (Objects.nonNull(timing) && timing.serializationStart != 0)
+            timing.serializationNanos = System.nanoTime() - timing.serializationStart;
+        return timing;
+    }
+
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    public void statement(long nanos) {
+        dbNanos += nanos;
+        statements++;
+    }
+
+    public void mappingStarted() {
+        if (mappingDepth++ == 0)
+            mappingStart = System.nanoTime();
+    }
+
+    public void mappingEnded() {
+        if (--mappingDepth == 0)
+            mappingNanos += System.nanoTime() - mappingStart;
+    }
+
+    // the body is written once per request, from here until the filter gets the response back
+    public void serializationStarted() {
+        if (serializationStart == 0)
+            serializationStart = System.nanoTime();
+    }
+
+    public void cacheLookup(boolean hit) {
+        if (hit)
+            cacheHits++;
+        else
+            cacheMisses++;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public String header() {
+        StringBuilder header = new StringBuilder(160);
+        metric(header, "db", dbNanos).append(";desc=\"").append(statements)
+                .append(statements == 1 ? " statement\"" : " statements\"");
+        metric(header.append(", "), "mapping", mappingNanos);
+        metric(header.append(", "), "serialization", serializationNanos);
+        if (cacheHits + cacheMisses > 0)
+            header.append(", cache;desc=\"").append(cacheHits).append(" hit, ").append(cacheMisses).append(" miss\"");
+        metric(header.append(", "), "total", System.nanoTime() - start);
+        return header.toString();
+    }
+
+    private static StringBuilder metric(StringBuilder header, String name, long nanos) {
+        return header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0));
+    }
+}
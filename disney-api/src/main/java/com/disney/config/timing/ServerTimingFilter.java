@@ -0,0 +1,63 @@
+package com.disney.config.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * Adds a {@code Server-Timing} header to the responses of the requests that carry the configured request header
+ * with the configured token as its value, or to every response when {@code always} is on. Without {@code always} a
+ * token is required, the breakdown tells a client how long the database takes and must not reach anyone. The
+ * body of those responses is held until the request completes, so the header can still be sent ahead of it.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+    public static final String SERVER_TIMING = "Server-Timing";
+    private final ServerTimingProperties properties;
+    private final byte[] token;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        if (!properties.always() && !StringUtils.hasLength(properties.token()))
+            throw new IllegalArgumentException("disney.server-timing.token must be set unless always is on");
+        this.properties = properties;
+        this.token = properties.token().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!requested(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        ServerTiming.begin();
+        try {
+            filterChain.doFilter(request, bufferedResponse);
+        } finally {
+            ServerTiming timing = ServerTiming.end();
+            if (!response.isCommitted())
+                response.addHeader(SERVER_TIMING, timing.header());
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+
+    private boolean requested(HttpServletRequest request) {
+        if (properties.always())
+            return true;
+        String value = request.getHeader(properties.requestHeader());
+        if (Objects.isNull(value))
+            return false;
+        // compared in constant time, the token is what keeps the breakdown from any client
+        return MessageDigest.isEqual(token, value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package com.disney.config.timing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "disney.server-timing")
+public record ServerTimingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("false") boolean always,
+        @DefaultValue("X-Server-Timing") String requestHeader,
+        @DefaultValue("") String token
+) {
+}
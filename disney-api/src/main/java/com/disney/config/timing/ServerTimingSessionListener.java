@@ -0,0 +1,55 @@
+package com.disney.config.timing;
+
+import org.hibernate.SessionEventListener;
+
+import java.util.Objects;
+
+/**
+ * Times the statements and counts the second-level cache lookups of every Hibernate session opened on a timed
+ * request thread. Hibernate creates one per session; on any other thread it only checks for a timing. The batch
+ * loaders query on their own threads, that time shows up in the request only as waiting.
+ */
+public class ServerTimingSessionListener implements SessionEventListener {
+    private ServerTiming timing;
+    private long statementStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        ended();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        ended();
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        ServerTiming current = ServerTiming.current();
+        if (Objects.nonNull(current))
+            current.cacheLookup(hit);
+    }
+
+    private void started() {
+        timing = ServerTiming.current();
+        if (Objects.nonNull(timing))
+            statementStart = System.nanoTime();
+    }
+
+    private void ended() {
+        if (Objects.nonNull(timing)) {
+            timing.statement(System.nanoTime() - statementStart);
+            timing = null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.disney.config.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent entries. Writers claim a slot with a single atomic increment and overwrite
+ * whatever was there, no writer waits for another; a snapshot may miss an entry that is being written.
+ */
+public class RecentRing<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong next = new AtomicLong();
+
+    public RecentRing(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The ring capacity must be positive");
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(T entry) {
+        slots.set((int) (next.getAndIncrement() % slots.length()), Objects.requireNonNull(entry));
+    }
+
+    // the entries currently held, newest first
+    public List<T> snapshot() {
+        long last = next.get();
+        int size = (int) Math.min(last, slots.length());
+        List<T> entries = new ArrayList<>(size);
+        for (long i = last - 1; i >= last - size; i--) {
+            T entry = slots.get((int) (i % slots.length()));
+            if (Objects.nonNull(entry))
+                entries.add(entry);
+        }
+        return entries;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++)
+            slots.set(i, null);
+    }
+}
@@ -0,0 +1,91 @@
+package com.disney.config.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The statements executed on the current request thread while it is being traced. Only sampled requests carry a
+ * trace, every other request and the batch loader threads see none and their statements are not wrapped.
+ */
+public final class SqlTrace {
+    private static final ThreadLocal<SqlTrace> CURRENT = new ThreadLocal<>();
+    private final int maxStatements;
+    private final List<Execution> executions;
+    private int dropped;
+
+    public static final class Execution {
+        private final String sql;
+        private final long durationNanos;
+        private long rows;
+
+        Execution(String sql, long durationNanos, long rows) {
+            this.sql = sql;
+            this.durationNanos = durationNanos;
+            this.rows = rows;
+        }
+
+        public String sql() {
+            return sql;
+        }
+
+        public long durationNanos() {
+            return durationNanos;
+        }
+
+        // rows read through the result set, or the update count
+        public long rows() {
+            return rows;
+        }
+
+        void addRow() {
+            rows++;
+        }
+    }
+
+    private SqlTrace(int maxStatements) {
+        this.maxStatements = maxStatements;
+        this.executions = new ArrayList<>(Math.min(maxStatements, 16));
+    }
+
+    public static void begin(int maxStatements) {
+        CURRENT.set(new SqlTrace(maxStatements));
+    }
+
+    public static SqlTrace end() {
+        SqlTrace trace = CURRENT.get();
+        CURRENT.remove();
+        return trace;
+    }
+
+    public static SqlTrace current() {
+        return CURRENT.get();
+    }
+
+    public static boolean isActive() {
+        return Objects.nonNull(CURRENT.get());
+    }
+
+    Execution record(String sql, long durationNanos, long rows) {
+        Execution execution = new Execution(sql, durationNanos, rows);
+        if (executions.size() < maxStatements)
+            executions.add(execution);
+        else
+            dropped++;
+        return execution;
+    }
+
+    public List<Execution> executions() {
+        return Collections.unmodifiableList(executions);
+    }
+
+    // statements past the per-request limit, counted but not kept
+    public int dropped() {
+        return dropped;
+    }
+
+    public int statementCount() {
+        return executions.size() + dropped;
+    }
+}
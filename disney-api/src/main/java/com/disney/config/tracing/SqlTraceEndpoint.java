@@ -0,0 +1,35 @@
+package com.disney.config.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+// /actuator/sqltrace
+@Endpoint(id = "sqltrace")
+public class SqlTraceEndpoint {
+    private final SqlTraceProperties properties;
+    private final SqlTraceLog traceLog;
+
+    public record SqlTraceReport(double sampleRate, double slowThresholdMillis,
+                                 List<SqlTraceLog.SlowQuery> slowQueries,
+                                 List<SqlTraceLog.RepeatedStatement> repeatedStatements) {
+    }
+
+    public SqlTraceEndpoint(SqlTraceProperties properties, SqlTraceLog traceLog) {
+        this.properties = properties;
+        this.traceLog = traceLog;
+    }
+
+    @ReadOperation
+    public SqlTraceReport report() {
+        return new SqlTraceReport(properties.sampleRate(), properties.slowThreshold().toNanos() / 1_000_000.0,
+                traceLog.slowQueries(), traceLog.repeatedStatements());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        traceLog.clear();
+    }
+}
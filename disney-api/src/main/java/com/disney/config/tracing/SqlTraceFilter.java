@@ -0,0 +1,40 @@
+package com.disney.config.tracing;
+
+import com.disney.config.metrics.RouteTemplate;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Traces the SQL of a sample of the requests, the rest run without a trace and their statements are not wrapped.
+ */
+public class SqlTraceFilter extends OncePerRequestFilter {
+    private final SqlTraceProperties properties;
+    private final SqlTraceLog traceLog;
+
+    public SqlTraceFilter(SqlTraceProperties properties, SqlTraceLog traceLog) {
+        this.properties = properties;
+        this.traceLog = traceLog;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (ThreadLocalRandom.current().nextDouble() >= properties.sampleRate()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        SqlTrace.begin(properties.maxStatementsPerRequest());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            traceLog.record(request.getMethod(), RouteTemplate.of(request), SqlTrace.end());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.disney.config.tracing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the slow statements and the statements repeated within one request (the N+1 pattern, e.g. a
+ * {@code findById} per ID) seen in the traced requests, in two bounded rings, and counts them as
+ * {@code disney.sql.trace.slow} and {@code disney.sql.trace.repeated} by method and URI template.
+ */
+public class SqlTraceLog {
+    private final Logger logger = LoggerFactory.getLogger(SqlTraceLog.class);
+    private final SqlTraceProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final RecentRing<SlowQuery> slowQueries;
+    private final RecentRing<RepeatedStatement> repeatedStatements;
+    private final Counter tracedRequests;
+
+    public record SlowQuery(Instant at, String method, String uri, String sql, double durationMillis, long rows) {
+    }
+
+    public record RepeatedStatement(Instant at, String method, String uri, String sql, int executions,
+                                    double totalMillis) {
+    }
+
+    public SqlTraceLog(SqlTraceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+        this.slowQueries = new RecentRing<>(properties.slowQueryCapacity());
+        this.repeatedStatements = new RecentRing<>(properties.repeatedStatementCapacity());
+        this.tracedRequests = Counter.builder("disney.sql.trace.requests").register(meterRegistry);
+    }
+
+    public void record(String method, String uri, SqlTrace trace) {
+        tracedRequests.increment();
+        Instant now = Instant.now();
+        Map<String, Repeats> repeats = new HashMap<>();
+        for (SqlTrace.Execution execution : trace.executions()) {
+            repeats.computeIfAbsent(execution.sql(), sql -> new Repeats()).add(execution.durationNanos());
+            if (execution.durationNanos() >= slowThresholdNanos) {
+                slowQueries.add(new SlowQuery(now, method, uri, execution.sql(), millis(execution.durationNanos()),
+                        execution.rows()));
+                Counter.builder("disney.sql.trace.slow").tag("method", method).tag("uri", uri)
+                        .register(meterRegistry).increment();
+            }
+        }
+        repeats.forEach((sql, repeat) -> {
+            if (repeat.executions < properties.repeatThreshold())
+                return;
+            repeatedStatements.add(new RepeatedStatement(now, method, uri, sql, repeat.executions,
+                    millis(repeat.totalNanos)));
+            Counter.builder("disney.sql.trace.repeated").tag("method", method).tag("uri", uri)
+                    .register(meterRegistry).increment();
+            logger.warn("Statement executed {} times by {} {}, possible N+1: {}", repeat.executions, method, uri, sql);
+        });
+        if (logger.isDebugEnabled())
+            trace.executions().forEach(execution -> logger.debug("{} {} {} ms, {} rows: {}", method, uri,
+                    millis(execution.durationNanos()), execution.rows(), execution.sql()));
+        if (trace.dropped() > 0)
+            logger.debug("{} {} executed {} statements, the last {} were not kept", method, uri,
+                    trace.statementCount(), trace.dropped());
+    }
+
+    // slowest first
+    public List<SlowQuery> slowQueries() {
+        return slowQueries.snapshot().stream()
+                .sorted(Comparator.comparingDouble(SlowQuery::durationMillis).reversed())
+                .toList();
+    }
+
+    // newest first
+    public List<RepeatedStatement> repeatedStatements() {
+        return repeatedStatements.snapshot();
+    }
+
+    public void clear() {
+        slowQueries.clear();
+        repeatedStatements.clear();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Repeats {
+        private int executions;
+        private long totalNanos;
+
+        void add(long nanos) {
+            executions++;
+            totalNanos += nanos;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.disney.config.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "disney.sql.trace")
+public record SqlTraceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.05") double sampleRate,
+        @DefaultValue("100ms") Duration slowThreshold,
+        @DefaultValue("3") int repeatThreshold,
+        @DefaultValue("200") int maxStatementsPerRequest,
+        @DefaultValue("128") int slowQueryCapacity,
+        @DefaultValue("128") int repeatedStatementCapacity
+) {
+}
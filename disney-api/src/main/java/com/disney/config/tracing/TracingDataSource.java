@@ -0,0 +1,121 @@
+package com.disney.config.tracing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+
+/**
+ * Records the text, duration and rows of every statement into the {@link SqlTrace} of the current thread. A
+ * connection taken while no trace is active is handed out untouched, so unsampled requests only pay for the
+ * thread-local lookup.
+ */
+public class TracingDataSource extends DelegatingDataSource implements AutoCloseable {
+    private static final String BATCH = "<batch>";
+
+    public TracingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return SqlTrace.isActive() ? tracing(connection) : connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return SqlTrace.isActive() ? tracing(connection) : connection;
+    }
+
+    private static Connection tracing(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            // prepareStatement, prepareCall and createStatement, the proxy implements the declared statement type
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType()))
+                return tracing(statement, method.getReturnType(),
+                        Objects.nonNull(args) && args.length > 0 && args[0] instanceof String sql ? sql : null);
+            return result;
+        });
+    }
+
+    private static Object tracing(Statement statement, Class<?> type, String preparedSql) {
+        SqlTrace.Execution[] last = new SqlTrace.Execution[1];
+        return proxy(type, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = Objects.nonNull(args) && args.length > 0 && args[0] instanceof String text
+                        ? text : Objects.requireNonNullElse(preparedSql, BATCH);
+                long start = System.nanoTime();
+                Object result = invoke(statement, method, args);
+                long duration = System.nanoTime() - start;
+                SqlTrace trace = SqlTrace.current();
+                if (Objects.isNull(trace))
+                    return result;
+                last[0] = trace.record(sql, duration, updateCount(result));
+                return result instanceof ResultSet resultSet ? counting(resultSet, last[0]) : result;
+            }
+            Object result = invoke(statement, method, args);
+            if (name.equals("getResultSet") && result instanceof ResultSet resultSet && Objects.nonNull(last[0]))
+                return counting(resultSet, last[0]);
+            return result;
+        });
+    }
+
+    private static ResultSet counting(ResultSet resultSet, SqlTrace.Execution execution) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next"))
+                execution.addRow();
+            return result;
+        });
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Number count)
+            return Math.max(count.longValue(), 0);
+        long rows = 0;
+        if (result instanceof int[] counts)
+            for (int count : counts)
+                rows += Math.max(count, 0);
+        else if (result instanceof long[] counts)
+            for (long count : counts)
+                rows += Math.max(count, 0);
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals"))
+                        return proxy == args[0];
+                    if (method.getName().equals("hashCode"))
+                        return System.identityHashCode(proxy);
+                    return handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable)
+            closeable.close();
+    }
+}
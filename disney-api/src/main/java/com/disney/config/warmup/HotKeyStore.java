@@ -0,0 +1,101 @@
+package com.disney.config.warmup;
+
+import com.disney.service.cache.ResponseCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the hottest keys of the response caches to a properties file, one comma separated line per cache, on an
+ * interval and on shutdown, so the next start can load them before it takes traffic. Without a file configured
+ * nothing is read or written.
+ */
+public class HotKeyStore implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(HotKeyStore.class);
+    private final Map<String, ResponseCache<UUID, ?>> caches;
+    private final WarmUpProperties properties;
+    private final ScheduledExecutorService persister;
+
+    public HotKeyStore(Collection<? extends ResponseCache<UUID, ?>> caches, WarmUpProperties properties) {
+        this.caches = new LinkedHashMap<>();
+        caches.forEach(cache -> this.caches.put(cache.name(), cache));
+        this.properties = properties;
+        this.persister = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-key-persister");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        if (!StringUtils.hasText(properties.hotKeysFile()))
+            return;
+        long interval = properties.persistInterval().toNanos();
+        persister.scheduleWithFixedDelay(this::save, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    public List<UUID> load(String cache) {
+        if (!StringUtils.hasText(properties.hotKeysFile()))
+            return List.of();
+        Path file = Path.of(properties.hotKeysFile());
+        if (!Files.isReadable(file))
+            return List.of();
+        Properties saved = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            saved.load(reader);
+        } catch (IOException e) {
+            logger.warn("Hot keys could not be read from {}", file, e);
+            return List.of();
+        }
+        List<UUID> keys = new ArrayList<>();
+        for (String key : StringUtils.commaDelimitedListToStringArray(saved.getProperty(cache, ""))) {
+            try {
+                keys.add(UUID.fromString(key.trim()));
+            } catch (IllegalArgumentException e) {
+                logger.debug("Skipping hot key '{}' of cache '{}'", key, cache);
+            }
+        }
+        return keys.stream().limit(properties.hotKeys()).toList();
+    }
+
+    // written next to the file and moved over it, a crash mid-write leaves the previous list
+    public void save() {
+        if (!StringUtils.hasText(properties.hotKeysFile()))
+            return;
+        Path file = Path.of(properties.hotKeysFile()).toAbsolutePath();
+        Properties hot = new Properties();
+        caches.forEach((name, cache) -> hot.setProperty(name,
+                StringUtils.collectionToCommaDelimitedString(cache.hottest(properties.hotKeys()))));
+        // nothing read yet, e.g. stopped right after a start, keeps the list of the previous run
+        if (hot.values().stream().allMatch(""::equals))
+            return;
+        try {
+            Files.createDirectories(file.getParent());
+            Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                hot.store(writer, "hottest keys of the response caches");
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Hot keys could not be written to {}", file, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        persister.shutdown();
+        save();
+    }
+}
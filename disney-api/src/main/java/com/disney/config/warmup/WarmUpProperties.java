@@ -0,0 +1,17 @@
+package com.disney.config.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "disney.warmup")
+public record WarmUpProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("") String hotKeysFile,
+        @DefaultValue("100") int hotKeys,
+        @DefaultValue("5m") Duration persistInterval,
+        @DefaultValue("10") int rounds,
+        @DefaultValue("60s") Duration timeout
+) {
+}
@@ -0,0 +1,173 @@
+package com.disney.config.warmup;
+
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.repository.GenreRepository;
+import com.disney.service.cache.ResponseCache;
+import com.disney.util.ApiUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Warms a new instance up before it reports ready: Spring Boot only moves the readiness state to accepting traffic
+ * once the application runners have returned, so the probe keeps the instance out of the load balancer meanwhile.
+ * <p>
+ * The response caches are filled first, with every genre and the hot movies and characters the previous run
+ * persisted. Then a synthetic mix of the read endpoints, in every wire format and a different page each round, is
+ * sent to the embedded server over the loopback interface, which gets the filters, the Specification builders, the
+ * mappers and the Jackson serializers compiled before real requests need them. Those requests carry the
+ * {@link WarmUpToken}, the rate limiter would otherwise cut the warm-up short with 429s. Nothing here fails the
+ * start, a warm-up that errors or runs out of time is logged and the instance becomes ready anyway.
+ */
+public class WarmUpRunner implements ApplicationRunner {
+    private static final List<String> ACCEPT = List.of("application/json", "application/cbor",
+            "application/x-jackson-smile");
+    private final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+    private final WarmUpProperties properties;
+    private final HotKeyStore hotKeys;
+    private final WarmUpToken token;
+    private final GenreRepository genreRepository;
+    private final TransactionOperations readOnlyTransaction;
+    private final ResponseCache<UUID, MovieResponseDto> movieCache;
+    private final ResponseCache<UUID, CharacterResponseDto> characterCache;
+    private final ResponseCache<UUID, GenreResponseDto> genreCache;
+    private final ApplicationContext context;
+    private final Timer duration;
+
+    public WarmUpRunner(WarmUpProperties properties, HotKeyStore hotKeys, WarmUpToken token,
+                        GenreRepository genreRepository,
+                        TransactionOperations readOnlyTransaction,
+                        ResponseCache<UUID, MovieResponseDto> movieCache,
+                        ResponseCache<UUID, CharacterResponseDto> characterCache,
+                        ResponseCache<UUID, GenreResponseDto> genreCache, ApplicationContext context,
+                        MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hotKeys = hotKeys;
+        this.token = token;
+        this.genreRepository = genreRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.movieCache = movieCache;
+        this.characterCache = characterCache;
+        this.genreCache = genreCache;
+        this.context = context;
+        this.duration = Timer.builder("disney.warmup.duration").register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + properties.timeout().toNanos();
+        try {
+            List<UUID> genres = genreIds();
+            List<UUID> movies = hotKeys.load(movieCache.name());
+            List<UUID> characters = hotKeys.load(characterCache.name());
+            preload(genreCache, genres, deadline);
+            preload(movieCache, movies, deadline);
+            preload(characterCache, characters, deadline);
+            int requests = replay(genres, movies, characters, deadline);
+            logger.info("Warmed up with {} genres, {} movies and {} characters cached and {} requests in {} ms",
+                    genreCache.size(), movieCache.size(), characterCache.size(), requests,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            logger.warn("Warm-up failed, the instance becomes ready without it", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<UUID> genreIds() {
+        return Objects.requireNonNullElse(readOnlyTransaction.execute(status -> {
+            try (Stream<UUID> genres = genreRepository.streamIds()) {
+                return genres.toList();
+            }
+        }), List.of());
+    }
+
+    // all at once, the loader batches them into a few queries
+    private static <V> void preload(ResponseCache<UUID, V> cache, List<UUID> keys, long deadline) {
+        List<CompletableFuture<V>> loads = keys.stream().map(cache::load).toList();
+        CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new))
+                .completeOnTimeout(null, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                .exceptionally(failure -> null)
+                .join();
+    }
+
+    private int replay(List<UUID> genres, List<UUID> movies, List<UUID> characters, long deadline)
+            throws InterruptedException {
+        if (!(context instanceof WebServerApplicationContext web) || Objects.isNull(web.getWebServer()))
+            return 0;
+        URI base = URI.create("http://localhost:%d".formatted(web.getWebServer().getPort()));
+        List<String> paths = paths(genres, movies, characters);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        int sent = 0;
+        for (int round = 0; round < properties.rounds(); round++) {
+            // a page per round, so the list queries miss the cache and run every round
+            for (String path : paths) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    logger.info("Warm-up ran out of time after {} requests", sent);
+                    return sent;
+                }
+                String page = (path.contains("?") ? "&" : "?") + "page=" + round;
+                HttpRequest request = HttpRequest.newBuilder(base.resolve(path + page))
+                        .header("Accept", ACCEPT.get(sent % ACCEPT.size()))
+                        .header("User-Agent", "disney-warm-up")
+                        .header(WarmUpToken.HEADER, token.value())
+                        .timeout(Duration.ofNanos(remaining))
+                        .GET()
+                        .build();
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                } catch (IOException e) {
+                    logger.debug("Warm-up request to {} failed", path, e);
+                }
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    private static List<String> paths(List<UUID> genres, List<UUID> movies, List<UUID> characters) {
+        List<String> paths = new ArrayList<>(List.of(
+                ApiUtils.GENRE_BASE_URL,
+                ApiUtils.MOVIE_BASE_URL + "?order=ASC",
+                ApiUtils.MOVIE_BASE_URL + "?order=DESC&title=a",
+                ApiUtils.CHARACTER_BASE_URL,
+                ApiUtils.CHARACTER_BASE_URL + "?name=a&age=1"));
+        genres.stream().findFirst().ifPresent(genre -> {
+            paths.add(ApiUtils.GENRE_BASE_URL + "/" + genre);
+            paths.add(ApiUtils.MOVIE_BASE_URL + "?genre=" + genre);
+        });
+        movies.stream().findFirst().ifPresent(movie -> {
+            paths.add(ApiUtils.MOVIE_BASE_URL + "/" + movie);
+            paths.add(ApiUtils.CHARACTER_BASE_URL + "?moviesId=" + movie);
+        });
+        characters.stream().findFirst().ifPresent(character ->
+                paths.add(ApiUtils.CHARACTER_BASE_URL + "/" + character));
+        return paths;
+    }
+}
@@ -0,0 +1,36 @@
+package com.disney.config.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A secret made up on every start that the warm-up requests carry in a header, so the rate limiter can tell them
+ * from the clients' and let them all through. Only this instance ever knows it.
+ */
+public class WarmUpToken {
+    public static final String HEADER = "X-Warm-Up";
+    private final String value;
+
+    public WarmUpToken() {
+        this(UUID.randomUUID().toString());
+    }
+
+    public WarmUpToken(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    // compared in constant time, like the Server-Timing token
+    public boolean sentWith(HttpServletRequest request) {
+        String header = request.getHeader(HEADER);
+        return Objects.nonNull(header) && MessageDigest.isEqual(value.getBytes(StandardCharsets.UTF_8),
+                header.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,10 +3,10 @@ package com.disney.controller;
 import com.disney.model.dto.request.CharacterRequestDto;
 import com.disney.model.dto.request.CharacterUpdateRequestDto;
 import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.service.CharacterService;
 import com.disney.util.ApiUtils;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -40,7 +40,7 @@ public class CharacterController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<CharacterResponseDto>> listMovieCharacters(
+    public ResponseEntity<PageEnvelope<CharacterResponseDto>> listMovieCharacters(
             @RequestParam(required = false, defaultValue = "0", name = "page") int pageNumber,
             @RequestParam(required = false) String name,
             @RequestParam(required = false, defaultValue = "0") int age,
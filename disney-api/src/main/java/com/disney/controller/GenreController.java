@@ -3,10 +3,10 @@ package com.disney.controller;
 import com.disney.model.dto.request.GenreRequestDto;
 import com.disney.model.dto.request.GenreUpdateRequestDto;
 import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.service.GenreService;
 import com.disney.util.ApiUtils;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -38,7 +38,7 @@ public class GenreController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<GenreResponseDto>> listGenres(
+    public ResponseEntity<PageEnvelope<GenreResponseDto>> listGenres(
             @RequestParam(required = false, defaultValue = "0", name = "page") int pageNumber) {
         return ResponseEntity.status(HttpStatus.OK).body(genreService.listMovieGenres(pageNumber));
     }
@@ -3,10 +3,10 @@ package com.disney.controller;
 import com.disney.model.dto.request.MovieRequestDto;
 import com.disney.model.dto.request.MovieUpdateRequestDto;
 import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.service.MovieService;
 import com.disney.util.ApiUtils;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -38,7 +38,7 @@ public class MovieController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<MovieResponseDto>> listMovies(
+    public ResponseEntity<PageEnvelope<MovieResponseDto>> listMovies(
             @RequestParam(required = false, defaultValue = "0", name = "page") int pageNumber,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String genre,
@@ -2,6 +2,7 @@ package com.disney.controller;
 
 import com.disney.model.HttpCodeResponse;
 import com.disney.model.InvalidUUIDFormatException;
+import com.disney.model.ServiceOverloadedException;
 import com.disney.model.dto.response.ApiErrorResponse;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
@@ -123,4 +124,17 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
                 .build();
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(apiErrorResponse);
     }
+
+    // shed before any work was done, so the request is safe to retry shortly
+    @ExceptionHandler(value = {ServiceOverloadedException.class})
+    protected ResponseEntity<Object> handleServiceOverloaded(ServiceOverloadedException ex, WebRequest request) {
+        ApiErrorResponse apiErrorResponse = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .message(ex.getMessage())
+                .path(request.getDescription(false))
+                .errorCode(HttpCodeResponse.SERVICE_OVERLOADED)
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                .body(apiErrorResponse);
+    }
 }
@@ -6,5 +6,7 @@ public enum HttpCodeResponse {
     DUPLICATED_RESOURCE,
     INVALID_ARGUMENT,
     INVALID_ID_FORMAT,
-    INVALID_DATE_FORMAT
+    INVALID_DATE_FORMAT,
+    RATE_LIMITED,
+    SERVICE_OVERLOADED
 }
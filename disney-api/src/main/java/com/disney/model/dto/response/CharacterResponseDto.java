@@ -2,7 +2,7 @@ package com.disney.model.dto.response;
 
 import com.disney.model.dto.response.basic.MovieBasicInfoResponseDto;
 
-import java.util.Set;
+import java.util.List;
 
 public record CharacterResponseDto(
         String id,
@@ -11,7 +11,7 @@ public record CharacterResponseDto(
         int age,
         double weight,
         String history,
-        Set<MovieBasicInfoResponseDto> movies
+        List<MovieBasicInfoResponseDto> movies
 ) {
     public static CharacterResponseDtoBuilder builder() {
         return new CharacterResponseDtoBuilder();
@@ -24,7 +24,7 @@ public record CharacterResponseDto(
         private int age;
         private double weight;
         private String history;
-        private Set<MovieBasicInfoResponseDto> movies;
+        private List<MovieBasicInfoResponseDto> movies;
 
         public CharacterResponseDtoBuilder id(String id) {
             this.id = id;
@@ -56,7 +56,7 @@ public record CharacterResponseDto(
             return this;
         }
 
-        public CharacterResponseDtoBuilder movies(Set<MovieBasicInfoResponseDto> movies) {
+        public CharacterResponseDtoBuilder movies(List<MovieBasicInfoResponseDto> movies) {
             this.movies = movies;
             return this;
         }
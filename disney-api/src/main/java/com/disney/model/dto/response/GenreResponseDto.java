@@ -2,12 +2,12 @@ package com.disney.model.dto.response;
 
 import com.disney.model.dto.response.basic.MovieBasicResponseDto;
 
-import java.util.Set;
+import java.util.List;
 
 public record GenreResponseDto(
         String id,
         String name,
-        Set<MovieBasicResponseDto> movies
+        List<MovieBasicResponseDto> movies
 ) {
     public static GenreResponseDtoBuilder builder() {
         return new GenreResponseDtoBuilder();
@@ -16,7 +16,7 @@ public record GenreResponseDto(
     public static class GenreResponseDtoBuilder {
         private String id;
         private String name;
-        private Set<MovieBasicResponseDto> movies;
+        private List<MovieBasicResponseDto> movies;
 
         public GenreResponseDtoBuilder id(String id) {
             this.id = id;
@@ -28,7 +28,7 @@ public record GenreResponseDto(
             return this;
         }
 
-        public GenreResponseDtoBuilder movies(Set<MovieBasicResponseDto> movies) {
+        public GenreResponseDtoBuilder movies(List<MovieBasicResponseDto> movies) {
             this.movies = movies;
             return this;
         }
@@ -3,7 +3,7 @@ package com.disney.model.dto.response;
 import com.disney.model.dto.response.basic.CharacterBasicResponseDto;
 import com.disney.model.dto.response.basic.GenreBasicResponseDto;
 
-import java.util.Set;
+import java.util.List;
 
 public record MovieResponseDto(
         String id,
@@ -12,7 +12,7 @@ public record MovieResponseDto(
         String creationDate,
         int rate,
         GenreBasicResponseDto genre,
-        Set<CharacterBasicResponseDto> characters
+        List<CharacterBasicResponseDto> characters
 ) {
     public static MovieResponseDtoBuilder builder() {
         return new MovieResponseDtoBuilder();
@@ -25,7 +25,7 @@ public record MovieResponseDto(
         private String creationDate;
         private int rate;
         private GenreBasicResponseDto genre;
-        private Set<CharacterBasicResponseDto> characters;
+        private List<CharacterBasicResponseDto> characters;
 
         public MovieResponseDtoBuilder id(String id) {
             this.id = id;
@@ -57,7 +57,7 @@ public record MovieResponseDto(
             return this;
         }
 
-        public MovieResponseDtoBuilder characters(Set<CharacterBasicResponseDto> characters) {
+        public MovieResponseDtoBuilder characters(List<CharacterBasicResponseDto> characters) {
             this.characters = characters;
             return this;
         }
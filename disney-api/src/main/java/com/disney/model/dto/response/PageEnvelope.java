@@ -0,0 +1,33 @@
+package com.disney.model.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Page of results as served by the list endpoints: {@code page}, {@code size}, {@code next} (the number of the
+ * following page, {@code null} on the last one), {@code total} (only when it is known) and the {@code items}.
+ * <p>
+ * The items are mapped lazily, so each row is turned into its DTO only when {@link PageEnvelopeSerializer} writes
+ * it to the response, after the service's read-only transaction; the services hand over rows whose associations
+ * the mappers read are already loaded. {@code count} is the number of rows on the page, known without mapping them,
+ * and is not written.
+ */
+@JsonSerialize(using = PageEnvelopeSerializer.class)
+public record PageEnvelope<T>(Iterable<T> items, int page, int size, int count, Integer next, Long total) {
+
+    public static <E, T> PageEnvelope<T> of(Slice<E> slice, Function<? super E, ? extends T> mapper) {
+        Iterable<T> items = () -> slice.getContent().stream().<T>map(mapper).iterator();
+        Integer next = slice.hasNext() ? slice.getNumber() + 1 : null;
+        Long total = slice instanceof Page<E> page ? page.getTotalElements() : null;
+        return new PageEnvelope<>(items, slice.getNumber(), slice.getSize(), slice.getNumberOfElements(), next,
+                total);
+    }
+
+    public boolean hasTotal() {
+        return Objects.nonNull(total);
+    }
+}
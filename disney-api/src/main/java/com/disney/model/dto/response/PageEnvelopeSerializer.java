@@ -0,0 +1,56 @@
+package com.disney.model.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Writes a {@link PageEnvelope} field by field on the generator the message converter opened over the response
+ * stream, so nothing is buffered beyond the generator's own buffer. Works for every negotiated format (JSON, CBOR,
+ * Smile) since it only talks to the generator.
+ */
+public class PageEnvelopeSerializer extends StdSerializer<PageEnvelope<?>> {
+
+    @SuppressWarnings("unchecked")
+    public PageEnvelopeSerializer() {
+        super((Class<PageEnvelope<?>>) (Class<?>) PageEnvelope.class);
+    }
+
+    @Override
+    public void serialize(PageEnvelope<?> envelope, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(envelope);
+        // metadata goes first so clients know where the page stands before the items arrive
+        generator.writeNumberField("page", envelope.page());
+        generator.writeNumberField("size", envelope.size());
+        generator.writeFieldName("next");
+        if (Objects.nonNull(envelope.next()))
+            generator.writeNumber(envelope.next());
+        else
+            generator.writeNull();
+        if (envelope.hasTotal())
+            generator.writeNumberField("total", envelope.total());
+
+        generator.writeArrayFieldStart("items");
+        Class<?> itemType = null;
+        JsonSerializer<Object> itemSerializer = null;
+        for (Object item : envelope.items()) {
+            if (Objects.isNull(item)) {
+                generator.writeNull();
+                continue;
+            }
+            // the rows of a page share their type, so the serializer is resolved once rather than per item
+            if (item.getClass() != itemType) {
+                itemType = item.getClass();
+                itemSerializer = provider.findValueSerializer(itemType);
+            }
+            itemSerializer.serialize(item, generator, provider);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
@@ -1,6 +1,6 @@
 package com.disney.model.dto.response.basic;
 
-import java.util.Set;
+import java.util.List;
 
 public record MovieBasicResponseDto(
         String id,
@@ -8,7 +8,7 @@ public record MovieBasicResponseDto(
         String title,
         String creationDate,
         int rate,
-        Set<CharacterBasicResponseDto> characters
+        List<CharacterBasicResponseDto> characters
 ) {
     public static MovieBasicResponseDtoBuilder builder() {
         return new MovieBasicResponseDtoBuilder();
@@ -20,7 +20,7 @@ public record MovieBasicResponseDto(
         private String title;
         private String creationDate;
         private int rate;
-        private Set<CharacterBasicResponseDto> character;
+        private List<CharacterBasicResponseDto> character;
 
         public MovieBasicResponseDtoBuilder id(String id) {
             this.id = id;
@@ -47,7 +47,7 @@ public record MovieBasicResponseDto(
             return this;
         }
 
-        public MovieBasicResponseDtoBuilder character(Set<CharacterBasicResponseDto> character) {
+        public MovieBasicResponseDtoBuilder character(List<CharacterBasicResponseDto> character) {
             this.character = character;
             return this;
         }
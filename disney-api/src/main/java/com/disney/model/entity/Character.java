@@ -11,7 +11,10 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "characters")
+@Table(name = "characters", indexes = {
+        @Index(name = "idx_characters_name", columnList = "name"),
+        @Index(name = "idx_characters_age", columnList = "age")
+})
 @SQLDelete(sql = "UPDATE characters SET deleted=true WHERE id=?")
 @Where(clause = "deleted=false")
 public class Character implements Serializable {
@@ -26,11 +29,19 @@ public class Character implements Serializable {
     @ManyToMany(mappedBy = "characters", fetch = FetchType.EAGER)
     private Set<Movie> movies;
     private boolean deleted = false;
+    @Transient
+    private String idAsString;
 
     public UUID getId() {
         return id;
     }
 
+    public String getIdAsString() {
+        if (Objects.isNull(idAsString) && Objects.nonNull(id))
+            idAsString = id.toString();
+        return idAsString;
+    }
+
     public String getImage() {
         return image;
     }
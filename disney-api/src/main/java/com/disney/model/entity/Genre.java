@@ -10,7 +10,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "genres")
+@Table(name = "genres", indexes = @Index(name = "idx_genres_name", columnList = "name"))
 public class Genre implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -18,11 +18,19 @@ public class Genre implements Serializable {
     private String name;
     @OneToMany(mappedBy = "genre", fetch = FetchType.LAZY)
     private Set<Movie> movies;
+    @Transient
+    private String idAsString;
 
     public UUID getId() {
         return id;
     }
 
+    public String getIdAsString() {
+        if (Objects.isNull(idAsString) && Objects.nonNull(id))
+            idAsString = id.toString();
+        return idAsString;
+    }
+
     public String getName() {
         return name;
     }
@@ -14,7 +14,12 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "movies")
+// the list filters and their order, the by-genre lookup and the uniqueness check on create
+@Table(name = "movies", indexes = {
+        @Index(name = "idx_movies_title", columnList = "title"),
+        @Index(name = "idx_movies_genre", columnList = "genre_id"),
+        @Index(name = "idx_movies_creation_date", columnList = "creation_date")
+})
 @SQLDelete(sql = "UPDATE movies SET deleted=true WHERE id=?")
 @Where(clause = "deleted=false")
 public class Movie implements Serializable {
@@ -33,14 +38,28 @@ public class Movie implements Serializable {
     @ManyToMany(cascade = CascadeType.MERGE, fetch = FetchType.EAGER)
     @JoinTable(name = "rel_movie_character",
             joinColumns = @JoinColumn(name = "movie_id"),
-            inverseJoinColumns = @JoinColumn(name = "character_id"))
+            inverseJoinColumns = @JoinColumn(name = "character_id"),
+            // the primary key leads with movie_id, the movies of a character are looked up on this one rather than
+            // on whatever index the foreign key happens to bring
+            indexes = @Index(name = "idx_rel_movie_character_character", columnList = "character_id"))
     private Set<Character> characters;
     private boolean deleted = false;
+    // worked out once per instance, the mappers ask for them on every response that mentions the movie
+    @Transient
+    private String idAsString;
+    @Transient
+    private String creationDateAsString;
 
     public UUID getId() {
         return id;
     }
 
+    public String getIdAsString() {
+        if (Objects.isNull(idAsString) && Objects.nonNull(id))
+            idAsString = id.toString();
+        return idAsString;
+    }
+
     public String getImage() {
         return image;
     }
@@ -53,6 +72,12 @@ public class Movie implements Serializable {
         return creationDate;
     }
 
+    public String getCreationDateAsString() {
+        if (Objects.isNull(creationDateAsString) && Objects.nonNull(creationDate))
+            creationDateAsString = creationDate.format(ApiUtils.OF_PATTERN);
+        return creationDateAsString;
+    }
+
     public int getRate() {
         return rate;
     }
@@ -86,8 +111,10 @@ public class Movie implements Serializable {
     }
 
     public void setCreationDate(String value) {
-        if (Objects.nonNull(value) && !value.trim().isEmpty())
+        if (Objects.nonNull(value) && !value.trim().isEmpty()) {
             this.creationDate = LocalDate.parse(value, ApiUtils.OF_PATTERN);
+            this.creationDateAsString = null;
+        }
     }
 
     public void setRate(int value) {
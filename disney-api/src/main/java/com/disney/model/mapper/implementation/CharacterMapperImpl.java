@@ -10,7 +10,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
-import static java.util.stream.Collectors.toUnmodifiableSet;
+import static com.disney.model.mapper.implementation.Mappings.mapAll;
 
 @Component
 @Validated
@@ -34,26 +34,13 @@ public class CharacterMapperImpl implements CharacterMapper {
 
     @Override
     public CharacterResponseDto toDTO(Character entity) {
-        return CharacterResponseDto.builder()
-                .id(entity.getId().toString())
-                .image(entity.getImage())
-                .name(entity.getName())
-                .age(entity.getAge())
-                .weight(entity.getWeight())
-                .history(entity.getHistory())
-                .movies(entity.getMovies().stream().map(movieMapper::toBasicInfoDTO).collect(toUnmodifiableSet()))
-                .build();
+        return new CharacterResponseDto(entity.getIdAsString(), entity.getImage(), entity.getName(), entity.getAge(),
+                entity.getWeight(), entity.getHistory(), mapAll(entity.getMovies(), movieMapper::toBasicInfoDTO));
     }
 
     @Override
     public CharacterBasicResponseDto toBasicDTO(Character entity) {
-        return CharacterBasicResponseDto.builder()
-                .id(entity.getId().toString())
-                .image(entity.getImage())
-                .name(entity.getName())
-                .age(entity.getAge())
-                .weight(entity.getWeight())
-                .history(entity.getHistory())
-                .build();
+        return new CharacterBasicResponseDto(entity.getIdAsString(), entity.getImage(), entity.getName(),
+                entity.getAge(), entity.getWeight(), entity.getHistory());
     }
 }
@@ -10,7 +10,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
-import static java.util.stream.Collectors.toUnmodifiableSet;
+import static com.disney.model.mapper.implementation.Mappings.mapAll;
 
 @Component
 @Validated
@@ -30,18 +30,12 @@ public class GenreMapperImpl implements GenreMapper {
 
     @Override
     public GenreResponseDto toDTO(Genre entity) {
-        return GenreResponseDto.builder()
-                .id(entity.getId().toString())
-                .name(entity.getName())
-                .movies(entity.getMovies().stream().map(movieMapper::toBasicDTO).collect(toUnmodifiableSet()))
-                .build();
+        return new GenreResponseDto(entity.getIdAsString(), entity.getName(),
+                mapAll(entity.getMovies(), movieMapper::toBasicDTO));
     }
 
     @Override
     public GenreBasicResponseDto toBasicDTO(Genre entity) {
-        return GenreBasicResponseDto.builder()
-                .id(entity.getId().toString())
-                .name(entity.getName())
-                .build();
+        return new GenreBasicResponseDto(entity.getIdAsString(), entity.getName());
     }
 }
@@ -0,0 +1,22 @@
+package com.disney.model.mapper.implementation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+final class Mappings {
+
+    private Mappings() {
+    }
+
+    // sized up front and filled in the collection's own order: no stream pipeline, and no hashing of every
+    // element as collecting into a set did
+    static <E, T> List<T> mapAll(Collection<E> entities, Function<? super E, ? extends T> mapper) {
+        List<T> mapped = new ArrayList<>(entities.size());
+        for (E entity : entities)
+            mapped.add(mapper.apply(entity));
+        return Collections.unmodifiableList(mapped);
+    }
+}
@@ -13,8 +13,8 @@ import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDate;
 
+import static com.disney.model.mapper.implementation.Mappings.mapAll;
 import static com.disney.util.ApiUtils.OF_PATTERN;
-import static java.util.stream.Collectors.toUnmodifiableSet;
 
 @Component
 @Validated
@@ -39,40 +39,21 @@ public class MovieMapperImpl implements MovieMapper {
 
     @Override
     public MovieResponseDto toDTO(Movie entity) {
-        return MovieResponseDto.builder()
-                .id(entity.getId().toString())
-                .image(entity.getImage())
-                .title(entity.getTitle())
-                .creationDate(entity.getCreationDate().format(OF_PATTERN))
-                .rate(entity.getRate())
-                .genre(genreMapper.toBasicDTO(entity.getGenre()))
-                .characters(entity.getCharacters().stream()
-                        .map(characterMapper::toBasicDTO).collect(toUnmodifiableSet()))
-                .build();
+        return new MovieResponseDto(entity.getIdAsString(), entity.getImage(), entity.getTitle(),
+                entity.getCreationDateAsString(), entity.getRate(), genreMapper.toBasicDTO(entity.getGenre()),
+                mapAll(entity.getCharacters(), characterMapper::toBasicDTO));
     }
 
     @Override
     public MovieBasicResponseDto toBasicDTO(Movie entity) {
-        return MovieBasicResponseDto.builder()
-                .id(entity.getId().toString())
-                .image(entity.getImage())
-                .title(entity.getTitle())
-                .creationDate(entity.getCreationDate().format(OF_PATTERN))
-                .rate(entity.getRate())
-                .character(entity.getCharacters().stream()
-                        .map(characterMapper::toBasicDTO).collect(toUnmodifiableSet()))
-                .build();
+        return new MovieBasicResponseDto(entity.getIdAsString(), entity.getImage(), entity.getTitle(),
+                entity.getCreationDateAsString(), entity.getRate(),
+                mapAll(entity.getCharacters(), characterMapper::toBasicDTO));
     }
 
     @Override
     public MovieBasicInfoResponseDto toBasicInfoDTO(Movie entity) {
-        return MovieBasicInfoResponseDto.builder()
-                .id(entity.getId().toString())
-                .image(entity.getImage())
-                .title(entity.getTitle())
-                .creationDate(entity.getCreationDate().format(OF_PATTERN))
-                .rate(entity.getRate())
-                .genre(genreMapper.toBasicDTO(entity.getGenre()))
-                .build();
+        return new MovieBasicInfoResponseDto(entity.getIdAsString(), entity.getImage(), entity.getTitle(),
+                entity.getCreationDateAsString(), entity.getRate(), genreMapper.toBasicDTO(entity.getGenre()));
     }
 }
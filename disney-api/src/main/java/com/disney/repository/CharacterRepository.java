@@ -3,10 +3,15 @@ package com.disney.repository;
 import com.disney.model.entity.Character;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface CharacterRepository extends JpaRepository<Character, UUID>, JpaSpecificationExecutor<Character> {
 
     boolean existsByName(String name);
+
+    @Query("select c.id from Character c")
+    Stream<UUID> streamIds();
 }
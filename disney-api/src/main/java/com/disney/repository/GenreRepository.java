@@ -0,0 +1,23 @@
+package com.disney.repository;
+
+import com.disney.model.entity.Genre;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface GenreRepository extends JpaRepository<Genre, UUID> {
+
+    boolean existsByName(String name);
+
+    // initializes the movies of genres already in the session and their eager characters, one query for a whole page
+    @Query("select distinct g from Genre g left join fetch g.movies m left join fetch m.characters where g in :genres")
+    List<Genre> fetchMovies(@Param("genres") Collection<Genre> genres);
+
+    @Query("select g.id from Genre g")
+    Stream<UUID> streamIds();
+}
@@ -3,10 +3,15 @@ package com.disney.repository;
 import com.disney.model.entity.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MovieRepository extends JpaRepository<Movie, UUID>, JpaSpecificationExecutor<Movie> {
 
     boolean existsByTitle(String title);
+
+    @Query("select m.id from Movie m")
+    Stream<UUID> streamIds();
 }
@@ -2,6 +2,7 @@ package com.disney.repository.specification;
 
 import com.disney.model.entity.Character;
 import com.disney.model.entity.Movie;
+import com.disney.util.ApiUtils;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
@@ -14,6 +15,7 @@ import org.springframework.util.StringUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 @Component
 public class CharacterSpecification {
@@ -31,8 +33,8 @@ public class CharacterSpecification {
 
             if (!CollectionUtils.isEmpty(moviesName)) {
                 Join<Movie, Character> join = root.join("movies", JoinType.INNER);
-                Expression<String> movieId = join.get("id");
-                predicates.add(movieId.in(moviesName));
+                Expression<UUID> movieId = join.get("id");
+                predicates.add(movieId.in(moviesName.stream().map(ApiUtils::getUUIDFromString).toList()));
             }
             query.distinct(true);
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
@@ -1,11 +1,8 @@
 package com.disney.repository.specification;
 
-import com.disney.model.entity.Genre;
 import com.disney.model.entity.Movie;
 import com.disney.util.ApiUtils;
 import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -13,6 +10,7 @@ import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 public class MovieSpecification {
@@ -24,9 +22,9 @@ public class MovieSpecification {
                 predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), '%' + title + '%'));
             }
             if (StringUtils.hasLength(genre)) {
-                Join<Genre, Movie> join = root.join("genre", JoinType.LEFT);
-                Expression<String> genreId = join.get("genre_id");
-                predicates.add(genreId.in(genre));
+                // compared on the foreign key column, no join to genres is needed
+                Expression<UUID> genreId = root.get("genre").get("id");
+                predicates.add(genreId.in(ApiUtils.getUUIDFromString(genre)));
             }
             query.distinct(true);
             String orderByField = "creationDate";
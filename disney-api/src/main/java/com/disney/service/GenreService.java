@@ -3,9 +3,9 @@ package com.disney.service;
 import com.disney.model.dto.request.GenreRequestDto;
 import com.disney.model.dto.request.GenreUpdateRequestDto;
 import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.entity.Genre;
 import jakarta.validation.constraints.NotNull;
-import org.springframework.data.domain.Page;
 
 import java.util.UUID;
 
@@ -19,5 +19,5 @@ public interface GenreService {
 
     Genre getGenreById(@NotNull UUID id);
 
-    Page<GenreResponseDto> listMovieGenres(int pageNumber);
+    PageEnvelope<GenreResponseDto> listMovieGenres(int pageNumber);
 }
@@ -3,10 +3,10 @@ package com.disney.service;
 import com.disney.model.dto.request.MovieRequestDto;
 import com.disney.model.dto.request.MovieUpdateRequestDto;
 import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.entity.Character;
 import com.disney.model.entity.Movie;
 import jakarta.validation.constraints.NotNull;
-import org.springframework.data.domain.Page;
 
 import java.util.UUID;
 
@@ -24,5 +24,5 @@ public interface MovieService {
 
     Movie removeCharacterFromMovie(@NotNull UUID id, @NotNull Character character);
 
-    Page<MovieResponseDto> listMovies(@NotNull int pageNumber, String title, String genre, String order);
+    PageEnvelope<MovieResponseDto> listMovies(@NotNull int pageNumber, String title, String genre, String order);
 }
@@ -0,0 +1,71 @@
+package com.disney.service.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One counter per entity type, bumped once a transaction that inserted, updated or deleted an entity of that type
+ * (or changed a collection it owns) has committed. A cached result stamped with the counters it was read under is
+ * stale as soon as any of them has moved, so invalidating never has to find the entries it affects.
+ * <p>
+ * The rows behind the bump are handed to the {@link Listener listeners} as well, for the caches that hold one entry
+ * per row and drop only the entries a write affects.
+ */
+public class EntityGenerations {
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public long current(Class<?> type) {
+        return counter(type.getName()).get();
+    }
+
+    // the counters only grow, so the sum moves whenever any of them does
+    public long stamp(Collection<Class<?>> types) {
+        long stamp = 0;
+        for (Class<?> type : types)
+            stamp += current(type);
+        return stamp;
+    }
+
+    public void bump(Class<?> type) {
+        bump(type.getName());
+    }
+
+    public void bump(String entityName) {
+        counter(entityName).incrementAndGet();
+    }
+
+    // the bump comes first, a load stamped before it cannot miss the write once the listeners have run
+    public void changed(EntityKey key) {
+        bump(key.entityName());
+        listeners.forEach(listener -> listener.changed(key));
+    }
+
+    public void linked(EntityKey key) {
+        listeners.forEach(listener -> listener.linked(key));
+    }
+
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    private AtomicLong counter(String entityName) {
+        return generations.computeIfAbsent(entityName, name -> new AtomicLong());
+    }
+
+    public interface Listener {
+        // the row itself was written, whatever shows it is stale
+        void changed(EntityKey key);
+
+        // only an association pointing at the row was added, e.g. a new movie of a genre; what lists it is stale
+        void linked(EntityKey key);
+    }
+}
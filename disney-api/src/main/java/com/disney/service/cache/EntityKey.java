@@ -0,0 +1,11 @@
+package com.disney.service.cache;
+
+/**
+ * One row written by a committed transaction, by the Hibernate entity name of its type and its ID. A {@code null} ID
+ * stands for a row of that type Hibernate could not tell.
+ */
+public record EntityKey(String entityName, Object id) {
+    public static EntityKey of(Class<?> type, Object id) {
+        return new EntityKey(type.getName(), id);
+    }
+}
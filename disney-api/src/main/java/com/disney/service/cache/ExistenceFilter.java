@@ -0,0 +1,142 @@
+package com.disney.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A Bloom filter over the IDs of the live rows of one entity type, so a lookup of an ID that certainly does not exist
+ * is answered without a query. A {@code false} is definite, a {@code true} only means the database has to be asked.
+ * <p>
+ * The filter is built from the table on {@link #start()}, before the first request, and then rebuilt on an
+ * interval, which is what sheds the rows deleted since: a Bloom filter cannot remove a key. Rows written through
+ * this application are added when they are flushed and again once they commit, so a row committed while a rebuild
+ * is scanning the table still ends up in the new filter. Rows written by anything else only show up after the next
+ * rebuild, so the filter must stay disabled when the database has other writers. The table is scanned on the
+ * primary, a replica behind it would leave out the rows just committed and nothing would add them back.
+ * <p>
+ * Names are not filtered, the uniqueness checks always ask the database: its collation folds more than case and
+ * accents ({@code ß} equals {@code ss}), and a name it considers taken must never be answered as absent. Until the
+ * first build succeeds every lookup is a maybe.
+ */
+public class ExistenceFilter<E> implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(ExistenceFilter.class);
+    private final String name;
+    private final Class<E> type;
+    private final Function<? super E, UUID> idOf;
+    private final Supplier<Stream<UUID>> ids;
+    private final LongSupplier count;
+    private final TransactionOperations primaryTransaction;
+    private final ExistenceProperties properties;
+    private final ScheduledExecutorService rebuilder;
+    private final Counter absentIds;
+    private final Counter presentIds;
+    private final Timer rebuilds;
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    public ExistenceFilter(String name, Class<E> type, Function<? super E, UUID> idOf, Supplier<Stream<UUID>> ids,
+                           LongSupplier count, TransactionOperations primaryTransaction,
+                           ExistenceProperties properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.type = type;
+        this.idOf = idOf;
+        this.ids = ids;
+        this.count = count;
+        this.primaryTransaction = primaryTransaction;
+        this.properties = properties;
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "existence-filter-%s".formatted(name));
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.absentIds = checks(meterRegistry, "id", "absent");
+        this.presentIds = checks(meterRegistry, "id", "maybe");
+        this.rebuilds = Timer.builder("disney.existence.rebuilds").tag("filter", name).register(meterRegistry);
+    }
+
+    public Class<E> type() {
+        return type;
+    }
+
+    public void start() {
+        if (!properties.enabled())
+            return;
+        rebuild();
+        long interval = properties.rebuildInterval().toNanos();
+        rebuilder.scheduleWithFixedDelay(this::rebuild, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    public boolean mightContainId(UUID id) {
+        BloomFilter filter = current;
+        if (Objects.isNull(filter) || Objects.isNull(id))
+            return true;
+        boolean present = filter.mightContain(hash(id));
+        (present ? presentIds : absentIds).increment();
+        return present;
+    }
+
+    public void add(Object entity) {
+        UUID id = idOf.apply(type.cast(entity));
+        if (Objects.isNull(id))
+            return;
+        // building before current: once the rebuild has swapped them, current is the new filter already
+        BloomFilter next = building;
+        BloomFilter filter = current;
+        if (Objects.nonNull(next))
+            next.add(hash(id));
+        if (Objects.nonNull(filter))
+            filter.add(hash(id));
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        try {
+            long expected = Math.max(properties.minimumCapacity(), 2 * count.getAsLong());
+            BloomFilter next = BloomFilter.create(expected, properties.falsePositiveRate());
+            building = next;
+            long scanned = Objects.requireNonNullElse(primaryTransaction.execute(status -> {
+                try (Stream<UUID> rows = ids.get()) {
+                    return rows.mapToLong(id -> {
+                        next.add(hash(id));
+                        return 1;
+                    }).sum();
+                }
+            }), 0L);
+            current = next;
+            logger.debug("Existence filter '{}' rebuilt with {} rows in {} bits", name, scanned, next.bits());
+        } catch (RuntimeException e) {
+            logger.warn("Existence filter '{}' could not be rebuilt, keeping the previous one", name, e);
+        } finally {
+            building = null;
+            rebuilds.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        rebuilder.shutdown();
+    }
+
+    private static long hash(UUID id) {
+        return BloomFilter.mix(id.getMostSignificantBits() ^ BloomFilter.mix(id.getLeastSignificantBits()));
+    }
+
+    private Counter checks(MeterRegistry meterRegistry, String key, String result) {
+        return Counter.builder("disney.existence.checks")
+                .tag("filter", name).tag("key", key).tag("result", result).register(meterRegistry);
+    }
+}
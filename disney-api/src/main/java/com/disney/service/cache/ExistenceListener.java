@@ -0,0 +1,59 @@
+package com.disney.service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adds the rows inserted or renamed by a session to the existence filter of their type as they are flushed, so the
+ * transaction writing them finds them too, and again once the transaction commits, in case a rebuild started in
+ * between. A rolled back row stays in the filter until the next rebuild, a false positive costs a query only.
+ */
+public class ExistenceListener implements PostInsertEventListener, PostUpdateEventListener {
+    private final Map<Class<?>, ExistenceFilter<?>> filters;
+
+    public ExistenceListener(Collection<? extends ExistenceFilter<?>> filters) {
+        this.filters = filters.stream().collect(Collectors.toMap(ExistenceFilter::type, Function.identity()));
+    }
+
+    public void register(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        written(event.getSession(), event.getPersister(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        written(event.getSession(), event.getPersister(), event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void written(EventSource session, EntityPersister persister, Object entity) {
+        ExistenceFilter<?> filter = filters.get(persister.getMappedClass());
+        if (Objects.isNull(filter))
+            return;
+        filter.add(entity);
+        session.getActionQueue().registerProcess((success, completed) -> {
+            if (success)
+                filter.add(entity);
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.disney.service.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Off unless this instance is the only writer of the catalog: a row another instance inserts is absent from the
+ * filter here until the next rebuild, and its lookups answer 404 meanwhile.
+ */
+@ConfigurationProperties(prefix = "disney.cache.existence")
+public record ExistenceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("10000") int minimumCapacity,
+        @DefaultValue("5m") Duration rebuildInterval
+) {
+}
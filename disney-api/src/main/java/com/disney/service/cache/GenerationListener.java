@@ -0,0 +1,126 @@
+package com.disney.service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reports the rows written by a session to the {@link EntityGenerations generations} once its transaction commits;
+ * a rolled back transaction leaves them as they were. Collection changes count for the owner, e.g. the characters of
+ * a movie. The rows a written one points at, its genre or the characters now in its collection, are reported as
+ * linked: their own responses list it, the responses that merely show them did not change.
+ */
+public class GenerationListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+    private final EntityGenerations generations;
+
+    public GenerationListener(EntityGenerations generations) {
+        this.generations = generations;
+    }
+
+    public static void register(EntityManagerFactory entityManagerFactory, EntityGenerations generations) {
+        GenerationListener listener = new GenerationListener(generations);
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        written(event.getSession(), event.getPersister(), event.getId(), event.getState());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        written(event.getSession(), event.getPersister(), event.getId(), event.getState());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        written(event.getSession(), event.getPersister(), event.getId(), event.getDeletedState());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        written(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        written(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        written(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // the many-to-one targets of the new state
+    private void written(EventSource session, EntityPersister persister, Object id, Object[] state) {
+        List<EntityKey> linked = new ArrayList<>();
+        Type[] types = persister.getPropertyTypes();
+        for (int i = 0; Objects.nonNull(state) && i < types.length; i++) {
+            if (types[i] instanceof EntityType association && Objects.nonNull(state[i]))
+                linked.add(key(session, association.getAssociatedEntityName(), state[i]));
+        }
+        written(session, new EntityKey(persister.getEntityName(), id), linked);
+    }
+
+    // the elements now in the collection, the ones it lost still show the owner and go with it
+    private void written(AbstractCollectionEvent event) {
+        EventSource session = event.getSession();
+        PersistentCollection<?> collection = event.getCollection();
+        CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry(collection);
+        CollectionPersister persister = Objects.isNull(entry) ? null : entry.getLoadedPersister();
+        List<EntityKey> linked = new ArrayList<>();
+        if (Objects.nonNull(persister) && persister.getElementType() instanceof EntityType element
+                && collection.wasInitialized()) {
+            Iterator<?> elements = collection.entries(persister);
+            while (elements.hasNext()) {
+                Object target = elements.next();
+                if (Objects.nonNull(target))
+                    linked.add(key(session, element.getAssociatedEntityName(), target));
+            }
+        }
+        written(session, new EntityKey(event.getAffectedOwnerEntityName(), event.getAffectedOwnerIdOrNull()), linked);
+    }
+
+    // the keys are worked out before the commit, while the session can still resolve the entities
+    private void written(EventSource session, EntityKey changed, List<EntityKey> linked) {
+        session.getActionQueue().registerProcess((success, completed) -> {
+            if (!success)
+                return;
+            generations.changed(changed);
+            linked.forEach(generations::linked);
+        });
+    }
+
+    private static EntityKey key(EventSource session, String entityName, Object entity) {
+        Object id = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityName)
+                .getIdentifier(entity, session);
+        return new EntityKey(entityName, id);
+    }
+}
@@ -0,0 +1,19 @@
+package com.disney.service.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * The generations only see the writes of this instance, {@code ttl} bounds how long a page written elsewhere is
+ * served from here. {@code timeout} is how long a hit waits for its rows before the call is reported as overloaded.
+ */
+@ConfigurationProperties(prefix = "disney.cache.list")
+public record ListCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1024") int maxEntries,
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("5s") Duration timeout
+) {
+}
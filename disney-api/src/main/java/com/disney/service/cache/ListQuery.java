@@ -0,0 +1,65 @@
+package com.disney.service.cache;
+
+import com.disney.util.ApiUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Canonical form of the filters of a list request: {@code key} identifies the page it asks for, equal for every
+ * spelling of the same filters (the case of an ID, the order of the movies, the case of the sort order), and
+ * {@code shape} names the filters that are present, e.g. {@code title+genre}, to break the hit ratio down by.
+ */
+public record ListQuery(String shape, String key) {
+
+    public static ListQuery movies(int page, String title, String genre, String order) {
+        return new Builder(page)
+                .filter("title", StringUtils.hasLength(title) ? title : null)
+                .filter("genre", StringUtils.hasLength(genre) ? ApiUtils.getUUIDFromString(genre).toString() : null)
+                .param("order", ApiUtils.isASC(order) ? "asc" : "desc")
+                .build();
+    }
+
+    public static ListQuery characters(int page, String name, int age, Collection<String> movies) {
+        return new Builder(page)
+                .filter("name", StringUtils.hasLength(name) ? name : null)
+                .filter("age", age > 0 ? String.valueOf(age) : null)
+                .filter("movies", CollectionUtils.isEmpty(movies) ? null : movies.stream()
+                        .map(ApiUtils::getUUIDFromString).map(UUID::toString).sorted().distinct()
+                        .collect(Collectors.joining(",")))
+                .build();
+    }
+
+    private static final class Builder {
+        private final StringJoiner shape = new StringJoiner("+");
+        private final StringJoiner key = new StringJoiner("&");
+
+        private Builder(int page) {
+            param("page", String.valueOf(page));
+        }
+
+        private Builder filter(String name, String value) {
+            if (Objects.nonNull(value)) {
+                shape.add(name);
+                param(name, value);
+            }
+            return this;
+        }
+
+        private Builder param(String name, String value) {
+            key.add(name + '=' + URLEncoder.encode(value, StandardCharsets.UTF_8));
+            return this;
+        }
+
+        private ListQuery build() {
+            return new ListQuery(shape.length() == 0 ? "none" : shape.toString(), key.toString());
+        }
+    }
+}
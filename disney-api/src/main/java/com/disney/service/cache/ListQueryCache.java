@@ -0,0 +1,206 @@
+package com.disney.service.cache;
+
+import com.disney.model.ServiceOverloadedException;
+import com.disney.model.dto.response.PageEnvelope;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the pages of a list query by its {@link ListQuery canonical filters}, keeping only the IDs of the rows on
+ * the page and the paging numbers. A hit looks the rows up again by ID, through the {@link ResponseCache} and the
+ * batch loader behind it, so it shares the entries and the batches of the single-entity lookups.
+ * <p>
+ * Every entry is stamped with the {@link EntityGenerations generations} of the entity types the query reads, and
+ * an entry whose stamp no longer matches is a miss; a write never has to look for the entries it invalidates. Those
+ * are the writes of this instance only, so an entry older than the {@code ttl} is a miss as well. The map is
+ * bounded, a full one evicts an arbitrary entry, stale entries are replaced as their key is asked again.
+ * <p>
+ * With the reads routed to a replica a miss may see it before it has replayed the write that moved the stamp, so
+ * the rows of a miss are only stored once the stamp has been seen for longer than the replica may lag behind.
+ * <p>
+ * Misses, and every lookup while the bypass condition holds, run the query in a read-only transaction of their
+ * own, the rows are mapped as the envelope is written (movies and characters load their associations eagerly with
+ * them); a hit takes no connection, only the loader does for the rows that are not cached.
+ */
+public class ListQueryCache<E, T> {
+    private final String name;
+    private final ListCacheProperties properties;
+    private final EntityGenerations generations;
+    private final List<Class<?>> dependsOn;
+    private final Function<? super E, UUID> idOf;
+    private final Function<UUID, CompletableFuture<T>> rows;
+    private final TransactionOperations readOnlyTransaction;
+    private final long replicaLagNanos;
+    private final BooleanSupplier bypass;
+    private final Consumer<Boolean> lookups;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+    private final AtomicReference<SeenStamp> latestStamp;
+
+    public ListQueryCache(String name, ListCacheProperties properties, EntityGenerations generations,
+                          List<Class<?>> dependsOn, Function<? super E, UUID> idOf,
+                          Function<UUID, CompletableFuture<T>> rows, TransactionOperations readOnlyTransaction,
+                          Duration replicaLag, BooleanSupplier bypass,
+                          Consumer<Boolean> lookups, MeterRegistry meterRegistry) {
+        this(name, properties, generations, dependsOn, idOf, rows, readOnlyTransaction, replicaLag, bypass, lookups,
+                meterRegistry, System::nanoTime);
+    }
+
+    public ListQueryCache(String name, ListCacheProperties properties, EntityGenerations generations,
+                          List<Class<?>> dependsOn, Function<? super E, UUID> idOf,
+                          Function<UUID, CompletableFuture<T>> rows, TransactionOperations readOnlyTransaction,
+                          Duration replicaLag, BooleanSupplier bypass,
+                          Consumer<Boolean> lookups, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.properties = properties;
+        this.generations = generations;
+        this.dependsOn = List.copyOf(dependsOn);
+        this.idOf = idOf;
+        this.rows = rows;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.replicaLagNanos = replicaLag.toNanos();
+        this.bypass = bypass;
+        this.lookups = lookups;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        // nothing was written before the start, the first stamp is as settled as it gets
+        this.latestStamp = new AtomicReference<>(new SeenStamp(generations.stamp(this.dependsOn),
+                clock.getAsLong() - replicaLagNanos));
+        Gauge.builder("disney.cache.list.entries", entries, Map::size).tag("cache", name).register(meterRegistry);
+    }
+
+    public PageEnvelope<T> list(ListQuery query, Supplier<? extends Slice<E>> finder,
+                                Function<? super E, ? extends T> mapper) {
+        if (!properties.enabled() || bypass.getAsBoolean())
+            return readOnlyTransaction.execute(status -> PageEnvelope.of(finder.get(), mapper));
+
+        ShapeStatistics statistics = shapes.computeIfAbsent(query.shape(), ShapeStatistics::new);
+        // read before the query: a write committed meanwhile leaves the entry stamped as stale
+        long stamp = generations.stamp(dependsOn);
+        Entry entry = entries.get(query.key());
+        long now = clock.getAsLong();
+        if (Objects.nonNull(entry) && entry.stamp() == stamp && now - entry.storedAt() < properties.ttl().toNanos()) {
+            statistics.hits.increment();
+            lookups.accept(true);
+            return rehydrate(entry);
+        }
+        (Objects.isNull(entry) ? statistics.misses : statistics.stale).increment();
+        lookups.accept(false);
+
+        boolean settled = now - seen(stamp, now) >= replicaLagNanos;
+        return readOnlyTransaction.execute(status -> {
+            Slice<E> slice = finder.get();
+            if (settled)
+                store(query.key(), new Entry(stamp, now, slice.getContent().stream().map(idOf).toList(),
+                        slice.getNumber(), slice.getSize(), slice.hasNext() ? slice.getNumber() + 1 : null,
+                        slice instanceof Page<E> page ? page.getTotalElements() : null));
+            return PageEnvelope.of(slice, mapper);
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    // when the stamp was first seen here, the stamps only grow so the latest one is all that has to be kept
+    private long seen(long stamp, long now) {
+        while (true) {
+            SeenStamp latest = latestStamp.get();
+            if (stamp <= latest.stamp())
+                return latest.at();
+            if (latestStamp.compareAndSet(latest, new SeenStamp(stamp, now)))
+                return now;
+        }
+    }
+
+    private void store(String key, Entry entry) {
+        if (entries.size() >= properties.maxEntries() && !entries.containsKey(key)) {
+            Iterator<String> keys = entries.keySet().iterator();
+            if (keys.hasNext())
+                entries.remove(keys.next());
+        }
+        entries.put(key, entry);
+    }
+
+    private PageEnvelope<T> rehydrate(Entry entry) {
+        List<CompletableFuture<T>> loads = entry.ids().stream().map(rows).toList();
+        try {
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new))
+                    .get(properties.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException)
+                throw overloaded();
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw overloaded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        List<T> items = new ArrayList<>(loads.size());
+        // a row deleted since has bumped the generation already, skipping it only covers the race
+        loads.stream().map(CompletableFuture::join).filter(Objects::nonNull).forEach(items::add);
+        return new PageEnvelope<>(items, entry.page(), entry.size(), items.size(), entry.next(), entry.total());
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("The rows of list cache '%s' did not load within %s".formatted(name,
+                properties.timeout()));
+    }
+
+    private record SeenStamp(long stamp, long at) {
+    }
+
+    private record Entry(long stamp, long storedAt, List<UUID> ids, int page, int size, Integer next, Long total) {
+    }
+
+    private final class ShapeStatistics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder stale = new LongAdder();
+
+        private ShapeStatistics(String shape) {
+            register(shape, "hit", hits);
+            register(shape, "miss", misses);
+            register(shape, "stale", stale);
+            Gauge.builder("disney.cache.list.hit.ratio", this, ShapeStatistics::hitRatio)
+                    .tag("cache", name).tag("shape", shape).register(meterRegistry);
+        }
+
+        private void register(String shape, String result, LongAdder count) {
+            FunctionCounter.builder("disney.cache.list.lookups", count, LongAdder::sum)
+                    .tag("cache", name).tag("shape", shape).tag("result", result).register(meterRegistry);
+        }
+
+        private double hitRatio() {
+            long hit = hits.sum();
+            long total = hit + misses.sum() + stale.sum();
+            return total == 0 ? 0.0 : (double) hit / total;
+        }
+    }
+}
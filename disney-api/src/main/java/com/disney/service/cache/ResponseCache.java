@@ -0,0 +1,304 @@
+package com.disney.service.cache;
+
+import com.disney.model.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the responses of the single-entity lookups for a {@code ttl}, in front of the batch loader they come from.
+ * <p>
+ * A fresh entry is refreshed in the background before it expires with a probability that grows as the expiry gets
+ * closer and the longer the last load took (probabilistic early recomputation: refresh once
+ * {@code now - loadTime * beta * ln(random)} is past the expiry), so the hot keys do not all expire, and query, at
+ * the same instant. Past the {@code ttl} an entry is still served for up to {@code maxStale} while a single
+ * background refresh runs, and also while that refresh keeps failing, so a slow or unavailable database is answered
+ * with data at most {@code ttl + maxStale} old. Beyond that, or for a key not cached, the lookup waits for the
+ * loader as before.
+ * <p>
+ * A committed write drops only the entries it affects, as reported by the {@link EntityGenerations generations}: the
+ * entry of the written row, the entries whose response shows it ({@code shows}, e.g. the movies showing a renamed
+ * character) and, for a row that only gained an association, its own entry. A dropped entry is a miss that is never
+ * served again, not even when the reload fails, as it predates the write; every other entry stays fresh or stale as
+ * before. A load that a write of the types in {@code dependsOn} overlapped is not kept, the write may have landed
+ * after it read the row and before its entry was there to be dropped.
+ */
+public class ResponseCache<K, V> implements AutoCloseable, EntityGenerations.Listener {
+    private final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+    private final String name;
+    private final ResponseCacheProperties properties;
+    private final EntityGenerations generations;
+    private final String type;
+    private final List<Class<?>> dependsOn;
+    private final Function<? super V, ? extends Collection<EntityKey>> shows;
+    private final Function<K, CompletableFuture<V>> source;
+    private final BooleanSupplier bypass;
+    private final Consumer<Boolean> lookups;
+    private final LongSupplier clock;
+    private final ExecutorService refresher;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<EntityKey, Set<K>> dependents = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter earlyRefreshes;
+    private final Counter staleHits;
+    private final Counter staleOnError;
+    private final Counter misses;
+    private final Counter refreshFailures;
+
+    public ResponseCache(String name, ResponseCacheProperties properties, EntityGenerations generations,
+                         Class<?> type, List<Class<?>> dependsOn,
+                         Function<? super V, ? extends Collection<EntityKey>> shows,
+                         Function<K, CompletableFuture<V>> source, BooleanSupplier bypass, Consumer<Boolean> lookups,
+                         MeterRegistry meterRegistry) {
+        this(name, properties, generations, type, dependsOn, shows, source, bypass, lookups, meterRegistry,
+                System::nanoTime);
+    }
+
+    public ResponseCache(String name, ResponseCacheProperties properties, EntityGenerations generations,
+                         Class<?> type, List<Class<?>> dependsOn,
+                         Function<? super V, ? extends Collection<EntityKey>> shows,
+                         Function<K, CompletableFuture<V>> source, BooleanSupplier bypass, Consumer<Boolean> lookups,
+                         MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.properties = properties;
+        this.generations = generations;
+        this.type = type.getName();
+        this.dependsOn = List.copyOf(dependsOn);
+        this.shows = shows;
+        this.source = source;
+        this.bypass = bypass;
+        this.lookups = lookups;
+        this.clock = clock;
+        this.refresher = Executors.newFixedThreadPool(Math.max(1, properties.refreshThreads()), refresherThreads(name));
+        this.hits = lookups(meterRegistry, "hit");
+        this.earlyRefreshes = lookups(meterRegistry, "early");
+        this.staleHits = lookups(meterRegistry, "stale");
+        this.staleOnError = lookups(meterRegistry, "stale-on-error");
+        this.misses = lookups(meterRegistry, "miss");
+        this.refreshFailures = Counter.builder("disney.cache.response.refresh.failures")
+                .tag("cache", name).register(meterRegistry);
+        Gauge.builder("disney.cache.response.entries", entries, Map::size).tag("cache", name)
+                .register(meterRegistry);
+        generations.subscribe(this);
+    }
+
+    public Optional<V> get(K key) {
+        try {
+            return Optional.ofNullable(load(key).join());
+        } catch (CompletionException e) {
+            // the loader gives up on a stuck batch, an overload like the one it reports itself
+            if (e.getCause() instanceof TimeoutException)
+                throw new ServiceOverloadedException("Cache '%s' could not load '%s' in time".formatted(name, key));
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    public CompletableFuture<V> load(K key) {
+        Objects.requireNonNull(key);
+        if (!properties.enabled() || bypass.getAsBoolean())
+            return call(key);
+
+        long now = clock.getAsLong();
+        long stamp = generations.stamp(dependsOn);
+        Entry<V> entry = entries.get(key);
+        if (Objects.nonNull(entry)) {
+            entry.reads().increment();
+            if (now < entry.expiresAt()) {
+                if (refreshEarly(entry, now) && refresh(key, entry))
+                    earlyRefreshes.increment();
+                else
+                    hits.increment();
+                lookups.accept(true);
+                return CompletableFuture.completedFuture(entry.value());
+            }
+            if (now < entry.expiresAt() + properties.maxStale().toNanos()) {
+                // stale rather than an error while the database cannot answer
+                (entry.refreshFailed().get() ? staleOnError : staleHits).increment();
+                refresh(key, entry);
+                lookups.accept(true);
+                return CompletableFuture.completedFuture(entry.value());
+            }
+        }
+        misses.increment();
+        lookups.accept(false);
+        return fetch(key, stamp);
+    }
+
+    // the keys read the most since they were cached, for the warm-up of the next start
+    public List<K> hottest(int limit) {
+        return entries.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<K, Entry<V>> entry) -> entry.getValue().reads().sum())
+                        .reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void invalidate(K key) {
+        remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void changed(EntityKey key) {
+        if (Objects.isNull(key.id())) {
+            // no telling which row, every entry that may show one goes
+            if (dependsOn.stream().anyMatch(dependency -> dependency.getName().equals(key.entityName())))
+                entries.keySet().forEach(this::remove);
+            return;
+        }
+        if (type.equals(key.entityName()))
+            remove(key.id());
+        Set<K> keys = dependents.remove(key);
+        if (Objects.nonNull(keys))
+            keys.forEach(this::remove);
+    }
+
+    @Override
+    public void linked(EntityKey key) {
+        if (type.equals(key.entityName()) && Objects.nonNull(key.id()))
+            remove(key.id());
+    }
+
+    @Override
+    public void close() {
+        generations.unsubscribe(this);
+        refresher.shutdown();
+    }
+
+    // the stamp is read before the load, a write committed meanwhile keeps the new entry out
+    private CompletableFuture<V> fetch(K key, long stamp) {
+        long start = clock.getAsLong();
+        return call(key).thenApply(value -> {
+            store(key, value, stamp, start);
+            return value;
+        });
+    }
+
+    // a loader that runs on the caller thread throws instead of failing the future
+    private CompletableFuture<V> call(K key) {
+        try {
+            return source.apply(key);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean refreshEarly(Entry<V> entry, long now) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        return now - entry.loadNanos() * properties.beta() * Math.log(random) >= entry.expiresAt();
+    }
+
+    // one refresh per entry, a refresh that fails leaves the entry to be served until it is too stale
+    private boolean refresh(K key, Entry<V> entry) {
+        if (!entry.refreshing().compareAndSet(false, true))
+            return false;
+        long stamp = generations.stamp(dependsOn);
+        try {
+            refresher.execute(() -> fetch(key, stamp).whenComplete((value, failure) -> {
+                if (Objects.nonNull(failure)) {
+                    refreshFailures.increment();
+                    logger.debug("Refresh of '{}' in cache '{}' failed", key, name, failure);
+                    entry.refreshFailed().set(true);
+                    entry.refreshing().set(false);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            entry.refreshing().set(false);
+            return false;
+        }
+        return true;
+    }
+
+    private void store(K key, V value, long stamp, long start) {
+        Entry<V> previous = entries.get(key);
+        if (Objects.isNull(value)) {
+            remove(key);
+            return;
+        }
+        if (generations.stamp(dependsOn) != stamp) {
+            // an entry the write did not drop is still current, it may refresh again
+            if (Objects.nonNull(previous))
+                previous.refreshing().set(false);
+            return;
+        }
+        long loaded = clock.getAsLong();
+        if (Objects.isNull(previous) && entries.size() >= properties.maxEntries()) {
+            Iterator<K> keys = entries.keySet().iterator();
+            if (keys.hasNext())
+                remove(keys.next());
+        }
+        // a reloaded key keeps the reads counted so far
+        LongAdder reads = Objects.isNull(previous) ? new LongAdder() : previous.reads();
+        Entry<V> entry = new Entry<>(value, Set.copyOf(shows.apply(value)), loaded + properties.ttl().toNanos(),
+                Math.max(0, loaded - start), new AtomicBoolean(), new AtomicBoolean(), reads);
+        for (EntityKey shown : entry.shows()) {
+            dependents.compute(shown, (ignored, keys) -> {
+                Set<K> registered = Objects.isNull(keys) ? ConcurrentHashMap.newKeySet() : keys;
+                registered.add(key);
+                return registered;
+            });
+        }
+        previous = entries.put(key, entry);
+        if (Objects.nonNull(previous))
+            unregister(key, previous, entry.shows());
+        // a write that committed since the check above has run its listeners before or after the entry was there
+        if (generations.stamp(dependsOn) != stamp && entries.remove(key, entry))
+            unregister(key, entry, Set.of());
+    }
+
+    private void remove(Object key) {
+        Entry<V> entry = entries.remove(key);
+        if (Objects.nonNull(entry))
+            unregister(key, entry, Set.of());
+    }
+
+    private void unregister(Object key, Entry<V> entry, Set<EntityKey> kept) {
+        for (EntityKey shown : entry.shows()) {
+            if (!kept.contains(shown))
+                dependents.computeIfPresent(shown, (ignored, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                });
+        }
+    }
+
+    private Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("disney.cache.response.lookups")
+                .tag("cache", name).tag("result", result).register(meterRegistry);
+    }
+
+    private static ThreadFactory refresherThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-%s-%d".formatted(name, counter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Entry<V>(V value, Set<EntityKey> shows, long expiresAt, long loadNanos, AtomicBoolean refreshing,
+                            AtomicBoolean refreshFailed, LongAdder reads) {
+    }
+}
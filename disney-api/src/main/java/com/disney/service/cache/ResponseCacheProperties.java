@@ -0,0 +1,17 @@
+package com.disney.service.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "disney.cache.response")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("5m") Duration maxStale,
+        @DefaultValue("1.0") double beta,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("2") int refreshThreads
+) {
+}
@@ -4,19 +4,23 @@ import com.disney.model.InvalidUUIDFormatException;
 import com.disney.model.dto.request.CharacterRequestDto;
 import com.disney.model.dto.request.CharacterUpdateRequestDto;
 import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.entity.Character;
 import com.disney.model.mapper.CharacterMapper;
 import com.disney.repository.CharacterRepository;
 import com.disney.repository.specification.CharacterSpecification;
 import com.disney.service.CharacterService;
 import com.disney.service.MovieService;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ListQuery;
+import com.disney.service.cache.ListQueryCache;
+import com.disney.service.cache.ResponseCache;
 import com.disney.util.ApiUtils;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -39,13 +43,22 @@ public class CharacterServiceImpl implements CharacterService {
     private final CharacterRepository characterRepository;
     private final CharacterSpecification characterSpec;
     private final MovieService movieService;
+    private final ResponseCache<UUID, CharacterResponseDto> characterCache;
+    private final ListQueryCache<Character, CharacterResponseDto> characterListCache;
+    private final ExistenceFilter<Character> characterExistence;
 
     public CharacterServiceImpl(CharacterMapper characterMapper, CharacterRepository characterRepository,
-                                CharacterSpecification characterSpec, @Lazy MovieService movieService) {
+                                CharacterSpecification characterSpec, @Lazy MovieService movieService,
+                                ResponseCache<UUID, CharacterResponseDto> characterCache,
+                                ListQueryCache<Character, CharacterResponseDto> characterListCache,
+                                ExistenceFilter<Character> characterExistence) {
         this.characterMapper = characterMapper;
         this.characterRepository = characterRepository;
         this.characterSpec = characterSpec;
         this.movieService = movieService;
+        this.characterCache = characterCache;
+        this.characterListCache = characterListCache;
+        this.characterExistence = characterExistence;
     }
 
     @Override
@@ -123,20 +136,23 @@ public class CharacterServiceImpl implements CharacterService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Page<CharacterResponseDto> listCharacters(int pageNumber, String characterName,
+    public PageEnvelope<CharacterResponseDto> listCharacters(int pageNumber, String characterName,
                                                      int age, Set<String> moviesName) {
         Pageable pageable = PageRequest.of(pageNumber, ApiUtils.ELEMENTS_PER_PAGE);
-        return characterRepository.findAll(characterSpec.getByFilters(characterName, age, moviesName), pageable)
-                .map(characterMapper::toDTO);
+        return characterListCache.list(ListQuery.characters(pageNumber, characterName, age, moviesName),
+                () -> characterRepository.findAll(characterSpec.getByFilters(characterName, age, moviesName),
+                        pageable),
+                characterMapper::toDTO);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public CharacterResponseDto getCharacterById(String id) {
         if (Objects.isNull(id))
             throw new InvalidParameterException("Invalid parameter value: characterId");
-        return characterRepository.findById(ApiUtils.getUUIDFromString(id)).map(characterMapper::toDTO)
+        UUID characterId = ApiUtils.getUUIDFromString(id);
+        if (!characterExistence.mightContainId(characterId))
+            throw new EntityNotFoundException("Character not found for ID %s".formatted(id));
+        return characterCache.get(characterId)
                 .orElseThrow(() -> new EntityNotFoundException("Character not found for ID %s".formatted(id)));
     }
 
@@ -4,10 +4,13 @@ import com.disney.model.InvalidUUIDFormatException;
 import com.disney.model.dto.request.GenreRequestDto;
 import com.disney.model.dto.request.GenreUpdateRequestDto;
 import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.entity.Genre;
 import com.disney.model.mapper.GenreMapper;
 import com.disney.repository.GenreRepository;
 import com.disney.service.GenreService;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ResponseCache;
 import com.disney.util.ApiUtils;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
@@ -31,10 +34,15 @@ public class GenreServiceImpl implements GenreService {
     private final Logger logger = LoggerFactory.getLogger(GenreServiceImpl.class);
     private final GenreRepository genreRepository;
     private final GenreMapper genreMapper;
+    private final ResponseCache<UUID, GenreResponseDto> genreCache;
+    private final ExistenceFilter<Genre> genreExistence;
 
-    public GenreServiceImpl(GenreRepository genreRepository, GenreMapper genreMapper) {
+    public GenreServiceImpl(GenreRepository genreRepository, GenreMapper genreMapper,
+                            ResponseCache<UUID, GenreResponseDto> genreCache, ExistenceFilter<Genre> genreExistence) {
         this.genreRepository = genreRepository;
         this.genreMapper = genreMapper;
+        this.genreCache = genreCache;
+        this.genreExistence = genreExistence;
     }
 
     @Override
@@ -66,11 +74,13 @@ public class GenreServiceImpl implements GenreService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public GenreResponseDto getGenreById(String id) {
         if (Objects.isNull(id))
             throw new InvalidParameterException("Invalid argument ID supplied");
-        return genreRepository.findById(ApiUtils.getUUIDFromString(id)).map(genreMapper::toDTO)
+        UUID genreId = ApiUtils.getUUIDFromString(id);
+        if (!genreExistence.mightContainId(genreId))
+            throw new EntityNotFoundException("Genre not found for ID %s".formatted(id));
+        return genreCache.get(genreId)
                 .orElseThrow(() -> new EntityNotFoundException("Genre not found for ID %s".formatted(id)));
     }
 
@@ -84,8 +94,13 @@ public class GenreServiceImpl implements GenreService {
     }
 
     @Override
-    public Page<GenreResponseDto> listMovieGenres(int pageNumber) {
+    @Transactional(readOnly = true)
+    public PageEnvelope<GenreResponseDto> listMovieGenres(int pageNumber) {
         Pageable pageable = PageRequest.of(pageNumber, ApiUtils.ELEMENTS_PER_PAGE);
-        return genreRepository.findAll(pageable).map(genreMapper::toDTO);
+        Page<Genre> genres = genreRepository.findAll(pageable);
+        // the movies are the lazy association the mapper reads, loaded here since rows are mapped as they are written
+        if (genres.hasContent())
+            genreRepository.fetchMovies(genres.getContent());
+        return PageEnvelope.of(genres, genreMapper::toDTO);
     }
 }
@@ -4,6 +4,7 @@ import com.disney.model.InvalidUUIDFormatException;
 import com.disney.model.dto.request.MovieRequestDto;
 import com.disney.model.dto.request.MovieUpdateRequestDto;
 import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.entity.Character;
 import com.disney.model.entity.Movie;
 import com.disney.model.mapper.MovieMapper;
@@ -12,12 +13,15 @@ import com.disney.repository.specification.MovieSpecification;
 import com.disney.service.CharacterService;
 import com.disney.service.GenreService;
 import com.disney.service.MovieService;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ListQuery;
+import com.disney.service.cache.ListQueryCache;
+import com.disney.service.cache.ResponseCache;
 import com.disney.util.ApiUtils;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -40,14 +44,23 @@ public class MovieServiceImpl implements MovieService {
     private final MovieSpecification movieSpec;
     private final CharacterService characterService;
     private final GenreService genreService;
+    private final ResponseCache<UUID, MovieResponseDto> movieCache;
+    private final ListQueryCache<Movie, MovieResponseDto> movieListCache;
+    private final ExistenceFilter<Movie> movieExistence;
 
     public MovieServiceImpl(MovieRepository movieRepository, MovieMapper movieMapper, MovieSpecification movieSpec,
-                            CharacterService characterService, GenreService genreService) {
+                            CharacterService characterService, GenreService genreService,
+                            ResponseCache<UUID, MovieResponseDto> movieCache,
+                            ListQueryCache<Movie, MovieResponseDto> movieListCache,
+                            ExistenceFilter<Movie> movieExistence) {
         this.movieRepository = movieRepository;
         this.movieMapper = movieMapper;
         this.movieSpec = movieSpec;
         this.characterService = characterService;
         this.genreService = genreService;
+        this.movieCache = movieCache;
+        this.movieListCache = movieListCache;
+        this.movieExistence = movieExistence;
     }
 
     @Override
@@ -121,13 +134,15 @@ public class MovieServiceImpl implements MovieService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public MovieResponseDto getMovieById(String id) {
         if (Objects.isNull(id))
             throw new InvalidParameterException("The provided Movie ID is invalid");
-        Movie movieFound = movieRepository.findById(ApiUtils.getUUIDFromString(id))
+        UUID movieId = ApiUtils.getUUIDFromString(id);
+        if (!movieExistence.mightContainId(movieId))
+            throw new EntityNotFoundException("Movie not found for ID %s".formatted(id));
+        // answered from the cache, or by the loader that batches concurrent lookups in its own transaction
+        return movieCache.get(movieId)
                 .orElseThrow(() -> new EntityNotFoundException("Movie not found for ID %s".formatted(id)));
-        return movieMapper.toDTO(movieFound);
     }
 
     @Override
@@ -153,9 +168,10 @@ public class MovieServiceImpl implements MovieService {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Page<MovieResponseDto> listMovies(int pageNumber, String title, String genre, String order) {
+    public PageEnvelope<MovieResponseDto> listMovies(int pageNumber, String title, String genre, String order) {
         Pageable pageable = PageRequest.of(pageNumber, ApiUtils.ELEMENTS_PER_PAGE);
-        return movieRepository.findAll(movieSpec.getByFilters(title, genre, order), pageable).map(movieMapper::toDTO);
+        return movieListCache.list(ListQuery.movies(pageNumber, title, genre, order),
+                () -> movieRepository.findAll(movieSpec.getByFilters(title, genre, order), pageable),
+                movieMapper::toDTO);
     }
 }
@@ -0,0 +1,205 @@
+package com.disney.service.loader;
+
+import com.disney.model.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent single-key lookups into one batched query.
+ * <p>
+ * Keys requested within the configured window (or until the batch is full) are dispatched together through
+ * the batch function, and a key that is already waiting for a result is never queued twice: every caller asking
+ * for it shares the same pending future. Results are not kept once the batch completes, this is not a cache.
+ * <p>
+ * While the bypass condition holds the lookup runs on the caller thread instead, e.g. when the caller must see its
+ * own writes and cannot share a batch routed to a replica.
+ * <p>
+ * A queued key fails with a {@link TimeoutException} when its batch has not answered within the timeout, so no caller
+ * waits on a stuck query forever; {@link #get} reports it as an overload.
+ */
+public class BatchLoader<K, V> implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(BatchLoader.class);
+    private final String name;
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final LoaderProperties properties;
+    private final BooleanSupplier bypass;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService dispatcher;
+    private final Counter queuedKeys;
+    private final Counter coalescedKeys;
+    private final Counter dispatchedBatches;
+    private final DistributionSummary batchSize;
+    private List<Queued<K, V>> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public BatchLoader(String name, Function<Set<K>, Map<K, V>> batchFunction,
+                       LoaderProperties properties, MeterRegistry meterRegistry) {
+        this(name, batchFunction, properties, meterRegistry, () -> false);
+    }
+
+    public BatchLoader(String name, Function<Set<K>, Map<K, V>> batchFunction,
+                       LoaderProperties properties, MeterRegistry meterRegistry, BooleanSupplier bypass) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.properties = properties;
+        this.bypass = bypass;
+        this.dispatcher = Executors.newScheduledThreadPool(properties.dispatchThreads(), dispatcherThreads(name));
+        this.queuedKeys = Counter.builder("disney.loader.keys")
+                .tag("loader", name).tag("result", "queued").register(meterRegistry);
+        this.coalescedKeys = Counter.builder("disney.loader.keys")
+                .tag("loader", name).tag("result", "coalesced").register(meterRegistry);
+        this.dispatchedBatches = Counter.builder("disney.loader.batches")
+                .tag("loader", name).register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("disney.loader.batch.size")
+                .tag("loader", name).register(meterRegistry);
+        Gauge.builder("disney.loader.window", properties, p -> p.window().toNanos() / 1_000_000.0)
+                .tag("loader", name).baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder("disney.loader.max.batch.size", properties, LoaderProperties::maxBatchSize)
+                .tag("loader", name).register(meterRegistry);
+    }
+
+    public Optional<V> get(K key) {
+        try {
+            return Optional.ofNullable(load(key).get(properties.timeout().toNanos(), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException)
+                throw overloaded();
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw overloaded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    public CompletableFuture<V> load(K key) {
+        Objects.requireNonNull(key);
+        if (!properties.enabled() || bypass.getAsBoolean())
+            return CompletableFuture.completedFuture(batchFunction.apply(Set.of(key)).get(key));
+
+        // single-flight: every caller asking for a key that is already queued shares its future
+        CompletableFuture<V> future = inFlight.get(key);
+        if (Objects.isNull(future)) {
+            CompletableFuture<V> created = new CompletableFuture<>();
+            future = inFlight.putIfAbsent(key, created);
+            if (Objects.isNull(future)) {
+                queuedKeys.increment();
+                // a timed out key is queued again by the next caller instead of sharing the failure
+                created.orTimeout(properties.timeout().toNanos(), TimeUnit.NANOSECONDS)
+                        .whenComplete((value, failure) -> {
+                            if (failure instanceof TimeoutException)
+                                inFlight.remove(key, created);
+                        });
+                enqueue(new Queued<>(key, created));
+                return created;
+            }
+        }
+        coalescedKeys.increment();
+        return future;
+    }
+
+    private void enqueue(Queued<K, V> queued) {
+        List<Queued<K, V>> ready = null;
+        lock.lock();
+        try {
+            pending.add(queued);
+            if (pending.size() >= properties.maxBatchSize()) {
+                ready = drainPending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = dispatcher.schedule(this::flush, properties.window().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (Objects.nonNull(ready)) {
+            List<Queued<K, V>> batch = ready;
+            dispatcher.execute(() -> dispatch(batch));
+        }
+    }
+
+    private void flush() {
+        List<Queued<K, V>> ready;
+        lock.lock();
+        try {
+            ready = drainPending();
+        } finally {
+            lock.unlock();
+        }
+        if (!ready.isEmpty())
+            dispatch(ready);
+    }
+
+    // must be called holding the lock
+    private List<Queued<K, V>> drainPending() {
+        List<Queued<K, V>> ready = pending;
+        pending = new ArrayList<>();
+        if (Objects.nonNull(scheduledFlush)) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return ready;
+    }
+
+    private void dispatch(List<Queued<K, V>> batch) {
+        Set<K> keys = new LinkedHashSet<>();
+        batch.forEach(queued -> keys.add(queued.key()));
+        dispatchedBatches.increment();
+        batchSize.record(keys.size());
+        Map<K, V> results;
+        try {
+            results = batchFunction.apply(keys);
+        } catch (Throwable e) {
+            // errors too, a future left incomplete would keep its callers waiting until they time out
+            logger.warn("Batch of {} keys failed on loader '{}'", keys.size(), name, e);
+            batch.forEach(queued -> complete(queued, future -> future.completeExceptionally(e)));
+            return;
+        }
+        batch.forEach(queued -> complete(queued, future -> future.complete(results.get(queued.key()))));
+    }
+
+    // a key that timed out and was queued again by a later caller is in flight with a newer future, left alone
+    private void complete(Queued<K, V> queued, Consumer<CompletableFuture<V>> completion) {
+        inFlight.remove(queued.key(), queued.future());
+        completion.accept(queued.future());
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Loader '%s' did not answer within %s".formatted(name,
+                properties.timeout()));
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdown();
+    }
+
+    private record Queued<K, V>(K key, CompletableFuture<V> future) {
+    }
+
+    private static ThreadFactory dispatcherThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "loader-%s-%d".formatted(name, counter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.disney.service.loader;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "disney.loader")
+public record LoaderProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2ms") Duration window,
+        @DefaultValue("100") int maxBatchSize,
+        @DefaultValue("4") int dispatchThreads,
+        @DefaultValue("5s") Duration timeout
+) {
+}
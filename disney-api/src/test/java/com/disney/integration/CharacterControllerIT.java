@@ -270,8 +270,8 @@ public class CharacterControllerIT extends AbstractContainerBaseTest{
         //then
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is(3)));
+                .andExpect(jsonPath("$.items.length()", is(3)))
+                .andExpect(jsonPath("$.total", is(3)));
     }
 
     @DisplayName(value = "JUnit Test for list Characters filter by name and age arranged in descending order")
@@ -314,8 +314,8 @@ public class CharacterControllerIT extends AbstractContainerBaseTest{
         //then
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is(2)));
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.total", is(2)));
     }
 
     @DisplayName(value = "JUnit Test for successfully update a Character (but only his basic information, no movies)")
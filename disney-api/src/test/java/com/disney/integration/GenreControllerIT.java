@@ -124,8 +124,8 @@ public class GenreControllerIT extends AbstractContainerBaseTest {
         //then
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is((2))));
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.total", is(2)));
     }
 
     @DisplayName(value = "JUnit Test for list all Genres without providing any page number")
@@ -144,8 +144,8 @@ public class GenreControllerIT extends AbstractContainerBaseTest {
         //then
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is((2))));
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.total", is(2)));
     }
 
     @DisplayName(value = "JUnit Test for successfully get Genre by ID")
@@ -234,8 +234,8 @@ public class MovieControllerIT extends AbstractContainerBaseTest{
         // then
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is(3)));
+                .andExpect(jsonPath("$.items.length()", is(3)))
+                .andExpect(jsonPath("$.total", is(3)));
     }
 
     @DisplayName(value = "JUnit Test for list Movies that match a given title and rate")
@@ -279,8 +279,8 @@ public class MovieControllerIT extends AbstractContainerBaseTest{
         // then
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is(2)));
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.total", is(2)));
     }
 
     @DisplayName(value = "JUnit Test for update Movie basic info successfully (without changing characters or genre)")
@@ -0,0 +1,318 @@
+package com.disney.integration;
+
+import com.disney.integration.QueryCounter.Budget;
+import com.disney.integration.QueryCounter.Count;
+import com.disney.model.dto.request.*;
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.repository.CharacterRepository;
+import com.disney.repository.GenreRepository;
+import com.disney.repository.MovieRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.disney.integration.QueryCounter.assertWithinBudget;
+import static com.disney.util.ApiUtils.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The statements every endpoint may run against a seeded catalog, a change that needs more (an EAGER association,
+ * a lookup per item) fails here instead of in production. Runs on H2 with the batch loaders and the caches off, so
+ * every lookup happens on the request thread and is counted.
+ * <p>
+ * The budgets are what each endpoint costs today, most of it the EAGER movie/character graph being walked across
+ * the seeded catalog; lower them when that cost goes down, raising one needs a reason.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querybudget;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "disney.sql.trace.enabled=true",
+        "disney.sql.trace.sample-rate=0",
+        "disney.loader.enabled=false",
+        "disney.cache.list.enabled=false",
+        "disney.cache.response.enabled=false",
+        "disney.cache.existence.enabled=false"
+})
+@AutoConfigureMockMvc
+public class QueryBudgetTest {
+    private static final int GENRES = 3;
+    private static final int CHARACTERS = 8;
+    private static final int MOVIES = 12;
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final MovieRepository movieRepository;
+    private final CharacterRepository characterRepository;
+    private final GenreRepository genreRepository;
+
+    private List<Genre> genres;
+    private List<Character> characters;
+    private List<Movie> movies;
+
+    @Autowired
+    public QueryBudgetTest(MockMvc mockMvc, ObjectMapper objectMapper, JdbcTemplate jdbcTemplate,
+                           MovieRepository movieRepository, CharacterRepository characterRepository,
+                           GenreRepository genreRepository) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.movieRepository = movieRepository;
+        this.characterRepository = characterRepository;
+        this.genreRepository = genreRepository;
+    }
+
+    /**
+     * Seeds a page and a bit of movies, each with a genre and three of the characters, after emptying the tables
+     * (a repository delete would only flag the movies and characters as deleted).
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        List.of("rel_movie_character", "movies", "characters", "genres")
+                .forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        genres = new ArrayList<>();
+        for (int i = 0; i < GENRES; i++)
+            genres.add(genreRepository.save(Genre.builder().name("Genre " + i).build()));
+        characters = new ArrayList<>();
+        for (int i = 0; i < CHARACTERS; i++)
+            characters.add(characterRepository.save(Character.builder()
+                    .image("character-" + i + ".jpg")
+                    .name("Character " + i)
+                    .age(20 + i)
+                    .weight(60 + i)
+                    .history("Character history " + i)
+                    .build()));
+        movies = new ArrayList<>();
+        for (int i = 0; i < MOVIES; i++) {
+            Set<Character> cast = new HashSet<>();
+            for (int j = 0; j < 3; j++)
+                cast.add(characters.get((i + j) % CHARACTERS));
+            movies.add(movieRepository.save(Movie.builder()
+                    .image("movie-" + i + ".jpg")
+                    .title("Movie " + i)
+                    .creationDate(LocalDate.of(2000 + i, 1, 1))
+                    .rate(1 + i % 5)
+                    .genre(genres.get(i % GENRES))
+                    .characters(cast)
+                    .build()));
+        }
+    }
+
+    private Count perform(RequestBuilder request, int expectedStatus) throws Exception {
+        return QueryCounter.during(() -> mockMvc.perform(request).andExpect(status().is(expectedStatus)));
+    }
+
+    private String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    @DisplayName(value = "Query budget of POST /api/v1/movies")
+    @Test
+    public void givenMovieRequest_whenCreateMovie_thenWithinBudget() throws Exception {
+        // given
+        MovieRequestDto request = MovieRequestDto.builder()
+                .image("new-movie.jpg")
+                .title("New Movie")
+                .creationDate("2023/10/10")
+                .rate(4)
+                .genreId(genres.get(0).getIdAsString())
+                .charactersId(Set.of(characters.get(0).getIdAsString(), characters.get(1).getIdAsString()))
+                .build();
+
+        // when
+        Count count = perform(post(MOVIE_BASE_URL).contentType(APPLICATION_JSON).content(json(request)), 201);
+
+        // then
+        assertWithinBudget(count, Budget.of(22, 3, 0, 0));
+    }
+
+    @DisplayName(value = "Query budget of PATCH /api/v1/movies/{movieId}")
+    @Test
+    public void givenMovieUpdate_whenUpdateMovie_thenWithinBudget() throws Exception {
+        // given
+        MovieUpdateRequestDto request = MovieUpdateRequestDto.builder()
+                .title("Updated Movie")
+                .genreId(genres.get(1).getIdAsString())
+                .charactersToAdd(Set.of(characters.get(5).getIdAsString()))
+                .charactersToRemove(Set.of(characters.get(0).getIdAsString()))
+                .build();
+
+        // when
+        Count count = perform(patch(MOVIE_BASE_URL + MOVIE_URI_VARIABLE, movies.get(0).getIdAsString())
+                .contentType(APPLICATION_JSON).content(json(request)), 200);
+
+        // then
+        assertWithinBudget(count, Budget.of(20, 1, 1, 1));
+    }
+
+    @DisplayName(value = "Query budget of GET /api/v1/movies/{movieId}")
+    @Test
+    public void givenMovieId_whenGetMovie_thenWithinBudget() throws Exception {
+        // when
+        Count count = perform(get(MOVIE_BASE_URL + MOVIE_URI_VARIABLE, movies.get(0).getIdAsString()), 200);
+
+        // then
+        assertWithinBudget(count, Budget.selects(22));
+    }
+
+    @DisplayName(value = "Query budget of GET /api/v1/movies")
+    @Test
+    public void givenFilters_whenListMovies_thenWithinBudget() throws Exception {
+        // when
+        Count count = perform(get(MOVIE_BASE_URL).param("title", "movie").param("order", "DESC"), 200);
+
+        // then
+        assertWithinBudget(count, Budget.selects(25));
+    }
+
+    @DisplayName(value = "Query budget of DELETE /api/v1/movies/{movieId}")
+    @Test
+    public void givenMovieId_whenDeleteMovie_thenWithinBudget() throws Exception {
+        // when
+        Count count = perform(delete(MOVIE_BASE_URL + MOVIE_URI_VARIABLE, movies.get(0).getIdAsString()), 204);
+
+        // then
+        assertWithinBudget(count, Budget.of(20, 0, 1, 1));
+    }
+
+    @DisplayName(value = "Query budget of POST /api/v1/characters")
+    @Test
+    public void givenCharacterRequest_whenCreateCharacter_thenWithinBudget() throws Exception {
+        // given
+        CharacterRequestDto request = CharacterRequestDto.builder()
+                .image("new-character.jpg")
+                .name("New Character")
+                .age(30)
+                .weight(70)
+                .history("New character history")
+                .moviesId(Set.of(movies.get(0).getIdAsString(), movies.get(1).getIdAsString()))
+                .build();
+
+        // when
+        Count count = perform(post(CHARACTER_BASE_URL).contentType(APPLICATION_JSON).content(json(request)), 201);
+
+        // then
+        assertWithinBudget(count, Budget.of(21, 3, 0, 0));
+    }
+
+    @DisplayName(value = "Query budget of PATCH /api/v1/characters/{characterId}")
+    @Test
+    public void givenCharacterUpdate_whenUpdateCharacter_thenWithinBudget() throws Exception {
+        // given
+        CharacterUpdateRequestDto request = CharacterUpdateRequestDto.builder()
+                .name("Updated Character")
+                .age(31)
+                .moviesWhereAppears(Set.of(movies.get(6).getIdAsString()))
+                .moviesToUnlink(Set.of(movies.get(0).getIdAsString()))
+                .build();
+
+        // when
+        Count count = perform(patch(CHARACTER_BASE_URL + CHARACTER_URI_VARIABLE, characters.get(0).getIdAsString())
+                .contentType(APPLICATION_JSON).content(json(request)), 200);
+
+        // then
+        assertWithinBudget(count, Budget.of(20, 0, 1, 1));
+    }
+
+    @DisplayName(value = "Query budget of GET /api/v1/characters/{characterId}")
+    @Test
+    public void givenCharacterId_whenGetCharacter_thenWithinBudget() throws Exception {
+        // when
+        Count count = perform(get(CHARACTER_BASE_URL + CHARACTER_URI_VARIABLE, characters.get(0).getIdAsString()),
+                200);
+
+        // then
+        assertWithinBudget(count, Budget.selects(21));
+    }
+
+    @DisplayName(value = "Query budget of GET /api/v1/characters")
+    @Test
+    public void givenFilters_whenListCharacters_thenWithinBudget() throws Exception {
+        // when
+        Count count = perform(get(CHARACTER_BASE_URL).param("name", "character")
+                .param("age", "20"), 200);
+
+        // then
+        assertWithinBudget(count, Budget.selects(21));
+    }
+
+    @DisplayName(value = "Query budget of DELETE /api/v1/characters/{characterId}")
+    @Test
+    public void givenCharacterId_whenDeleteCharacter_thenWithinBudget() throws Exception {
+        // when
+        Count count = perform(delete(CHARACTER_BASE_URL + CHARACTER_URI_VARIABLE,
+                characters.get(0).getIdAsString()), 204);
+
+        // then
+        assertWithinBudget(count, Budget.of(20, 0, 1, 0));
+    }
+
+    @DisplayName(value = "Query budget of POST /api/v1/genres")
+    @Test
+    public void givenGenreRequest_whenCreateGenre_thenWithinBudget() throws Exception {
+        // given
+        GenreRequestDto request = GenreRequestDto.builder().name("New Genre").build();
+
+        // when
+        Count count = perform(post(GENRE_BASE_URL).contentType(APPLICATION_JSON).content(json(request)), 201);
+
+        // then
+        assertWithinBudget(count, Budget.of(1, 1, 0, 0));
+    }
+
+    @DisplayName(value = "Query budget of PATCH /api/v1/genres/{genreId}")
+    @Test
+    public void givenGenreUpdate_whenUpdateGenre_thenWithinBudget() throws Exception {
+        // given
+        GenreUpdateRequestDto request = GenreUpdateRequestDto.builder().name("Updated Genre").build();
+
+        // when
+        Count count = perform(patch(GENRE_BASE_URL + GENRE_URI_VARIABLE, genres.get(0).getIdAsString())
+                .contentType(APPLICATION_JSON).content(json(request)), 200);
+
+        // then
+        assertWithinBudget(count, Budget.of(18, 0, 1, 0));
+    }
+
+    @DisplayName(value = "Query budget of GET /api/v1/genres/{genreId}")
+    @Test
+    public void givenGenreId_whenGetGenre_thenWithinBudget() throws Exception {
+        // when
+        Count count = perform(get(GENRE_BASE_URL + GENRE_URI_VARIABLE, genres.get(0).getIdAsString()), 200);
+
+        // then
+        assertWithinBudget(count, Budget.selects(18));
+    }
+
+    @DisplayName(value = "Query budget of GET /api/v1/genres")
+    @Test
+    public void givenPage_whenListGenres_thenWithinBudget() throws Exception {
+        // when
+        Count count = perform(get(GENRE_BASE_URL), 200);
+
+        // then
+        assertWithinBudget(count, Budget.selects(10));
+    }
+}
@@ -0,0 +1,79 @@
+package com.disney.integration;
+
+import com.disney.config.tracing.SqlTrace;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements run on the calling thread during a block, through the trace of the
+ * {@link com.disney.config.tracing.TracingDataSource}, so the application must run with {@code disney.sql.trace}
+ * enabled. Work handed to other threads, like the batch loaders, is not seen: switch them off.
+ */
+public final class QueryCounter {
+
+    public record Count(int selects, int inserts, int updates, int deletes, int other, List<String> statements) {
+        public int total() {
+            return selects + inserts + updates + deletes + other;
+        }
+    }
+
+    public record Budget(int selects, int inserts, int updates, int deletes) {
+        public static Budget of(int selects, int inserts, int updates, int deletes) {
+            return new Budget(selects, inserts, updates, deletes);
+        }
+
+        public static Budget selects(int selects) {
+            return new Budget(selects, 0, 0, 0);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Block {
+        void run() throws Exception;
+    }
+
+    private QueryCounter() {
+    }
+
+    public static Count during(Block block) throws Exception {
+        SqlTrace.begin(Integer.MAX_VALUE);
+        SqlTrace trace;
+        try {
+            block.run();
+        } finally {
+            trace = SqlTrace.end();
+        }
+        int selects = 0, inserts = 0, updates = 0, deletes = 0, other = 0;
+        List<String> statements = trace.executions().stream().map(SqlTrace.Execution::sql).toList();
+        for (String sql : statements) {
+            String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if (statement.startsWith("select") || statement.startsWith("with"))
+                selects++;
+            else if (statement.startsWith("insert"))
+                inserts++;
+            else if (statement.startsWith("update"))
+                updates++;
+            else if (statement.startsWith("delete"))
+                deletes++;
+            else
+                other++;
+        }
+        return new Count(selects, inserts, updates, deletes, other, statements);
+    }
+
+    public static void assertWithinBudget(Count count, Budget budget) {
+        String statements = String.join("\n", count.statements());
+        assertThat(count.selects()).as("selects over budget, executed:\n%s", statements)
+                .isLessThanOrEqualTo(budget.selects());
+        assertThat(count.inserts()).as("inserts over budget, executed:\n%s", statements)
+                .isLessThanOrEqualTo(budget.inserts());
+        assertThat(count.updates()).as("updates over budget, executed:\n%s", statements)
+                .isLessThanOrEqualTo(budget.updates());
+        assertThat(count.deletes()).as("deletes over budget, executed:\n%s", statements)
+                .isLessThanOrEqualTo(budget.deletes());
+        assertThat(count.other()).as("unexpected statements, executed:\n%s", statements).isZero();
+    }
+}
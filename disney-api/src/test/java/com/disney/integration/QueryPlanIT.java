@@ -0,0 +1,28 @@
+package com.disney.integration;
+
+import com.disney.repository.CharacterRepository;
+import com.disney.repository.GenreRepository;
+import com.disney.repository.MovieRepository;
+import com.disney.unit.repository.AbstractQueryPlanTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+
+// the same plans on MySQL, which chooses its indexes on its own statistics
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class QueryPlanIT extends AbstractQueryPlanTest {
+
+    @Autowired
+    public QueryPlanIT(DataSource dataSource, MovieRepository movieRepository,
+                       CharacterRepository characterRepository, GenreRepository genreRepository) {
+        super(dataSource, movieRepository, characterRepository, genreRepository);
+    }
+
+    @DynamicPropertySource
+    public static void dynamicPropertySource(DynamicPropertyRegistry registry) {
+        AbstractContainerBaseTest.dynamicPropertySource(registry);
+    }
+}
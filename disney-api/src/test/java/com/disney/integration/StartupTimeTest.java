@@ -0,0 +1,153 @@
+package com.disney.integration;
+
+import com.disney.DisneyApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the time a new JVM takes to become ready: with the schema updated at start, only validated, and validated
+ * with a class-data-sharing archive from a training run. When the classes were AOT processed ({@code mvn package
+ * -Paot} before the test) the AOT context with its own archive is measured too. Every start is a separate JVM on the
+ * same file database, the time is taken until the application reports ready. Excluded from the default build, run it
+ * with {@code mvn test -Pload-test -Dtest=StartupTimeTest}; {@code -Dstartup.runs=5} changes the starts measured.
+ */
+@Tag("load")
+public class StartupTimeTest {
+    private static final String READY = "Training run ready";
+    private static final boolean AOT_PROCESSED = DisneyApplication.class
+            .getResource("DisneyApplication__ApplicationContextInitializer.class") != null;
+
+    private record StartupResult(String mode, long median, long min, long max) {
+    }
+
+    @TempDir
+    private Path directory;
+    private String classPath;
+
+    @DisplayName(value = "Load Test comparing the time to ready with schema update, validation, AOT and AppCDS")
+    @Test
+    public void givenExistingSchema_whenStartingNewJvms_thenCompareTimeToReady() throws Exception {
+        int runs = Integer.getInteger("startup.runs", 3);
+        classPath = classPath();
+        // the first start creates the schema, the ones measured find it in place
+        start(List.of(), List.of("--spring.profiles.active=schema"));
+
+        List<StartupResult> results = new ArrayList<>();
+        results.add(measure("update", runs, List.of(), List.of("--spring.profiles.active=schema")));
+        results.add(measure("validate", runs, List.of(), List.of()));
+        results.add(measureWithArchive("validate+cds", runs, List.of()));
+        if (AOT_PROCESSED)
+            results.add(measureWithArchive("validate+aot+cds", runs, List.of("-Dspring.aot.enabled=true")));
+
+        System.out.printf("%n%-18s %10s %10s %10s%n", "mode", "median ms", "min ms", "max ms");
+        results.forEach(result -> System.out.printf("%-18s %10d %10d %10d%n", result.mode(), result.median(),
+                result.min(), result.max()));
+        long update = results.get(0).median();
+        assertThat(results.stream().filter(result -> result.mode().endsWith("cds")))
+                .allSatisfy(result -> assertThat(result.median()).as(result.mode()).isLessThan(update));
+    }
+
+    private StartupResult measureWithArchive(String mode, int runs, List<String> jvmOptions) throws Exception {
+        Path archive = directory.resolve(mode + ".jsa");
+        List<String> training = new ArrayList<>(jvmOptions);
+        training.add("-XX:ArchiveClassesAtExit=%s".formatted(archive));
+        start(training, List.of());
+        assertThat(archive).exists();
+
+        List<String> options = new ArrayList<>(jvmOptions);
+        options.add("-XX:SharedArchiveFile=%s".formatted(archive));
+        return measure(mode, runs, options, List.of());
+    }
+
+    private StartupResult measure(String mode, int runs, List<String> jvmOptions, List<String> arguments)
+            throws Exception {
+        long[] sorted = new long[runs];
+        for (int i = 0; i < runs; i++)
+            sorted[i] = start(jvmOptions, arguments);
+        sorted = LongStream.of(sorted).sorted().toArray();
+        return new StartupResult(mode, sorted[runs / 2], sorted[0], sorted[runs - 1]);
+    }
+
+    // runs the application in a new JVM until it is ready, returns the milliseconds it took
+    private long start(List<String> jvmOptions, List<String> arguments) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(), "--enable-preview"));
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-cp", classPath, DisneyApplication.class.getName(),
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:file:%s".formatted(directory.resolve("disney")),
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.disney.config.startup=INFO",
+                "--disney.warmup.hot-keys-file=%s".formatted(directory.resolve("hot-keys.properties")),
+                "--disney.startup.exit-when-ready=true"));
+        command.addAll(arguments);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        AtomicLong ready = new AtomicLong(-1);
+        List<String> output = new CopyOnWriteArrayList<>();
+        Thread reader = Thread.ofVirtual().start(() -> process.inputReader().lines().forEach(line -> {
+            if (line.contains(READY))
+                ready.compareAndSet(-1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            output.add(line);
+        }));
+        boolean exited = process.waitFor(2, TimeUnit.MINUTES);
+        if (!exited)
+            process.destroyForcibly().waitFor();
+        reader.join();
+        assertThat(exited).as(String.join(System.lineSeparator(), output)).isTrue();
+        assertThat(ready.get()).as(String.join(System.lineSeparator(), output)).isPositive();
+        return ready.get();
+    }
+
+    // the archive is only written and used when no directory with classes is on the class path, so the application
+    // classes are packed into a jar and the test classes left out
+    private String classPath() throws IOException {
+        Path classes = Path.of(DisneyApplication.class.getProtectionDomain().getCodeSource().getLocation().getPath());
+        Path jar = directory.resolve("disney.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(classes)) {
+            // the directories too, component scanning lists the packages
+            files.filter(file -> !file.equals(classes)).forEach(file -> {
+                String name = classes.relativize(file).toString().replace(File.separatorChar, '/');
+                try {
+                    out.putNextEntry(new JarEntry(Files.isDirectory(file) ? name + "/" : name));
+                    if (Files.isRegularFile(file))
+                        Files.copy(file, out);
+                    out.closeEntry();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return Stream.concat(Stream.of(jar.toString()), Arrays.stream(System.getProperty("java.class.path")
+                        .split(File.pathSeparator)).filter(entry -> !Files.isDirectory(Path.of(entry))))
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+}
@@ -0,0 +1,134 @@
+package com.disney.integration;
+
+import com.disney.DisneyApplication;
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.repository.CharacterRepository;
+import com.disney.repository.GenreRepository;
+import com.disney.repository.MovieRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static com.disney.util.ApiUtils.MOVIE_BASE_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares platform and virtual request threads under the same load. Excluded from the default build, run it with
+ * {@code mvn test -Pload-test}; the concurrency levels can be changed with {@code -Dload.clients=1000,5000}.
+ */
+@Tag("load")
+public class VirtualThreadLoadTest {
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final int MOVIES = 50;
+
+    private record LoadResult(String mode, int clients, long requests, long errors, double throughput, double p99) {
+    }
+
+    @DisplayName(value = "Load Test comparing throughput and p99 latency of platform and virtual threads")
+    @Test
+    public void givenConcurrentClients_whenCallingTheApi_thenCompareThreadModes() throws Exception {
+        int[] clients = Arrays.stream(System.getProperty("load.clients", "1000,5000,10000").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+
+        List<LoadResult> results = new ArrayList<>();
+        results.addAll(run("platform", false, clients));
+        results.addAll(run("virtual", true, clients));
+
+        System.out.printf("%n%-10s %8s %10s %8s %12s %10s%n", "mode", "clients", "requests", "errors", "req/s", "p99 ms");
+        results.forEach(result -> System.out.printf("%-10s %8d %10d %8d %12.1f %10.2f%n", result.mode(),
+                result.clients(), result.requests(), result.errors(), result.throughput(), result.p99()));
+        assertThat(results).allSatisfy(result -> assertThat(result.requests()).isPositive());
+    }
+
+    private List<LoadResult> run(String mode, boolean virtual, int[] clients) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DisneyApplication.class).run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-%s;DB_CLOSE_DELAY=-1".formatted(mode),
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=10000",
+                "--disney.threads.virtual.enabled=%s".formatted(virtual),
+                "--disney.datasource.admission.enabled=%s".formatted(virtual),
+                // every client comes from the same address, and the point is to queue, not to shed
+                "--disney.ratelimit.enabled=false",
+                "--disney.concurrency.enabled=false")) {
+            List<String> movieIds = seed(context);
+            String baseUrl = "http://localhost:%s%s".formatted(
+                    context.getEnvironment().getProperty("local.server.port"), MOVIE_BASE_URL);
+            drive(baseUrl, movieIds, 100, mode); // warm-up
+            List<LoadResult> results = new ArrayList<>();
+            for (int concurrentClients : clients)
+                results.add(drive(baseUrl, movieIds, concurrentClients, mode));
+            return results;
+        }
+    }
+
+    private LoadResult drive(String baseUrl, List<String> movieIds, int clients, String mode) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[clients][REQUESTS_PER_CLIENT];
+        long start;
+        // the client keeps its own executor, closing the clients' one must not cut off responses still in flight
+        try (HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            start = System.nanoTime();
+            IntStream.range(0, clients).forEach(client -> executor.submit(() -> {
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    // alternates between a single movie and the first page of the movie list
+                    String url = i % 2 == 0
+                            ? "%s/%s".formatted(baseUrl, movieIds.get((client + i) % movieIds.size()))
+                            : "%s?page=0".formatted(baseUrl);
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                                .timeout(Duration.ofSeconds(60)).GET().build(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200)
+                            errors.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[client][i] = System.nanoTime() - sent;
+                }
+            }));
+        }
+        long elapsed = System.nanoTime() - start;
+        long[] sorted = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double p99 = sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1_000_000.0;
+        return new LoadResult(mode, clients, sorted.length, errors.get(), sorted.length / (elapsed / 1e9), p99);
+    }
+
+    private List<String> seed(ConfigurableApplicationContext context) {
+        Genre genre = context.getBean(GenreRepository.class).save(Genre.builder().name("Load Genre").build());
+        CharacterRepository characterRepository = context.getBean(CharacterRepository.class);
+        Set<Character> characters = new HashSet<>(characterRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(i -> Character.builder().name("Character %d".formatted(i)).image("character.jpg")
+                        .age(20 + i).weight(70).history("History").build())
+                .toList()));
+        return context.getBean(MovieRepository.class).saveAll(IntStream.range(0, MOVIES)
+                        .mapToObj(i -> Movie.builder().title("Movie %d".formatted(i)).image("movie.jpg").rate(4)
+                                .creationDate(LocalDate.of(2000, 1, 1).plusDays(i)).genre(genre)
+                                .characters(characters).build())
+                        .toList())
+                .stream().map(movie -> movie.getId().toString()).toList();
+    }
+}
@@ -0,0 +1,180 @@
+package com.disney.unit.config;
+
+import com.disney.config.concurrency.ConcurrencyLimitAspect;
+import com.disney.config.concurrency.ConcurrencyLimiter;
+import com.disney.config.concurrency.ConcurrencyProperties;
+import com.disney.config.concurrency.VegasLimit;
+import com.disney.config.ratelimit.RouteClass;
+import com.disney.model.ServiceOverloadedException;
+import com.disney.model.dto.request.GenreRequestDto;
+import com.disney.model.entity.Genre;
+import com.disney.model.mapper.GenreMapper;
+import com.disney.repository.GenreRepository;
+import com.disney.service.GenreService;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ExistenceProperties;
+import com.disney.service.cache.ResponseCache;
+import com.disney.service.implement.GenreServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class ConcurrencyLimiterTest {
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @DisplayName(value = "JUnit Test for raise the limit while latency stays at its no-load level")
+    @Test
+    public void givenSteadyLatency_whenSamples_thenLimitGrows() {
+        // given
+        VegasLimit limit = new VegasLimit(20, 4, 200, 1000);
+
+        // when
+        for (int i = 0; i < 10; i++)
+            limit.onSample(RouteClass.READ, 10 * MILLISECOND, limit.limit(), false);
+
+        // then
+        assertThat(limit.limit()).isGreaterThan(20);
+    }
+
+    @DisplayName(value = "JUnit Test for lower the limit when latency rises or calls are dropped")
+    @Test
+    public void givenRisingLatencyAndDrops_whenSamples_thenLimitShrinks() {
+        // given
+        VegasLimit limit = new VegasLimit(100, 4, 200, 1000);
+        limit.onSample(RouteClass.READ, 10 * MILLISECOND, 100, false);
+
+        // when
+        for (int i = 0; i < 10; i++)
+            limit.onSample(RouteClass.READ, 50 * MILLISECOND, limit.limit(), false);
+        int afterLatency = limit.limit();
+        limit.onSample(RouteClass.READ, 50 * MILLISECOND, afterLatency, true);
+
+        // then
+        assertThat(afterLatency).isLessThan(100);
+        assertThat(limit.limit()).isEqualTo((int) (afterLatency * 0.9));
+    }
+
+    @DisplayName(value = "JUnit Test for keep the limit when the calls in flight are far below it")
+    @Test
+    public void givenAppLimitedLoad_whenSlowSamples_thenLimitKept() {
+        // given
+        VegasLimit limit = new VegasLimit(100, 4, 200, 1000);
+        limit.onSample(RouteClass.READ, 10 * MILLISECOND, 1, false);
+
+        // when
+        for (int i = 0; i < 10; i++)
+            limit.onSample(RouteClass.READ, 100 * MILLISECOND, 2, false);
+
+        // then
+        assertThat(limit.limit()).isEqualTo(100);
+    }
+
+    @DisplayName(value = "JUnit Test for measure each kind of call against its own no-load latency")
+    @Test
+    public void givenFastReadsAndSlowerPages_whenSamples_thenLimitGrows() {
+        // given
+        VegasLimit limit = new VegasLimit(20, 4, 200, 1000);
+        limit.onSample(RouteClass.READ, MILLISECOND, 20, false);
+
+        // when
+        for (int i = 0; i < 10; i++)
+            limit.onSample(RouteClass.BULK, 40 * MILLISECOND, limit.limit(), false);
+
+        // then
+        assertThat(limit.limit()).isGreaterThan(20);
+    }
+
+    @DisplayName(value = "JUnit Test for leave the limit alone for calls answered from the caches")
+    @Test
+    public void givenCacheHits_whenRelease_thenNotSampled() {
+        // given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyProperties(true, 20, 4, 200, 1000,
+                10, 10, 10), new SimpleMeterRegistry());
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            ConcurrencyLimiter.Permit permit = limiter.acquire(RouteClass.READ);
+            limiter.release(permit, null, true);
+        }
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(20);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @DisplayName(value = "JUnit Test for reject writes past their bulkhead while reads are still admitted")
+    @Test
+    public void givenFullWriteBulkhead_whenWriteAndRead_thenOnlyWriteRejected() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyProperties(true, 20, 4, 200, 1000,
+                10, 1, 10), meterRegistry);
+        GenreRepository genreRepository = mock(GenreRepository.class);
+        GenreMapper genreMapper = mock(GenreMapper.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new GenreServiceImpl(genreRepository, genreMapper,
+                mock(ResponseCache.class),
+                new ExistenceFilter<>("genres", Genre.class, Genre::getId, Stream::empty,
+                        () -> 0, TransactionOperations.withoutTransaction(),
+                        new ExistenceProperties(false, 0.01, 0, Duration.ZERO), new SimpleMeterRegistry())));
+        factory.addAspect(new ConcurrencyLimitAspect(limiter));
+        GenreService genreService = factory.getProxy();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(genreMapper.toEntity(any())).willReturn(Genre.builder().name("drama").build());
+        given(genreRepository.save(any())).willAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+        UUID id = UUID.randomUUID();
+        given(genreRepository.findById(id)).willReturn(Optional.of(Genre.builder().id(id).name("drama").build()));
+        Thread writer = Thread.ofPlatform().start(() -> genreService.createGenre(GenreRequestDto.builder()
+                .name("drama").build()));
+        writing.await();
+
+        // when
+        Throwable rejected = catchThrowable(() -> genreService.createGenre(GenreRequestDto.builder()
+                .name("comedy").build()));
+        Genre read = genreService.getGenreById(id);
+        release.countDown();
+        writer.join();
+
+        // then
+        assertThat(rejected).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(read.getId()).isEqualTo(id);
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(meterRegistry.get("disney.concurrency.rejected").tags("class", "write", "reason", "bulkhead")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for count a database timeout as a dropped call")
+    @Test
+    public void givenDatabaseTimeout_whenRelease_thenLimitCut() {
+        // given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyProperties(true, 100, 4, 200, 1000,
+                10, 10, 10), new SimpleMeterRegistry());
+
+        // when
+        ConcurrencyLimiter.Permit permit = limiter.acquire(RouteClass.READ);
+        limiter.release(permit, new QueryTimeoutException("timed out"), false);
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(90);
+    }
+}
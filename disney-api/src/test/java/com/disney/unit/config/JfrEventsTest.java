@@ -0,0 +1,160 @@
+package com.disney.unit.config;
+
+import com.disney.config.jfr.*;
+import com.disney.model.entity.Genre;
+import com.disney.model.mapper.GenreMapper;
+import com.disney.repository.GenreRepository;
+import com.disney.service.GenreService;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ExistenceProperties;
+import com.disney.service.cache.ResponseCache;
+import com.disney.service.implement.GenreServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class JfrEventsTest {
+    @TempDir
+    Path directory;
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        for (String event : List.of(RequestEvent.NAME, ServiceEvent.NAME, TransactionEvent.NAME))
+            recording.enable(event).withoutThreshold();
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @DisplayName(value = "JUnit Test for record a request event with its route, status and response size")
+    @Test
+    public void givenRequest_whenFilter_thenRequestEventRecorded() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/movies/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        new JfrRequestFilter().doFilter(request, response, (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/movies/{id}");
+            servletResponse.getOutputStream().write("{\"id\":42}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        // then
+        List<RecordedEvent> events = events(RequestEvent.NAME);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("method")).isEqualTo("GET");
+        assertThat(events.get(0).getString("route")).isEqualTo("/api/v1/movies/{id}");
+        assertThat(events.get(0).getInt("status")).isEqualTo(200);
+        assertThat(events.get(0).getLong("responseBytes")).isEqualTo(9);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":42}");
+    }
+
+    @DisplayName(value = "JUnit Test for record service events with the rows returned and the exception thrown")
+    @Test
+    public void givenServiceCalls_whenAspect_thenServiceEventsRecorded() throws Exception {
+        // given
+        GenreRepository genreRepository = mock(GenreRepository.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new GenreServiceImpl(genreRepository,
+                mock(GenreMapper.class), mock(ResponseCache.class),
+                new ExistenceFilter<>("genres", Genre.class, Genre::getId, Stream::empty,
+                        () -> 0, TransactionOperations.withoutTransaction(),
+                        new ExistenceProperties(false, 0.01, 0, Duration.ZERO), new SimpleMeterRegistry())));
+        factory.addAspect(new JfrServiceAspect());
+        GenreService genreService = factory.getProxy();
+        UUID id = UUID.randomUUID();
+        List<Genre> genres = List.of(Genre.builder().name("drama").build(), Genre.builder().name("comedy").build());
+        given(genreRepository.findAll(any(Pageable.class)))
+                .willReturn(new PageImpl<>(genres, PageRequest.of(0, 10), genres.size()));
+        given(genreRepository.findById(id)).willReturn(Optional.empty());
+
+        // when
+        genreService.listMovieGenres(0);
+        Throwable throwable = catchThrowable(() -> genreService.getGenreById(id));
+
+        // then
+        assertThat(throwable).isInstanceOf(EntityNotFoundException.class);
+        List<RecordedEvent> events = events(ServiceEvent.NAME);
+        assertThat(events).hasSize(2);
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getString("operation")).isEqualTo("listMovieGenres");
+            assertThat(event.getString("service")).isEqualTo("GenreServiceImpl");
+            assertThat(event.getLong("rows")).isEqualTo(2);
+            assertThat(event.getString("exception")).isNull();
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getString("operation")).isEqualTo("getGenreById");
+            assertThat(event.getString("entityId")).isEqualTo(id.toString());
+            assertThat(event.getString("exception")).isEqualTo("EntityNotFoundException");
+        });
+    }
+
+    @DisplayName(value = "JUnit Test for record a transaction event with its outcome")
+    @Test
+    public void givenTransactions_whenCommittedAndRolledBack_thenTransactionEventsRecorded() throws Exception {
+        // given
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jfrevents;DB_CLOSE_DELAY=-1");
+        TransactionTemplate transaction = new TransactionTemplate(
+                new JfrTransactionManager(new DataSourceTransactionManager(dataSource)));
+        transaction.setReadOnly(true);
+
+        // when
+        transaction.executeWithoutResult(status -> {
+        });
+        transaction.executeWithoutResult(status -> status.setRollbackOnly());
+
+        // then
+        List<RecordedEvent> events = events(TransactionEvent.NAME);
+        assertThat(events).extracting(event -> event.getString("outcome")).containsExactly("commit", "rollback");
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getBoolean("readOnly")).isTrue();
+            assertThat(event.getBoolean("newTransaction")).isTrue();
+        });
+    }
+
+    private List<RecordedEvent> events(String name) throws Exception {
+        recording.stop();
+        Path file = directory.resolve("events.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
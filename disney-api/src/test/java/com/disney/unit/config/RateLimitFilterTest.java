@@ -0,0 +1,159 @@
+package com.disney.unit.config;
+
+import com.disney.config.ratelimit.RateLimitFilter;
+import com.disney.config.ratelimit.RateLimitProperties;
+import com.disney.config.ratelimit.RateLimiter;
+import com.disney.config.ratelimit.RouteClass;
+import com.disney.config.warmup.WarmUpToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitFilterTest {
+    private final AtomicLong clock = new AtomicLong();
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties(true, List.of("/api/**"), List.of("/api/v1/*"),
+                new RateLimitProperties.Limit(3, 1), new RateLimitProperties.Limit(1, 1),
+                new RateLimitProperties.Limit(2, 2), Duration.ofMinutes(1), 2);
+        rateLimiter = new RateLimiter(properties, clock::get);
+    }
+
+    @DisplayName(value = "JUnit Test for let a burst of the bucket capacity through and refill it over time")
+    @Test
+    public void givenBurst_whenAcquire_thenLimitedUntilRefilled() {
+        // given
+        for (int i = 0; i < 3; i++)
+            assertThat(rateLimiter.acquire("client", RouteClass.READ)).isZero();
+
+        // when
+        Duration wait = rateLimiter.acquire("client", RouteClass.READ);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // then
+        assertThat(wait).isEqualTo(Duration.ofSeconds(1));
+        assertThat(rateLimiter.acquire("client", RouteClass.READ)).isZero();
+        assertThat(rateLimiter.acquire("client", RouteClass.READ)).isPositive();
+        assertThat(rateLimiter.acquire("client", RouteClass.WRITE)).isZero();
+        assertThat(rateLimiter.acquire("other", RouteClass.READ)).isZero();
+    }
+
+    @DisplayName(value = "JUnit Test for drop the buckets of clients idle for longer than the timeout")
+    @Test
+    public void givenIdleClient_whenEvict_thenDropped() {
+        // given
+        rateLimiter.acquire("idle", RouteClass.READ);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(50));
+        rateLimiter.acquire("active", RouteClass.BULK);
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        rateLimiter.evictIdle();
+
+        // then
+        assertThat(rateLimiter.clients()).isEqualTo(1);
+        assertThat(rateLimiter.acquire("active", RouteClass.BULK)).isZero();
+    }
+
+    @DisplayName(value = "JUnit Test for share one bucket between the clients seen once the maximum is reached")
+    @Test
+    public void givenMaximumClients_whenNewClientsAcquire_thenTheyShareABucket() {
+        // given
+        rateLimiter.acquire("first", RouteClass.WRITE);
+        rateLimiter.acquire("second", RouteClass.WRITE);
+
+        // when
+        Duration third = rateLimiter.acquire("third", RouteClass.WRITE);
+        Duration fourth = rateLimiter.acquire("fourth", RouteClass.WRITE);
+
+        // then
+        assertThat(rateLimiter.clients()).isEqualTo(2);
+        assertThat(third).isZero();
+        assertThat(fourth).isPositive();
+    }
+
+    @DisplayName(value = "JUnit Test for answer 429 with Retry-After once the bulk bucket of a client is empty")
+    @Test
+    public void givenEmptyBulkBucket_whenFilter_thenTooManyRequests() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, properties, request -> false,
+                new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+        MockHttpServletResponse[] responses = new MockHttpServletResponse[3];
+
+        // when
+        for (int i = 0; i < responses.length; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/characters");
+            // a key of its own on every request does not give the client a new bucket
+            request.addHeader("X-API-Key", "key-" + i);
+            responses[i] = new MockHttpServletResponse();
+            filter.doFilter(request, responses[i], (servletRequest, servletResponse) -> {
+            });
+        }
+        MockHttpServletResponse single = new MockHttpServletResponse();
+        MockHttpServletRequest singleRequest = new MockHttpServletRequest("GET", "/api/v1/characters/42");
+        filter.doFilter(singleRequest, single, (servletRequest, servletResponse) -> {
+        });
+        MockHttpServletResponse actuator = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), actuator,
+                (servletRequest, servletResponse) -> {
+                });
+
+        // then
+        assertThat(responses[0].getStatus()).isEqualTo(200);
+        assertThat(responses[1].getStatus()).isEqualTo(200);
+        assertThat(responses[2].getStatus()).isEqualTo(429);
+        assertThat(responses[2].getHeader("Retry-After")).isEqualTo("1");
+        assertThat(responses[2].getContentAsString()).contains("\"errorCode\":\"RATE_LIMITED\"");
+        assertThat(single.getStatus()).isEqualTo(200);
+        assertThat(actuator.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("disney.ratelimit.rejected").tag("class", "bulk").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for let the requests of the warm-up through when the bucket is empty")
+    @Test
+    public void givenWarmUpToken_whenFilter_thenNeverLimited() throws Exception {
+        // given
+        WarmUpToken token = new WarmUpToken("secret");
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, properties, token::sentWith,
+                new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry());
+        MockHttpServletResponse[] responses = new MockHttpServletResponse[5];
+
+        // when
+        for (int i = 0; i < responses.length; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/characters");
+            request.addHeader(WarmUpToken.HEADER, "secret");
+            responses[i] = new MockHttpServletResponse();
+            filter.doFilter(request, responses[i], (servletRequest, servletResponse) -> {
+            });
+        }
+        MockHttpServletRequest guessed = new MockHttpServletRequest("GET", "/api/v1/characters");
+        guessed.addHeader(WarmUpToken.HEADER, "guess");
+        MockHttpServletResponse[] guesses = new MockHttpServletResponse[3];
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = new MockHttpServletResponse();
+            filter.doFilter(guessed, guesses[i], (servletRequest, servletResponse) -> {
+            });
+        }
+
+        // then
+        assertThat(responses).allSatisfy(response -> assertThat(response.getStatus()).isEqualTo(200));
+        assertThat(guesses[2].getStatus()).isEqualTo(429);
+    }
+}
@@ -0,0 +1,137 @@
+package com.disney.unit.config;
+
+import com.disney.config.datasource.ReadWriteRoutingDataSource;
+import com.disney.config.datasource.ReadYourWritesTracker;
+import com.disney.config.datasource.ReplicaLagMonitor;
+import com.disney.config.datasource.RoutingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadWriteRoutingDataSourceTest {
+    private static final String WHERE_AM_I = "SELECT name FROM node";
+
+    private ReadYourWritesTracker tracker;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        // two in-memory H2 databases stand in for the primary and the replica
+        DataSource primary = node("primary", 0);
+        DataSource replica = node("replica", 30);
+        RoutingProperties properties = new RoutingProperties(true, Duration.ofSeconds(10), Duration.ofSeconds(5),
+                "SELECT seconds FROM replica_lag", Duration.ofSeconds(5));
+        tracker = new ReadYourWritesTracker(properties.stickyWindow());
+        lagMonitor = new ReplicaLagMonitor(replica, properties, new SimpleMeterRegistry());
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, tracker, lagMonitor));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.clearClient();
+        lagMonitor.close();
+    }
+
+    @DisplayName(value = "JUnit Test for route read-only transactions to the replica")
+    @Test
+    public void givenReadOnlyTransaction_whenQuery_thenReplicaIsUsed() {
+        // when
+        String result = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+
+        // then
+        assertThat(result).isEqualTo("replica");
+    }
+
+    @DisplayName(value = "JUnit Test for route read-write transactions to the primary")
+    @Test
+    public void givenWriteTransaction_whenQuery_thenPrimaryIsUsed() {
+        // when
+        String result = writeTransaction.execute(status -> jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+
+        // then
+        assertThat(result).isEqualTo("primary");
+    }
+
+    @DisplayName(value = "JUnit Test for keep reading from the primary after the client wrote")
+    @Test
+    public void givenClientThatJustWrote_whenReadOnlyQuery_thenPrimaryIsUsed() {
+        // given
+        tracker.bindClient("client-a");
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        // when
+        String pinnedClient = readOnlyTransaction.execute(status ->
+                jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+        tracker.bindClient("client-b");
+        String otherClient = readOnlyTransaction.execute(status ->
+                jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+
+        // then
+        assertThat(pinnedClient).isEqualTo("primary");
+        assertThat(otherClient).isEqualTo("replica");
+    }
+
+    @DisplayName(value = "JUnit Test for not pin a client whose connection to the primary was outside a transaction")
+    @Test
+    public void givenQueryOutsideTransaction_whenReadOnlyQuery_thenReplicaIsUsed() {
+        // given
+        tracker.bindClient("client-a");
+        TransactionTemplate withoutTransaction = new TransactionTemplate(writeTransaction.getTransactionManager());
+        withoutTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        String outside = withoutTransaction.execute(status -> jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+
+        // when
+        String result = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+
+        // then
+        assertThat(outside).isEqualTo("primary");
+        assertThat(result).isEqualTo("replica");
+    }
+
+    @DisplayName(value = "JUnit Test for bypass the replica while it lags behind the primary")
+    @Test
+    public void givenLaggingReplica_whenReadOnlyQuery_thenPrimaryIsUsed() {
+        // given
+        lagMonitor.check();
+
+        // when
+        String result = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHERE_AM_I, String.class));
+
+        // then
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(result).isEqualTo("primary");
+    }
+
+    private static DataSource node(String name, int lagSeconds) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:%s-%d;DB_CLOSE_DELAY=-1".formatted(name, System.nanoTime()));
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        jdbc.execute("CREATE TABLE replica_lag (seconds INT)");
+        jdbc.update("INSERT INTO replica_lag VALUES (?)", lagSeconds);
+        return dataSource;
+    }
+}
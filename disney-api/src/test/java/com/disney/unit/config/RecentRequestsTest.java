@@ -0,0 +1,102 @@
+package com.disney.unit.config;
+
+import com.disney.config.metrics.RequestStatistics;
+import com.disney.config.requests.RecentRequest;
+import com.disney.config.requests.RecentRequestFilter;
+import com.disney.config.requests.RecentRequests;
+import com.disney.config.requests.RecentRequestsEndpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RecentRequestsTest {
+
+    private static RecentRequest request(Instant at, String handler, double durationMillis) {
+        return new RecentRequest(at, "GET", "/api/v1/movies", handler, "/api/v1/movies", null, 200, durationMillis,
+                1, 100);
+    }
+
+    @DisplayName(value = "JUnit Test for keep every request recorded from several threads while under capacity")
+    @Test
+    public void givenConcurrentWriters_whenRecord_thenNoRequestLost() throws Exception {
+        // given
+        RecentRequests recentRequests = new RecentRequests(8 * 1024, 8);
+        List<Thread> writers = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 8; t++)
+            writers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 500; i++)
+                    recentRequests.record(request(Instant.now(), "listMovies", i));
+            }));
+        for (Thread writer : writers)
+            writer.join();
+
+        // then
+        List<RecentRequest> snapshot = recentRequests.snapshot();
+        assertThat(snapshot).hasSize(4000);
+        assertThat(snapshot).isSortedAccordingTo((first, second) -> second.at().compareTo(first.at()));
+    }
+
+    @DisplayName(value = "JUnit Test for list the slowest recent calls of a handler")
+    @Test
+    public void givenMixedRequests_whenSlowestOfHandler_thenFilteredAndOrdered() {
+        // given
+        RecentRequests recentRequests = new RecentRequests(64, 1);
+        Instant now = Instant.now();
+        recentRequests.record(request(now.minusSeconds(120), "listMovies", 900));
+        recentRequests.record(request(now.minusSeconds(5), "listMovies", 30));
+        recentRequests.record(request(now.minusSeconds(4), "getCharacter", 500));
+        recentRequests.record(request(now.minusSeconds(3), "listMovies", 80));
+        recentRequests.record(request(now.minusSeconds(2), "listMovies", 10));
+        RecentRequestsEndpoint endpoint = new RecentRequestsEndpoint(recentRequests);
+
+        // when
+        List<RecentRequest> slowest = endpoint.requests("listMovies", null, null, null, Duration.ofMinutes(1), null,
+                RecentRequestsEndpoint.Order.SLOWEST, 2);
+
+        // then
+        assertThat(slowest).extracting(RecentRequest::durationMillis).containsExactly(80.0, 30.0);
+    }
+
+    @DisplayName(value = "JUnit Test for record the route, status, statements and bytes of a request")
+    @Test
+    public void givenRequest_whenFilter_thenRecorded() throws Exception {
+        // given
+        RecentRequests recentRequests = new RecentRequests(16, 1);
+        RecentRequestFilter filter = new RecentRequestFilter(recentRequests, 8);
+        RequestStatistics statistics = new RequestStatistics();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/characters");
+        request.setQueryString("name=Mickey&age=90");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(206);
+
+        // when
+        statistics.begin();
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/characters");
+            statistics.inspect("select 1");
+            servletResponse.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+        });
+        statistics.end();
+
+        // then
+        assertThat(recentRequests.snapshot()).singleElement().satisfies(recent -> {
+            assertThat(recent.route()).isEqualTo("/api/v1/characters");
+            assertThat(recent.query()).isEqualTo("name=Mic");
+            assertThat(recent.status()).isEqualTo(206);
+            assertThat(recent.statements()).isEqualTo(1);
+            assertThat(recent.bytes()).isEqualTo(2);
+        });
+    }
+}
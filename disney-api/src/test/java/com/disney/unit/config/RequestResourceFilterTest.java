@@ -0,0 +1,78 @@
+package com.disney.unit.config;
+
+import com.disney.config.metrics.RequestResourceFilter;
+import com.disney.config.metrics.RequestResourceProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestResourceFilterTest {
+    private static final int ALLOCATION = 4 * 1024 * 1024;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestResourceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestResourceFilter(new RequestResourceProperties(true, 1.0, Duration.ofSeconds(10)),
+                meterRegistry);
+    }
+
+    @DisplayName(value = "JUnit Test for record the bytes allocated and the CPU used by a request by template and status")
+    @Test
+    public void givenRequest_whenFilter_thenAllocationAndCpuRecorded() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/movies/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<byte[]> retained = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/movies/{id}");
+            retained.set(new byte[ALLOCATION]);
+        });
+
+        // then
+        DistributionSummary allocated = meterRegistry.get("disney.request.allocated")
+                .tags("method", "GET", "uri", "/api/v1/movies/{id}", "status", "200").summary();
+        assertThat(allocated.count()).isEqualTo(1);
+        assertThat(allocated.totalAmount()).isGreaterThanOrEqualTo(ALLOCATION);
+        assertThat(meterRegistry.get("disney.request.cpu").tags("status", "200").timer().count()).isEqualTo(1);
+        assertThat(retained.get()).hasSize(ALLOCATION);
+    }
+
+    @DisplayName(value = "JUnit Test for count a request served on a virtual thread as unmeasured")
+    @Test
+    public void givenVirtualThread_whenFilter_thenCountedAsUnmeasured() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/genres");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(404);
+
+        // when
+        Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).join();
+
+        // then
+        assertThat(meterRegistry.get("disney.request.resources.unmeasured").tags("status", "404").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("disney.request.allocated").summary().count()).isZero();
+        assertThat(meterRegistry.get("disney.request.cpu").timer().count()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.disney.unit.config;
+
+import com.disney.config.metrics.RequestStatistics;
+import com.disney.config.metrics.RequestStatisticsFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestStatisticsFilterTest {
+    private RequestStatistics statistics;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestStatisticsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new RequestStatistics();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestStatisticsFilter(statistics, meterRegistry);
+    }
+
+    @DisplayName(value = "JUnit Test for record the statements and entity loads of a request by URI template")
+    @Test
+    public void givenRequest_whenFilter_thenCountsRecordedByTemplate() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/movies/42");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/movies/{id}");
+            statistics.inspect("select 1");
+            statistics.inspect("select 2");
+            // the id typed as Object, like Hibernate calls it, not the deprecated Serializable overload
+            statistics.onLoad(new Object(), (Object) 1, null, null, null);
+        });
+
+        // then
+        DistributionSummary statements = meterRegistry.get("disney.request.statements")
+                .tags("method", "GET", "uri", "/api/v1/movies/{id}").summary();
+        DistributionSummary entityLoads = meterRegistry.get("disney.request.entity.loads")
+                .tags("method", "GET", "uri", "/api/v1/movies/{id}").summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(2);
+        assertThat(entityLoads.totalAmount()).isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for not count statements made outside a request")
+    @Test
+    public void givenStatementsOutsideRequest_whenFilter_thenNotCounted() throws Exception {
+        // given
+        statistics.inspect("select 1");
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/nowhere"), new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> {
+                });
+        statistics.inspect("select 2");
+
+        // then
+        assertThat(meterRegistry.get("disney.request.statements").tags("uri", "UNKNOWN").summary().totalAmount())
+                .isZero();
+    }
+}
@@ -0,0 +1,113 @@
+package com.disney.unit.config;
+
+import com.disney.config.timing.ServerTiming;
+import com.disney.config.timing.ServerTimingFilter;
+import com.disney.config.timing.ServerTimingProperties;
+import com.disney.config.timing.ServerTimingSessionListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ServerTimingFilterTest {
+
+    @DisplayName(value = "JUnit Test for add the phases of a request that asked for them as a Server-Timing header")
+    @Test
+    public void givenRequestHeader_whenFilter_thenServerTimingHeaderWritten() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(new ServerTimingProperties(true, false,
+                "X-Server-Timing", "secret"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/characters");
+        request.addHeader("X-Server-Timing", "secret");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            ServerTimingSessionListener listener = new ServerTimingSessionListener();
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+            listener.cacheGetEnd(false);
+            ServerTiming timing = ServerTiming.current();
+            timing.mappingStarted();
+            timing.mappingStarted();
+            timing.mappingEnded();
+            timing.mappingEnded();
+            timing.serializationStarted();
+            servletResponse.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+        });
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING))
+                .matches("db;dur=\\d+\\.\\d{2};desc=\"2 statements\", mapping;dur=\\d+\\.\\d{2}, "
+                        + "serialization;dur=\\d+\\.\\d{2}, cache;desc=\"0 hit, 1 miss\", total;dur=\\d+\\.\\d{2}");
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @DisplayName(value = "JUnit Test for not time a request without the request header or with the wrong token")
+    @Test
+    public void givenNoHeaderOrWrongToken_whenFilter_thenNoServerTimingHeader() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(new ServerTimingProperties(true, false,
+                "X-Server-Timing", "secret"));
+        MockHttpServletRequest withoutHeader = new MockHttpServletRequest("GET", "/api/v1/characters");
+        MockHttpServletRequest wrongToken = new MockHttpServletRequest("GET", "/api/v1/characters");
+        wrongToken.addHeader("X-Server-Timing", "guess");
+        MockHttpServletResponse withoutHeaderResponse = new MockHttpServletResponse();
+        MockHttpServletResponse wrongTokenResponse = new MockHttpServletResponse();
+        AtomicBoolean timed = new AtomicBoolean();
+
+        // when
+        filter.doFilter(withoutHeader, withoutHeaderResponse,
+                (servletRequest, servletResponse) -> timed.compareAndSet(false, ServerTiming.current() != null));
+        filter.doFilter(wrongToken, wrongTokenResponse,
+                (servletRequest, servletResponse) -> timed.compareAndSet(false, ServerTiming.current() != null));
+
+        // then
+        assertThat(timed).isFalse();
+        assertThat(withoutHeaderResponse.getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+        assertThat(wrongTokenResponse.getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+    }
+
+    @DisplayName(value = "JUnit Test for time a request that sends the configured token")
+    @Test
+    public void givenMatchingToken_whenFilter_thenServerTimingHeaderWritten() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(new ServerTimingProperties(true, false,
+                "X-Server-Timing", "secret"));
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/v1/characters/1");
+        request.addHeader("X-Server-Timing", "secret");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+        });
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING))
+                .startsWith("db;dur=0.00;desc=\"0 statements\"")
+                .doesNotContain("cache");
+    }
+
+    @DisplayName(value = "JUnit Test for refuse to time requests on demand without a token")
+    @Test
+    public void givenEmptyToken_whenCreatingFilter_thenIllegalArgumentException() {
+        // given
+        ServerTimingProperties properties = new ServerTimingProperties(true, false, "X-Server-Timing", "");
+
+        // when
+        Throwable thrown = catchThrowable(() -> new ServerTimingFilter(properties));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("token");
+        assertThat(new ServerTimingFilter(new ServerTimingProperties(true, true, "X-Server-Timing", ""))).isNotNull();
+    }
+}
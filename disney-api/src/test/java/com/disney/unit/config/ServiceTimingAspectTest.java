@@ -0,0 +1,85 @@
+package com.disney.unit.config;
+
+import com.disney.config.metrics.ServiceTimingAspect;
+import com.disney.model.entity.Genre;
+import com.disney.model.mapper.GenreMapper;
+import com.disney.repository.GenreRepository;
+import com.disney.service.GenreService;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ExistenceProperties;
+import com.disney.service.cache.ResponseCache;
+import com.disney.service.implement.GenreServiceImpl;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class ServiceTimingAspectTest {
+    private GenreRepository genreRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private GenreService genreService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        genreRepository = mock(GenreRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new GenreServiceImpl(genreRepository,
+                mock(GenreMapper.class), mock(ResponseCache.class),
+                new ExistenceFilter<>("genres", Genre.class, Genre::getId, Stream::empty,
+                        () -> 0, TransactionOperations.withoutTransaction(),
+                        new ExistenceProperties(false, 0.01, 0, Duration.ZERO), meterRegistry)));
+        factory.addAspect(new ServiceTimingAspect(meterRegistry));
+        genreService = factory.getProxy();
+    }
+
+    @DisplayName(value = "JUnit Test for time a successful service call by service and method")
+    @Test
+    public void givenServiceCall_whenReturns_thenTimerWithoutException() {
+        // given
+        UUID id = UUID.randomUUID();
+        given(genreRepository.findById(id)).willReturn(Optional.of(Genre.builder().id(id).name("drama").build()));
+
+        // when
+        genreService.getGenreById(id);
+        genreService.getGenreById(id);
+
+        // then
+        Timer timer = meterRegistry.get("disney.service")
+                .tags("service", "GenreServiceImpl", "method", "getGenreById", "exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @DisplayName(value = "JUnit Test for time a failed service call with the exception it threw")
+    @Test
+    public void givenServiceCall_whenThrows_thenTimerWithException() {
+        // given
+        UUID id = UUID.randomUUID();
+        given(genreRepository.findById(id)).willReturn(Optional.empty());
+
+        // when
+        Throwable throwable = catchThrowable(() -> genreService.getGenreById(id));
+
+        // then
+        assertThat(throwable).isInstanceOf(EntityNotFoundException.class);
+        assertThat(meterRegistry.get("disney.service")
+                .tags("method", "getGenreById", "exception", "EntityNotFoundException")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("disney.service").tags("exception", "none").timer()).isNull();
+    }
+}
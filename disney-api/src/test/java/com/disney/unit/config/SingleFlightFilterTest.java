@@ -0,0 +1,170 @@
+package com.disney.unit.config;
+
+import com.disney.config.singleflight.SingleFlightFilter;
+import com.disney.config.singleflight.SingleFlightProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SingleFlightFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final FilterChain slowList = (servletRequest, servletResponse) -> {
+        executions.incrementAndGet();
+        servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/movies");
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        servletResponse.setContentType("application/json");
+        servletResponse.getOutputStream().write("{\"items\":[]}".getBytes(StandardCharsets.UTF_8));
+    };
+
+    private static MockHttpServletRequest listMovies(String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/movies");
+        request.setQueryString(query);
+        for (String parameter : query.split("&"))
+            request.addParameter(parameter.split("=")[0], parameter.split("=")[1]);
+        return request;
+    }
+
+    @DisplayName(value = "JUnit Test for run identical concurrent GETs once and share the response")
+    @Test
+    public void givenIdenticalConcurrentGets_whenFilter_thenRunOnceAndShared() throws Exception {
+        // given
+        SingleFlightFilter filter = new SingleFlightFilter(new SingleFlightProperties(true, List.of("/api/**"),
+                Duration.ofSeconds(5)), () -> false, meterRegistry);
+        List<MockHttpServletResponse> responses = new ArrayList<>();
+        List<Thread> requests = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            responses.add(response);
+            // the same parameters, in a different order every other request
+            MockHttpServletRequest request = listMovies(i % 2 == 0 ? "title=Frozen&page=0" : "page=0&title=Frozen");
+            requests.add(Thread.ofPlatform().start(() -> {
+                try {
+                    filter.doFilter(request, response, slowList);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        // the leader waits on the latch, the others on its response
+        while (requests.stream().filter(thread -> thread.getState() == Thread.State.TIMED_WAITING).count() < 5)
+            Thread.onSpinWait();
+        release.countDown();
+        for (Thread request : requests)
+            request.join();
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentType()).startsWith("application/json");
+            assertThat(response.getContentAsString()).isEqualTo("{\"items\":[]}");
+        });
+        assertThat(meterRegistry.get("disney.singleflight.requests").tags("uri", "/api/v1/movies", "outcome", "shared")
+                .counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("disney.singleflight.shared").tags("uri", "/api/v1/movies").summary()
+                .totalAmount()).isEqualTo(4);
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @DisplayName(value = "JUnit Test for run a request on its own once it waited longer than the timeout")
+    @Test
+    public void givenSlowLeader_whenTimeoutElapses_thenFollowerRunsItself() throws Exception {
+        // given
+        SingleFlightFilter filter = new SingleFlightFilter(new SingleFlightProperties(true, List.of("/api/**"),
+                Duration.ofMillis(50)), () -> false, meterRegistry);
+        Thread leader = Thread.ofPlatform().start(() -> {
+            try {
+                filter.doFilter(listMovies("title=Frozen"), new MockHttpServletResponse(), slowList);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (executions.get() == 0)
+            Thread.onSpinWait();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(listMovies("title=Frozen"), response, (servletRequest, servletResponse) -> {
+            executions.incrementAndGet();
+            servletResponse.getWriter().write("own");
+        });
+        release.countDown();
+        leader.join();
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(response.getContentAsString()).isEqualTo("own");
+        assertThat(meterRegistry.get("disney.singleflight.requests").tags("outcome", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for not coalesce requests that differ in their parameters or are not GETs")
+    @Test
+    public void givenDifferentRequests_whenFilter_thenEachRuns() throws Exception {
+        // given
+        SingleFlightFilter filter = new SingleFlightFilter(new SingleFlightProperties(true, List.of("/api/**"),
+                Duration.ofSeconds(5)), () -> false, meterRegistry);
+        FilterChain chain = (servletRequest, servletResponse) -> executions.incrementAndGet();
+
+        // when
+        filter.doFilter(listMovies("title=Frozen"), new MockHttpServletResponse(), chain);
+        filter.doFilter(listMovies("title=Moana"), new MockHttpServletResponse(), chain);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/movies"), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(executions).hasValue(3);
+        assertThat(meterRegistry.find("disney.singleflight.requests").tags("outcome", "shared").counter()).isNull();
+    }
+
+    @DisplayName(value = "JUnit Test for let a client pinned to the primary run its request instead of sharing one")
+    @Test
+    public void givenPinnedClient_whenIdenticalConcurrentGets_thenEachRuns() throws Exception {
+        // given
+        SingleFlightFilter filter = new SingleFlightFilter(new SingleFlightProperties(true, List.of("/api/**"),
+                Duration.ofSeconds(5)), () -> true, meterRegistry);
+        List<Thread> requests = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 2; i++)
+            requests.add(Thread.ofPlatform().start(() -> {
+                try {
+                    filter.doFilter(listMovies("title=Frozen"), new MockHttpServletResponse(), slowList);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        while (executions.get() < 2)
+            Thread.onSpinWait();
+        release.countDown();
+        for (Thread request : requests)
+            request.join();
+
+        // then
+        assertThat(executions).hasValue(2);
+        assertThat(filter.inFlight()).isZero();
+        assertThat(meterRegistry.find("disney.singleflight.requests").counter()).isNull();
+    }
+}
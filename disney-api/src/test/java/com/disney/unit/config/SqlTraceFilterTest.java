@@ -0,0 +1,138 @@
+package com.disney.unit.config;
+
+import com.disney.config.tracing.SqlTraceFilter;
+import com.disney.config.tracing.SqlTraceLog;
+import com.disney.config.tracing.SqlTraceProperties;
+import com.disney.config.tracing.TracingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlTraceFilterTest {
+    private TracingDataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sqltrace;DB_CLOSE_DELAY=-1");
+        dataSource = new TracingDataSource(h2);
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists movies (id int primary key, title varchar(20))");
+            statement.execute("merge into movies key (id) values (1, 'Up'), (2, 'Coco'), (3, 'Soul')");
+        }
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private SqlTraceLog traceLog(double sampleRate, Duration slowThreshold) {
+        return new SqlTraceLog(properties(sampleRate, slowThreshold), meterRegistry);
+    }
+
+    private static SqlTraceProperties properties(double sampleRate, Duration slowThreshold) {
+        return new SqlTraceProperties(true, sampleRate, slowThreshold, 3, 200, 16, 16);
+    }
+
+    private void findEachMovie() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int id = 1; id <= 3; id++) {
+                try (PreparedStatement statement = connection.prepareStatement("select * from movies where id = ?")) {
+                    statement.setInt(1, id);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) ;
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName(value = "JUnit Test for flag a statement repeated within one request as a possible N+1")
+    @Test
+    public void givenStatementRepeatedInRequest_whenFilter_thenRepeatedStatementRecorded() throws Exception {
+        // given
+        SqlTraceProperties properties = properties(1.0, Duration.ofHours(1));
+        SqlTraceLog traceLog = traceLog(1.0, Duration.ofHours(1));
+        SqlTraceFilter filter = new SqlTraceFilter(properties, traceLog);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/movies"), new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> {
+                    servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/movies");
+                    try {
+                        findEachMovie();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+
+        // then
+        assertThat(traceLog.repeatedStatements()).hasSize(1);
+        assertThat(traceLog.repeatedStatements().get(0).sql()).isEqualTo("select * from movies where id = ?");
+        assertThat(traceLog.repeatedStatements().get(0).executions()).isEqualTo(3);
+        assertThat(traceLog.slowQueries()).isEmpty();
+        assertThat(meterRegistry.get("disney.sql.trace.repeated").tags("uri", "/api/v1/movies").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for capture the statements over the threshold with their row count")
+    @Test
+    public void givenSlowThreshold_whenFilter_thenSlowQueriesCapturedWithRows() throws Exception {
+        // given
+        SqlTraceProperties properties = properties(1.0, Duration.ZERO);
+        SqlTraceLog traceLog = traceLog(1.0, Duration.ZERO);
+        SqlTraceFilter filter = new SqlTraceFilter(properties, traceLog);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/movies"), new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> {
+                    try (Connection connection = dataSource.getConnection();
+                         Statement statement = connection.createStatement();
+                         ResultSet resultSet = statement.executeQuery("select * from movies")) {
+                        while (resultSet.next()) ;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+
+        // then
+        assertThat(traceLog.slowQueries()).hasSize(1);
+        assertThat(traceLog.slowQueries().get(0).sql()).isEqualTo("select * from movies");
+        assertThat(traceLog.slowQueries().get(0).rows()).isEqualTo(3);
+    }
+
+    @DisplayName(value = "JUnit Test for not trace the requests left out of the sample")
+    @Test
+    public void givenRequestNotSampled_whenFilter_thenNothingTraced() throws Exception {
+        // given
+        SqlTraceProperties properties = properties(0.0, Duration.ZERO);
+        SqlTraceLog traceLog = traceLog(0.0, Duration.ZERO);
+        SqlTraceFilter filter = new SqlTraceFilter(properties, traceLog);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/movies"), new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> {
+                    try {
+                        findEachMovie();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+
+        // then
+        assertThat(traceLog.slowQueries()).isEmpty();
+        assertThat(traceLog.repeatedStatements()).isEmpty();
+        assertThat(meterRegistry.get("disney.sql.trace.requests").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package com.disney.unit.config;
+
+import com.disney.config.warmup.HotKeyStore;
+import com.disney.config.warmup.WarmUpProperties;
+import com.disney.config.warmup.WarmUpRunner;
+import com.disney.config.warmup.WarmUpToken;
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.entity.Movie;
+import com.disney.repository.GenreRepository;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.ResponseCache;
+import com.disney.service.cache.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class WarmUpTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCache<UUID, MovieResponseDto> movieCache = newCache("movies",
+            id -> MovieResponseDto.builder().id(id.toString()).build());
+    private final ResponseCache<UUID, CharacterResponseDto> characterCache = newCache("characters",
+            id -> CharacterResponseDto.builder().id(id.toString()).build());
+    private final ResponseCache<UUID, GenreResponseDto> genreCache = newCache("genres",
+            id -> GenreResponseDto.builder().id(id.toString()).build());
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        List.of(movieCache, characterCache, genreCache).forEach(ResponseCache::close);
+    }
+
+    @DisplayName(value = "JUnit Test for persist the most read keys of each cache and read them back")
+    @Test
+    public void givenReadKeys_whenSaveAndLoad_thenHottestFirst() {
+        // given
+        UUID hot = UUID.randomUUID();
+        UUID warm = UUID.randomUUID();
+        UUID cold = UUID.randomUUID();
+        movieCache.get(cold);
+        movieCache.get(warm);
+        movieCache.get(hot);
+        for (int i = 0; i < 5; i++)
+            movieCache.get(hot);
+        movieCache.get(warm);
+        HotKeyStore store = new HotKeyStore(List.of(movieCache, characterCache, genreCache), properties(2));
+
+        // when
+        store.save();
+        List<UUID> movies = new HotKeyStore(List.of(movieCache), properties(2)).load("movies");
+
+        // then
+        assertThat(movies).containsExactly(hot, warm);
+        assertThat(store.load("characters")).isEmpty();
+    }
+
+    @DisplayName(value = "JUnit Test for cache every genre and the persisted hot keys before the instance is ready")
+    @Test
+    public void givenPersistedHotKeys_whenRun_thenCachesPreloaded() {
+        // given
+        UUID movie = UUID.randomUUID();
+        UUID character = UUID.randomUUID();
+        movieCache.get(movie);
+        characterCache.get(character);
+        new HotKeyStore(List.of(movieCache, characterCache), properties(10)).save();
+        List<UUID> genres = List.of(UUID.randomUUID(), UUID.randomUUID());
+        GenreRepository genreRepository = mock(GenreRepository.class);
+        given(genreRepository.streamIds()).willReturn(genres.stream());
+        ResponseCache<UUID, MovieResponseDto> freshMovies = newCache("movies",
+                id -> MovieResponseDto.builder().id(id.toString()).build());
+        ResponseCache<UUID, CharacterResponseDto> freshCharacters = newCache("characters",
+                id -> CharacterResponseDto.builder().id(id.toString()).build());
+        WarmUpRunner runner = new WarmUpRunner(properties(10), new HotKeyStore(List.of(), properties(10)),
+                new WarmUpToken(), genreRepository, TransactionOperations.withoutTransaction(), freshMovies,
+                freshCharacters, genreCache, new StaticApplicationContext(), meterRegistry);
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        assertThat(freshMovies.hottest(10)).containsExactly(movie);
+        assertThat(freshCharacters.hottest(10)).containsExactly(character);
+        assertThat(genreCache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("disney.warmup.duration").timer().count()).isEqualTo(1);
+        freshMovies.close();
+        freshCharacters.close();
+    }
+
+    private WarmUpProperties properties(int hotKeys) {
+        return new WarmUpProperties(true, directory.resolve("hot-keys.properties").toString(), hotKeys,
+                Duration.ofMinutes(5), 1, Duration.ofSeconds(10));
+    }
+
+    private <V> ResponseCache<UUID, V> newCache(String name, Function<UUID, V> source) {
+        return new ResponseCache<>(name, new ResponseCacheProperties(true, Duration.ofMinutes(1),
+                Duration.ofMinutes(5), 1.0, 100, 1), new EntityGenerations(), Movie.class, List.of(Movie.class),
+                value -> List.of(), id -> CompletableFuture.completedFuture(source.apply(id)), () -> false, hit -> {
+        }, meterRegistry);
+    }
+}
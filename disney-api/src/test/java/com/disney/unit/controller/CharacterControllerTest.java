@@ -6,6 +6,7 @@ import com.disney.model.dto.request.CharacterRequestDto;
 import com.disney.model.dto.request.CharacterUpdateRequestDto;
 import com.disney.model.dto.response.ApiErrorResponse;
 import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.dto.response.basic.MovieBasicInfoResponseDto;
 import com.disney.service.CharacterService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,7 +18,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,7 +31,9 @@ import java.util.UUID;
 import static com.disney.model.HttpCodeResponse.*;
 import static com.disney.util.ApiUtils.*;
 import static java.time.LocalDateTime.now;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static java.util.function.Function.identity;
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.empty;
@@ -191,7 +193,8 @@ public class CharacterControllerTest {
         final List<CharacterResponseDto> mockList = List
                 .of(mock(CharacterResponseDto.class), mock(CharacterResponseDto.class));
         final PageRequest pageable = PageRequest.of(pageNumber, ELEMENTS_PER_PAGE);
-        final Page<CharacterResponseDto> responseList = new PageImpl<>(mockList, pageable, mockList.size());
+        final PageEnvelope<CharacterResponseDto> responseList =
+                PageEnvelope.of(new PageImpl<>(mockList, pageable, mockList.size()), identity());
 
         given(characterService.listCharacters(pageNumber, null, 0, null)).willReturn(responseList);
 
@@ -202,8 +205,8 @@ public class CharacterControllerTest {
         //then
         then(characterService).should(times(1)).listCharacters(pageNumber, null, 0, null);
         response.andDo(print())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is(2)));
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.total", is(2)));
     }
 
     @DisplayName(value = "JUnit Test for get all Characters that match with a specific name")
@@ -220,7 +223,7 @@ public class CharacterControllerTest {
                         .age(31)
                         .weight(90.5)
                         .history("Some history context")
-                        .movies(emptySet())
+                        .movies(emptyList())
                         .build(),
                 CharacterResponseDto.builder()
                         .id(UUID.randomUUID().toString())
@@ -229,13 +232,13 @@ public class CharacterControllerTest {
                         .age(26)
                         .weight(80.4)
                         .history("History example")
-                        .movies(Set.of(mock(MovieBasicInfoResponseDto.class)))
+                        .movies(List.of(mock(MovieBasicInfoResponseDto.class)))
                         .build()
         );
         final PageRequest pageable = PageRequest.of(pageNumber, ELEMENTS_PER_PAGE);
-        final Page<CharacterResponseDto> responseList = new PageImpl<>(
+        final PageEnvelope<CharacterResponseDto> responseList = PageEnvelope.of(new PageImpl<>(
                 characterResponseDtoList, pageable, characterResponseDtoList.size()
-        );
+        ), identity());
 
         given(characterService.listCharacters(pageNumber, characterName, 0, null)).willReturn(responseList);
 
@@ -247,8 +250,8 @@ public class CharacterControllerTest {
         //then
         then(characterService).should(times(1)).listCharacters(pageNumber, characterName, 0, null);
         response.andDo(print())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is(2)));
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.total", is(2)));
     }
 
     @DisplayName(value = "JUnit Test for successfully update a Character")
@@ -263,7 +266,7 @@ public class CharacterControllerTest {
                 .age(updateCharacterRequest.age())
                 .weight(updateCharacterRequest.weight())
                 .history(updateCharacterRequest.history())
-                .movies(emptySet())
+                .movies(emptyList())
                 .build();
 
         given(characterService.updateCharacter(anyString(), any(CharacterUpdateRequestDto.class)))
@@ -450,7 +453,7 @@ public class CharacterControllerTest {
                 .age(31)
                 .weight(92.8)
                 .history("Character history")
-                .movies(emptySet())
+                .movies(emptyList())
                 .build();
 
         given(characterService.getCharacterById(anyString())).willReturn(expectedResponse);
@@ -3,10 +3,12 @@ package com.disney.unit.controller;
 import com.disney.controller.GenreController;
 import com.disney.model.HttpCodeResponse;
 import com.disney.model.InvalidUUIDFormatException;
+import com.disney.model.ServiceOverloadedException;
 import com.disney.model.dto.request.GenreRequestDto;
 import com.disney.model.dto.request.GenreUpdateRequestDto;
 import com.disney.model.dto.response.ApiErrorResponse;
 import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.entity.Genre;
 import com.disney.service.GenreService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,7 +20,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,7 +32,9 @@ import java.util.UUID;
 import static com.disney.model.HttpCodeResponse.*;
 import static com.disney.util.ApiUtils.*;
 import static java.time.LocalDateTime.now;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static java.util.function.Function.identity;
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.BDDMockito.*;
@@ -39,6 +42,7 @@ import static org.mockito.Mockito.times;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -167,7 +171,8 @@ public class GenreControllerTest {
         final int pageNumber = 0;
         final List<GenreResponseDto> mockList = List.of(mock(GenreResponseDto.class), mock(GenreResponseDto.class));
         final PageRequest pageable = PageRequest.of(pageNumber, ELEMENTS_PER_PAGE);
-        final Page<GenreResponseDto> genreList = new PageImpl<>(mockList, pageable, mockList.size());
+        final PageEnvelope<GenreResponseDto> genreList =
+                PageEnvelope.of(new PageImpl<>(mockList, pageable, mockList.size()), identity());
         given(genreService.listMovieGenres(anyInt())).willReturn(genreList);
 
         // when
@@ -178,8 +183,8 @@ public class GenreControllerTest {
         then(genreService).should(times(1)).listMovieGenres(pageNumber);
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is((2))));
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.total", is(2)));
     }
 
     @DisplayName(value = "JUnit Test for successfully get Genre by ID")
@@ -196,7 +201,7 @@ public class GenreControllerTest {
                 GenreResponseDto.builder()
                         .id(genreId)
                         .name(genre.getName())
-                        .movies(emptySet())
+                        .movies(emptyList())
                         .build()
         );
 
@@ -237,6 +242,25 @@ public class GenreControllerTest {
                 .andExpect(jsonPath("$.message", is(expectedResponse.message())));
     }
 
+    @DisplayName(value = "JUnit Test for get Genre by ID while the service sheds load")
+    @Test
+    public void givenOverloadedService_whenGetGenreById_thenStatusIsServiceUnavailable() throws Exception {
+        // given
+        final String genreId = UUID.randomUUID().toString();
+        final String message = "The service is overloaded, try again later";
+        given(genreService.getGenreById(anyString())).willThrow(new ServiceOverloadedException(message));
+
+        // when
+        ResultActions response = mockMvc.perform(get(URL_TEMPLATE, genreId));
+
+        //then
+        response.andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.errorCode", is(SERVICE_OVERLOADED.toString())))
+                .andExpect(jsonPath("$.message", is(message)));
+    }
+
     @DisplayName(value = "JUnit Test for get Genre by ID and Genre is not present in the database")
     @Test
     public void givenGenreId_whenTryToPerformGetGenreBy_thenStatusIsNotFound() throws Exception {
@@ -271,7 +295,7 @@ public class GenreControllerTest {
         final GenreResponseDto expectedResponse = GenreResponseDto.builder()
                 .id(genreId)
                 .name(updateGenreRequest.name())
-                .movies(emptySet())
+                .movies(emptyList())
                 .build();
         given(genreService.updateGenre(anyString(), any(GenreUpdateRequestDto.class))).willReturn(expectedResponse);
 
@@ -6,10 +6,14 @@ import com.disney.model.dto.request.MovieRequestDto;
 import com.disney.model.dto.request.MovieUpdateRequestDto;
 import com.disney.model.dto.response.ApiErrorResponse;
 import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.dto.response.basic.CharacterBasicResponseDto;
 import com.disney.model.dto.response.basic.GenreBasicResponseDto;
 import com.disney.service.MovieService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.hamcrest.Matchers;
@@ -19,10 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.format.DateTimeParseException;
@@ -34,12 +39,17 @@ import java.util.UUID;
 import static com.disney.model.HttpCodeResponse.*;
 import static com.disney.util.ApiUtils.*;
 import static java.time.LocalDateTime.now;
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.times;
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -48,6 +58,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(controllers = MovieController.class)
 public class MovieControllerTest {
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
     private final String URL_TEMPLATE = MOVIE_BASE_URL + MOVIE_URI_VARIABLE;
 
     private final MockMvc mockMvc;
@@ -223,7 +234,8 @@ public class MovieControllerTest {
         final int pageNumber = 0;
         final List<MovieResponseDto> mockList = List.of(mock(MovieResponseDto.class), mock(MovieResponseDto.class));
         final PageRequest pageable = PageRequest.of(pageNumber, ELEMENTS_PER_PAGE); // prefixed elements to 10
-        final Page<MovieResponseDto> responseList = new PageImpl<>(mockList, pageable, mockList.size());
+        final PageEnvelope<MovieResponseDto> responseList =
+                PageEnvelope.of(new PageImpl<>(mockList, pageable, mockList.size()), identity());
         given(movieService.listMovies(pageNumber, null, null, "ASC")).willReturn(responseList);
 
         // when
@@ -235,8 +247,8 @@ public class MovieControllerTest {
         // then verify response is correct and contains expected data
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is(2)));
+                .andExpect(jsonPath("$.items.length()", is(2)))
+                .andExpect(jsonPath("$.total", is(2)));
     }
 
     @DisplayName(value = "JUnit Test for get all Movies that match with a specific title")
@@ -253,11 +265,12 @@ public class MovieControllerTest {
                         .creationDate("2023/12/01")
                         .rate(1)
                         .genre(mock(GenreBasicResponseDto.class))
-                        .characters(Set.of(mock(CharacterBasicResponseDto.class)))
+                        .characters(List.of(mock(CharacterBasicResponseDto.class)))
                         .build()
         );
         final PageRequest pageable = PageRequest.of(pageNumber, ELEMENTS_PER_PAGE);
-        final Page<MovieResponseDto> responseList = new PageImpl<>(movies, pageable, movies.size());
+        final PageEnvelope<MovieResponseDto> responseList =
+                PageEnvelope.of(new PageImpl<>(movies, pageable, movies.size()), identity());
         given(movieService.listMovies(pageNumber, movieTitle, null, "ASC")).willReturn(responseList);
 
         // when
@@ -270,8 +283,35 @@ public class MovieControllerTest {
         // then verify response is correct and contains expected data
         response.andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.empty", is(false)))
-                .andExpect(jsonPath("$.totalElements", is(1)));
+                .andExpect(jsonPath("$.page", is(0)))
+                .andExpect(jsonPath("$.size", is(ELEMENTS_PER_PAGE)))
+                .andExpect(jsonPath("$.next", nullValue()))
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.items[0].title", is(movieTitle)))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
+    }
+
+    @DisplayName(value = "JUnit Test for list Movies pointing to the next page when there are more results")
+    @Test
+    public void givenMoreMoviesThanAPage_whenListMovies_thenReturnTheNextPageNumber() throws Exception {
+        // given
+        final int pageNumber = 1;
+        final List<MovieResponseDto> movies = List.of(mock(MovieResponseDto.class));
+        final PageRequest pageable = PageRequest.of(pageNumber, ELEMENTS_PER_PAGE);
+        final PageEnvelope<MovieResponseDto> responseList =
+                PageEnvelope.of(new PageImpl<>(movies, pageable, ELEMENTS_PER_PAGE * 3L), identity());
+        given(movieService.listMovies(pageNumber, null, null, "ASC")).willReturn(responseList);
+
+        // when
+        ResultActions response = mockMvc.perform(get(MOVIE_BASE_URL).contentType(APPLICATION_JSON)
+                .param("page", String.valueOf(pageNumber)));
+
+        // then
+        response.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page", is(pageNumber)))
+                .andExpect(jsonPath("$.next", is(pageNumber + 1)))
+                .andExpect(jsonPath("$.total", is(ELEMENTS_PER_PAGE * 3)));
     }
 
     @DisplayName(value = "JUnit Test for successfully update a Movie")
@@ -286,7 +326,7 @@ public class MovieControllerTest {
                 updateRequest.creationDate(),
                 updateRequest.rate(),
                 mock(GenreBasicResponseDto.class),
-                Set.of(mock(CharacterBasicResponseDto.class)));
+                List.of(mock(CharacterBasicResponseDto.class)));
         given(movieService.updateMovie(anyString(), any(MovieUpdateRequestDto.class))).willReturn(expectedResponse);
 
         // when
@@ -475,7 +515,7 @@ public class MovieControllerTest {
                 .creationDate("1994/06/24")
                 .rate(5)
                 .genre(mock(GenreBasicResponseDto.class))
-                .characters(Set.of(mock(CharacterBasicResponseDto.class)))
+                .characters(List.of(mock(CharacterBasicResponseDto.class)))
                 .build();
         given(movieService.getMovieById(anyString())).willReturn(expectedResponse);
 
@@ -494,6 +534,57 @@ public class MovieControllerTest {
                 .andExpect(jsonPath("$.rate", is(expectedResponse.rate())));
     }
 
+    @DisplayName(value = "JUnit Test for get Movie by ID encoded as CBOR when the client accepts it")
+    @Test
+    public void givenCborAcceptHeader_whenGetMovieById_thenReturnTheMovieEncodedAsCbor() throws Exception {
+        // given
+        final String movieId = UUID.randomUUID().toString();
+        final MovieResponseDto expectedResponse = MovieResponseDto.builder()
+                .id(movieId)
+                .image("movie-image.jpg")
+                .title("Movie Title")
+                .creationDate("1994/06/24")
+                .rate(5)
+                .genre(new GenreBasicResponseDto(UUID.randomUUID().toString(), "Genre Name"))
+                .characters(List.of())
+                .build();
+        given(movieService.getMovieById(anyString())).willReturn(expectedResponse);
+
+        // when
+        MvcResult result = mockMvc.perform(get(URL_TEMPLATE, movieId).accept(APPLICATION_CBOR)).andReturn();
+
+        // then verify the body decodes back to the same Movie
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getContentType()).isEqualTo(APPLICATION_CBOR_VALUE);
+        assertThat(new CBORMapper().readValue(result.getResponse().getContentAsByteArray(), MovieResponseDto.class))
+                .isEqualTo(expectedResponse);
+    }
+
+    @DisplayName(value = "JUnit Test for list Movies encoded as Smile when the client accepts it")
+    @Test
+    public void givenSmileAcceptHeader_whenListMovies_thenReturnThePageEncodedAsSmile() throws Exception {
+        // given
+        final int pageNumber = 0;
+        final List<MovieResponseDto> movies = List.of(MovieResponseDto.builder()
+                .id(UUID.randomUUID().toString())
+                .title("Movie Title")
+                .characters(List.of())
+                .build());
+        final PageEnvelope<MovieResponseDto> responseList =
+                PageEnvelope.of(new PageImpl<>(movies, PageRequest.of(pageNumber, ELEMENTS_PER_PAGE), movies.size()),
+                        identity());
+        given(movieService.listMovies(pageNumber, null, null, "ASC")).willReturn(responseList);
+
+        // when
+        MvcResult result = mockMvc.perform(get(MOVIE_BASE_URL).accept(SMILE)).andReturn();
+
+        // then verify the body is Smile and keeps the page content
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getContentType()).isEqualTo(SMILE.toString());
+        JsonNode page = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(page.at("/items/0/title").asText()).isEqualTo("Movie Title");
+    }
+
     @DisplayName(value = "JUnit Test for get Movie providing an invalid ID format")
     @Test
     public void givenInvalidIdFormat_whenTryToGetMovieById_thenStatusIsBadRequest() throws Exception {
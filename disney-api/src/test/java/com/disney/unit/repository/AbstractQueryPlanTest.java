@@ -0,0 +1,399 @@
+package com.disney.unit.repository;
+
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Movie;
+import com.disney.repository.CharacterRepository;
+import com.disney.repository.GenreRepository;
+import com.disney.repository.MovieRepository;
+import com.disney.repository.specification.CharacterSpecification;
+import com.disney.repository.specification.MovieSpecification;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code EXPLAIN} on every statement a repository call executes, the query itself and the eager loads that
+ * follow it, against a catalog big enough for the optimizer to prefer an index when one fits, and fails when a
+ * table is read in full. A full scan is only accepted on the tables a case names, e.g. an unfiltered page or a
+ * contains search ({@code like '%text%'}), which no B-tree index can serve.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Import(AbstractQueryPlanTest.CaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class AbstractQueryPlanTest {
+    private static final int GENRES = 50;
+    private static final int MOVIES = 5_000;
+    private static final int CHARACTERS_PER_MOVIE = 2;
+    private static final int BATCH_SIZE = 500;
+    private static final Pattern ALIAS = Pattern.compile("(?i)\\b(?:from|join)\\s+(\\w+)\\s+(\\w+)");
+    private static final Pattern H2_TABLE = Pattern.compile("(?:FROM|JOIN)\\s+\"PUBLIC\"\\.\"(\\w+)\"");
+    private static final Pattern H2_ACCESS = Pattern.compile("/\\* PUBLIC\\.([\\w.]+?)(:[^*]*)? \\*/");
+    private static final List<Captured> CAPTURED = new ArrayList<>();
+    private static boolean capturing;
+
+    private final DataSource dataSource;
+    private final MovieRepository movieRepository;
+    private final CharacterRepository characterRepository;
+    private final GenreRepository genreRepository;
+    private final MovieSpecification movieSpec = new MovieSpecification();
+    private final CharacterSpecification characterSpec = new CharacterSpecification();
+
+    private final List<UUID> genreIds = new ArrayList<>();
+    private final List<UUID> movieIds = new ArrayList<>();
+    private final List<UUID> characterIds = new ArrayList<>();
+
+    private record Captured(String sql, Map<Integer, Object> parameters) {
+    }
+
+    private record Access(String table, String index, boolean fullScan) {
+    }
+
+    protected AbstractQueryPlanTest(DataSource dataSource, MovieRepository movieRepository,
+                                    CharacterRepository characterRepository, GenreRepository genreRepository) {
+        this.dataSource = dataSource;
+        this.movieRepository = movieRepository;
+        this.characterRepository = characterRepository;
+        this.genreRepository = genreRepository;
+    }
+
+    /**
+     * Every movie has a genre and a cast of its own, so the eager movie/character graph of a page stays small.
+     */
+    @BeforeAll
+    void seedCatalog() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean binaryIds = isMySql(connection);
+            connection.setAutoCommit(false);
+            try (PreparedStatement genres = connection.prepareStatement("INSERT INTO genres (id, name) VALUES (?, ?)")) {
+                for (int i = 0; i < GENRES; i++) {
+                    UUID id = UUID.randomUUID();
+                    genreIds.add(id);
+                    bindId(genres, 1, id, binaryIds);
+                    genres.setString(2, "Genre " + i);
+                    genres.addBatch();
+                }
+                genres.executeBatch();
+            }
+            try (PreparedStatement movies = connection.prepareStatement("INSERT INTO movies "
+                    + "(id, image, title, creation_date, rate, genre_id, deleted) VALUES (?, ?, ?, ?, ?, ?, false)");
+                 PreparedStatement characters = connection.prepareStatement("INSERT INTO characters "
+                         + "(id, image, name, age, weight, history, deleted) VALUES (?, ?, ?, ?, ?, ?, false)");
+                 PreparedStatement cast = connection.prepareStatement(
+                         "INSERT INTO rel_movie_character (movie_id, character_id) VALUES (?, ?)")) {
+                for (int i = 0; i < MOVIES; i++) {
+                    UUID movieId = UUID.randomUUID();
+                    movieIds.add(movieId);
+                    bindId(movies, 1, movieId, binaryIds);
+                    movies.setString(2, "movie-" + i + ".jpg");
+                    movies.setString(3, "Movie " + i);
+                    movies.setObject(4, LocalDate.of(1930, 1, 1).plusDays(i * 7L));
+                    movies.setInt(5, 1 + i % 5);
+                    bindId(movies, 6, genreIds.get(i % GENRES), binaryIds);
+                    movies.addBatch();
+                    for (int j = 0; j < CHARACTERS_PER_MOVIE; j++) {
+                        UUID characterId = UUID.randomUUID();
+                        int character = characterIds.size();
+                        characterIds.add(characterId);
+                        bindId(characters, 1, characterId, binaryIds);
+                        characters.setString(2, "character-" + character + ".jpg");
+                        characters.setString(3, "Character " + character);
+                        characters.setInt(4, 1 + character % 100);
+                        characters.setDouble(5, 40 + character % 60);
+                        characters.setString(6, "Character history " + character);
+                        characters.addBatch();
+                        bindId(cast, 1, movieId, binaryIds);
+                        bindId(cast, 2, characterId, binaryIds);
+                        cast.addBatch();
+                    }
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        movies.executeBatch();
+                        characters.executeBatch();
+                        cast.executeBatch();
+                    }
+                }
+                movies.executeBatch();
+                characters.executeBatch();
+                cast.executeBatch();
+            }
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(isMySql(connection)
+                        ? "ANALYZE TABLE genres, movies, characters, rel_movie_character"
+                        : "ANALYZE");
+            }
+            connection.setAutoCommit(true);
+        }
+    }
+
+    // Hibernate maps UUID to binary(16) on MySQL and to a native uuid column on H2
+    private static void bindId(PreparedStatement statement, int index, UUID id, boolean binary) throws SQLException {
+        if (!binary) {
+            statement.setObject(index, id);
+            return;
+        }
+        statement.setBytes(index, ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array());
+    }
+
+    private static boolean isMySql(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+    /**
+     * Explains every distinct statement the call executed and fails on a full read of a table other than the
+     * allowed ones.
+     */
+    private void assertIndexed(Runnable call, String... scannedTables) throws SQLException {
+        CAPTURED.clear();
+        capturing = true;
+        try {
+            call.run();
+        } finally {
+            capturing = false;
+        }
+        Set<String> allowed = new HashSet<>(Arrays.asList(scannedTables));
+        Map<String, Captured> statements = new LinkedHashMap<>();
+        CAPTURED.forEach(captured -> statements.putIfAbsent(captured.sql(), captured));
+        assertThat(statements).as("statements executed").isNotEmpty();
+        try (Connection connection = dataSource.getConnection()) {
+            for (Captured statement : statements.values()) {
+                List<Access> accesses = isMySql(connection)
+                        ? mySqlPlan(connection, statement)
+                        : h2Plan(connection, statement);
+                for (Access access : accesses)
+                    assertThat(access.fullScan() && !allowed.contains(access.table()))
+                            .as("full read of %s (%s) in: %s", access.table(), access.index(), statement.sql())
+                            .isFalse();
+            }
+        }
+    }
+
+    private static List<Access> h2Plan(Connection connection, Captured statement) throws SQLException {
+        String plan = explain(connection, statement, resultSet -> resultSet.getString(1)).get(0);
+        List<Access> accesses = new ArrayList<>();
+        String table = null;
+        for (String line : plan.split("\n")) {
+            Matcher tableMatcher = H2_TABLE.matcher(line);
+            if (tableMatcher.find())
+                table = tableMatcher.group(1).toLowerCase(Locale.ROOT);
+            Matcher access = H2_ACCESS.matcher(line);
+            if (access.find() && Objects.nonNull(table)) {
+                String index = access.group(1);
+                // a table scan, or an index walked end to end without a condition, e.g. only for its order
+                boolean fullScan = index.endsWith(".tableScan") || Objects.isNull(access.group(2));
+                accesses.add(new Access(table, index, fullScan));
+            }
+        }
+        return accesses;
+    }
+
+    // the traditional EXPLAIN rows name the alias, the SQL maps it back to the table
+    private static List<Access> mySqlPlan(Connection connection, Captured statement) throws SQLException {
+        Map<String, String> tables = new HashMap<>();
+        Matcher alias = ALIAS.matcher(statement.sql());
+        while (alias.find())
+            tables.put(alias.group(2), alias.group(1).toLowerCase(Locale.ROOT));
+        return explain(connection, statement, resultSet -> {
+            String table = resultSet.getString("table");
+            String type = resultSet.getString("type");
+            if (Objects.isNull(table) || Objects.isNull(type))
+                return null;
+            return new Access(tables.getOrDefault(table, table), resultSet.getString("key"),
+                    type.equals("ALL") || type.equals("index"));
+        }).stream().filter(Objects::nonNull).toList();
+    }
+
+    private interface Row<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
+
+    private static <T> List<T> explain(Connection connection, Captured statement, Row<T> row) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet())
+                explain.setObject(parameter.getKey(), parameter.getValue());
+            List<T> rows = new ArrayList<>();
+            try (ResultSet resultSet = explain.executeQuery()) {
+                while (resultSet.next())
+                    rows.add(row.read(resultSet));
+            }
+            return rows;
+        }
+    }
+
+    @DisplayName(value = "Query plan of existsByTitle is an index lookup")
+    @Test
+    public void givenTitle_whenExistsByTitle_thenIndexLookup() throws SQLException {
+        assertIndexed(() -> movieRepository.existsByTitle("Movie 4321"));
+    }
+
+    @DisplayName(value = "Query plan of the character existsByName is an index lookup")
+    @Test
+    public void givenName_whenCharacterExistsByName_thenIndexLookup() throws SQLException {
+        assertIndexed(() -> characterRepository.existsByName("Character 4321"));
+    }
+
+    @DisplayName(value = "Query plan of the genre existsByName is an index lookup")
+    @Test
+    public void givenName_whenGenreExistsByName_thenIndexLookup() throws SQLException {
+        assertIndexed(() -> genreRepository.existsByName("Genre 42"));
+    }
+
+    @DisplayName(value = "Query plans of the movie findById and its eager loads are index lookups")
+    @Test
+    public void givenMovieId_whenFindById_thenIndexLookups() throws SQLException {
+        assertIndexed(() -> movieRepository.findById(movieIds.get(42)));
+    }
+
+    /**
+     * Hibernate joins the genre of each movie of the character onto a nested {@code (rel_movie_character join
+     * movies)} group; H2 cannot probe an index from inside such a group and reads the genres, MySQL looks them up by
+     * primary key.
+     */
+    @DisplayName(value = "Query plans of the character findById and its eager loads are index lookups")
+    @Test
+    public void givenCharacterId_whenFindById_thenIndexLookups() throws SQLException {
+        assertIndexed(() -> characterRepository.findById(characterIds.get(42)), "genres");
+    }
+
+    @DisplayName(value = "Query plan of the genre findById is an index lookup")
+    @Test
+    public void givenGenreId_whenFindById_thenIndexLookup() throws SQLException {
+        assertIndexed(() -> genreRepository.findById(genreIds.get(42)));
+    }
+
+    @DisplayName(value = "Query plans of the unfiltered movie page and its count only read the movies in full")
+    @Test
+    public void givenNoFilters_whenListMovies_thenOnlyMoviesScanned() throws SQLException {
+        assertIndexed(() -> movieRepository.findAll(movieSpec.getByFilters(null, null, "DESC"),
+                PageRequest.of(1, 10)), "movies");
+    }
+
+    @DisplayName(value = "Query plans of the movie contains search and its count only read the movies in full")
+    @Test
+    public void givenTitle_whenListMovies_thenOnlyMoviesScanned() throws SQLException {
+        assertIndexed(() -> movieRepository.findAll(movieSpec.getByFilters("movie 1", null, "ASC"),
+                PageRequest.of(1, 10)), "movies");
+    }
+
+    @DisplayName(value = "Query plans of the movies of a genre and their count are index lookups")
+    @Test
+    public void givenGenre_whenListMovies_thenIndexLookups() throws SQLException {
+        assertIndexed(() -> movieRepository.findAll(movieSpec.getByFilters(null, genreIds.get(7).toString(), "ASC"),
+                PageRequest.of(1, 10)));
+    }
+
+    @DisplayName(value = "Query plans of the unfiltered character page and its count only read the characters in full")
+    @Test
+    public void givenNoFilters_whenListCharacters_thenOnlyCharactersScanned() throws SQLException {
+        assertIndexed(() -> characterRepository.findAll(characterSpec.getByFilters(null, 0, Set.of()),
+                PageRequest.of(1, 10)), "characters");
+    }
+
+    @DisplayName(value = "Query plans of the character contains search and its count only read the characters in full")
+    @Test
+    public void givenName_whenListCharacters_thenOnlyCharactersScanned() throws SQLException {
+        assertIndexed(() -> characterRepository.findAll(characterSpec.getByFilters("character 1", 0, Set.of()),
+                PageRequest.of(1, 10)), "characters");
+    }
+
+    @DisplayName(value = "Query plans of the characters of an age and their count are index lookups")
+    @Test
+    public void givenAge_whenListCharacters_thenIndexLookups() throws SQLException {
+        assertIndexed(() -> characterRepository.findAll(characterSpec.getByFilters(null, 42, Set.of()),
+                PageRequest.of(1, 10)));
+    }
+
+    @DisplayName(value = "Query plans of the characters of some movies and their count are index lookups")
+    @Test
+    public void givenMovies_whenListCharacters_thenIndexLookups() throws SQLException {
+        Set<String> movies = new HashSet<>();
+        for (int i = 0; i < 8; i++)
+            movies.add(movieIds.get(i * 100).toString());
+        assertIndexed(() -> characterRepository.findAll(characterSpec.getByFilters(null, 0, movies),
+                PageRequest.of(1, 10)));
+    }
+
+    @DisplayName(value = "Query plans of the genre page and its count only read the genres in full")
+    @Test
+    public void givenPage_whenListGenres_thenOnlyGenresScanned() throws SQLException {
+        assertIndexed(() -> genreRepository.findAll(PageRequest.of(1, 10)), "genres");
+    }
+
+    /**
+     * Records the SQL and the parameters of the statements run while a case is capturing.
+     */
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                    if (!(bean instanceof DataSource dataSource))
+                        return bean;
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return capturing(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement"))
+                            return capturing(statement, (String) args[0]);
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && Objects.nonNull(args) && args.length >= 2
+                                && args[0] instanceof Integer index)
+                            parameters.put(index, name.equals("setNull") ? null : args[1]);
+                        if (capturing && name.startsWith("execute"))
+                            CAPTURED.add(new Captured(sql, new TreeMap<>(parameters)));
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -12,7 +12,7 @@ import java.util.HashSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
 public class CharacterRepositoryTest {
     private final CharacterRepository characterRepository;
 
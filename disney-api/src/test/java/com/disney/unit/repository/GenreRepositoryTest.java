@@ -1,29 +1,35 @@
 package com.disney.unit.repository;
 
 import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
 import com.disney.repository.GenreRepository;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
 public class GenreRepositoryTest {
     private final GenreRepository genreRepository;
+    private final TestEntityManager entityManager;
     private Genre genre;
 
     @Autowired
-    public GenreRepositoryTest(GenreRepository genreRepository) {
+    public GenreRepositoryTest(GenreRepository genreRepository, TestEntityManager entityManager) {
         this.genreRepository = genreRepository;
+        this.entityManager = entityManager;
     }
 
     @BeforeEach
@@ -97,6 +103,33 @@ public class GenreRepositoryTest {
         assertThat(genres.getTotalElements()).isEqualTo(2);
     }
 
+    @DisplayName(value = "JUnit Test for load the movies of a page of Genres with one query")
+    @Test
+    public void givenPageOfGenres_whenFetchMovies_thenMoviesAreInitialized() {
+        // given
+        Genre savedGenre = genreRepository.save(genre);
+        entityManager.persist(Movie.builder()
+                .image("movie-image.jpg")
+                .title("Movie Title")
+                .rate(4)
+                .creationDate(LocalDate.now())
+                .genre(savedGenre)
+                .characters(Collections.emptySet())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        Page<Genre> genres = genreRepository.findAll(PageRequest.of(0, 5));
+        assertThat(Hibernate.isInitialized(genres.getContent().get(0).getMovies())).isFalse();
+
+        // when
+        genreRepository.fetchMovies(genres.getContent());
+
+        // then
+        assertThat(genres.getContent()).allSatisfy(page -> assertThat(Hibernate.isInitialized(page.getMovies()))
+                .isTrue());
+        assertThat(genres.getContent().get(0).getMovies()).extracting(Movie::getTitle).containsExactly("Movie Title");
+    }
+
     @DisplayName(value = "JUnit Test for get Genre by ID")
     @Test
     public void givenAnId_whenFindById_thenTheGenreEnIsReturned() {
@@ -17,7 +17,7 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
 public class MovieRepositoryTest {
     private final MovieRepository movieRepository;
     private final GenreRepository genreRepository;
@@ -0,0 +1,18 @@
+package com.disney.unit.repository;
+
+import com.disney.repository.CharacterRepository;
+import com.disney.repository.GenreRepository;
+import com.disney.repository.MovieRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+
+// on the embedded H2 database, see QueryPlanIT for MySQL
+public class QueryPlanTest extends AbstractQueryPlanTest {
+
+    @Autowired
+    public QueryPlanTest(DataSource dataSource, MovieRepository movieRepository,
+                         CharacterRepository characterRepository, GenreRepository genreRepository) {
+        super(dataSource, movieRepository, characterRepository, genreRepository);
+    }
+}
@@ -0,0 +1,208 @@
+package com.disney.unit.service;
+
+import com.disney.model.ServiceOverloadedException;
+import com.disney.service.loader.BatchLoader;
+import com.disney.service.loader.LoaderProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class BatchLoaderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Set<Integer>> dispatchedBatches = new CopyOnWriteArrayList<>();
+    private BatchLoader<Integer, String> loader;
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null)
+            loader.close();
+    }
+
+    @DisplayName(value = "JUnit Test for coalesce concurrent lookups inside the window into a single batch")
+    @Test
+    public void givenConcurrentLookups_whenLoad_thenDispatchOneBatch() {
+        // given
+        loader = newLoader(properties(true, Duration.ofMillis(50), 100), this::echo);
+
+        // when
+        List<CompletableFuture<String>> futures = IntStream.range(0, 10).mapToObj(loader::load).toList();
+        List<String> results = futures.stream().map(CompletableFuture::join).toList();
+
+        // then
+        assertThat(dispatchedBatches).hasSize(1);
+        assertThat(dispatchedBatches.get(0)).hasSize(10);
+        assertThat(results).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+    }
+
+    @DisplayName(value = "JUnit Test for share the pending result between callers asking for the same key")
+    @Test
+    public void givenDuplicatedKeys_whenLoad_thenKeyIsQueriedOnce() {
+        // given
+        loader = newLoader(properties(true, Duration.ofMillis(50), 100), this::echo);
+
+        // when
+        CompletableFuture<String> first = loader.load(7);
+        CompletableFuture<String> second = loader.load(7);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.join()).isEqualTo("7");
+        assertThat(dispatchedBatches).containsExactly(Set.of(7));
+        assertThat(meterRegistry.get("disney.loader.keys").tag("result", "coalesced").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName(value = "JUnit Test for dispatch the batch as soon as it reaches the max batch size")
+    @Test
+    public void givenFullBatch_whenLoad_thenDispatchWithoutWaitingTheWindow() {
+        // given
+        loader = newLoader(properties(true, Duration.ofHours(1), 3), this::echo);
+
+        // when
+        List<String> results = IntStream.range(0, 3).mapToObj(loader::load).toList()
+                .stream().map(CompletableFuture::join).toList();
+
+        // then
+        assertThat(results).containsExactly("0", "1", "2");
+        assertThat(dispatchedBatches).hasSize(1);
+    }
+
+    @DisplayName(value = "JUnit Test for return an empty result when the key is not found")
+    @Test
+    public void givenMissingKey_whenGet_thenReturnEmpty() {
+        // given
+        loader = newLoader(properties(true, Duration.ofMillis(1), 100), keys -> Map.of());
+
+        // when
+        var result = loader.get(1);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @DisplayName(value = "JUnit Test for propagate the batch failure to every waiting caller")
+    @Test
+    public void givenFailingBatch_whenGet_thenThrowsTheCause() {
+        // given
+        loader = newLoader(properties(true, Duration.ofMillis(1), 100), keys -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        // when
+        Throwable result = catchThrowable(() -> loader.get(1));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalStateException.class).hasMessage("database unavailable");
+    }
+
+    @DisplayName(value = "JUnit Test for load on the caller thread when the loader is disabled")
+    @Test
+    public void givenDisabledLoader_whenGet_thenQueryEveryKeyDirectly() {
+        // given
+        loader = newLoader(properties(false, Duration.ofMillis(50), 100), this::echo);
+
+        // when
+        loader.get(1);
+        loader.get(1);
+
+        // then
+        assertThat(dispatchedBatches).containsExactly(Set.of(1), Set.of(1));
+    }
+
+    @DisplayName(value = "JUnit Test for fail every waiting caller when the batch function throws an error")
+    @Test
+    public void givenBatchThrowingAnError_whenGet_thenThrowsTheError() {
+        // given
+        loader = newLoader(properties(true, Duration.ofMillis(1), 100), keys -> {
+            throw new StackOverflowError();
+        });
+
+        // when
+        Throwable result = catchThrowable(() -> loader.get(1));
+
+        // then
+        assertThat(result).isInstanceOf(StackOverflowError.class);
+    }
+
+    @DisplayName(value = "JUnit Test for report a batch that does not answer within the timeout as an overload")
+    @Test
+    public void givenStuckBatch_whenGet_thenThrowsServiceOverloaded() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        loader = newLoader(new LoaderProperties(true, Duration.ofMillis(1), 100, 1, Duration.ofMillis(50)), keys -> {
+            awaitQuietly(release);
+            return echo(keys);
+        });
+
+        // when
+        Throwable result = catchThrowable(() -> loader.get(1));
+        release.countDown();
+
+        // then
+        assertThat(result).isInstanceOf(ServiceOverloadedException.class);
+        assertThat(loader.load(1)).succeedsWithin(Duration.ofSeconds(1)).isEqualTo("1");
+    }
+
+    @DisplayName(value = "JUnit Test for complete a key queued again after a timeout with its own batch result")
+    @Test
+    public void givenKeyQueuedAgainAfterTimeout_whenStuckBatchAnswers_thenNewerCallerGetsItsOwnResult() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger batches = new AtomicInteger();
+        // one dispatch thread, the second batch runs right after the stuck one has completed its keys
+        loader = newLoader(new LoaderProperties(true, Duration.ofMillis(1), 100, 1, Duration.ofMillis(50)), keys -> {
+            if (batches.incrementAndGet() > 1)
+                return Map.of(1, "new");
+            awaitQuietly(release);
+            return Map.of(1, "old");
+        });
+        catchThrowable(() -> loader.get(1));
+
+        // when
+        CompletableFuture<String> queuedAgain = loader.load(1);
+        release.countDown();
+
+        // then
+        assertThat(queuedAgain).succeedsWithin(Duration.ofSeconds(1)).isEqualTo("new");
+    }
+
+    private static LoaderProperties properties(boolean enabled, Duration window, int maxBatchSize) {
+        return new LoaderProperties(enabled, window, maxBatchSize, 1, Duration.ofSeconds(5));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BatchLoader<Integer, String> newLoader(LoaderProperties properties,
+                                                   Function<Set<Integer>, Map<Integer, String>> batchFunction) {
+        return new BatchLoader<>("test", keys -> {
+            dispatchedBatches.add(keys);
+            return batchFunction.apply(keys);
+        }, properties, meterRegistry);
+    }
+
+    private Map<Integer, String> echo(Set<Integer> keys) {
+        return keys.stream().collect(toMap(Function.identity(), String::valueOf));
+    }
+}
@@ -3,6 +3,7 @@ package com.disney.unit.service;
 import com.disney.model.dto.request.CharacterRequestDto;
 import com.disney.model.dto.request.CharacterUpdateRequestDto;
 import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.dto.response.basic.MovieBasicInfoResponseDto;
 import com.disney.model.entity.Character;
 import com.disney.model.entity.Genre;
@@ -11,7 +12,14 @@ import com.disney.model.mapper.CharacterMapper;
 import com.disney.repository.CharacterRepository;
 import com.disney.repository.specification.CharacterSpecification;
 import com.disney.service.MovieService;
+import com.disney.service.cache.ExistenceProperties;
 import com.disney.service.implement.CharacterServiceImpl;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ListCacheProperties;
+import com.disney.service.cache.ListQueryCache;
+import com.disney.service.cache.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.assertj.core.api.BDDAssertions;
@@ -23,16 +31,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.security.InvalidParameterException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static com.disney.util.ApiUtils.ELEMENTS_PER_PAGE;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -50,6 +62,19 @@ public class CharacterServiceTest {
     private MovieService movieService;
     @Mock
     private CharacterSpecification characterSpec;
+    @Mock
+    private ResponseCache<UUID, CharacterResponseDto> characterCache;
+    @Spy
+    // disabled, it runs every query as the service did before the cache
+    private ListQueryCache<Character, CharacterResponseDto> characterListCache = new ListQueryCache<>("characters",
+            new ListCacheProperties(false, 0, Duration.ZERO, Duration.ZERO), new EntityGenerations(), List.of(),
+            Character::getId, id -> null, TransactionOperations.withoutTransaction(), Duration.ZERO, () -> false, hit -> {
+    }, new SimpleMeterRegistry());
+    // disabled, every lookup is a maybe and queried as before the filters
+    @Spy
+    private ExistenceFilter<Character> characterExistence = new ExistenceFilter<>("characters", Character.class, Character::getId,
+            Stream::empty, () -> 0, TransactionOperations.withoutTransaction(),
+            new ExistenceProperties(false, 0.01, 0, Duration.ZERO), new SimpleMeterRegistry());
     @InjectMocks
     private CharacterServiceImpl characterService;
     @Captor
@@ -114,7 +139,7 @@ public class CharacterServiceTest {
                 .age(characterOne.getAge())
                 .weight(characterOne.getWeight())
                 .history(characterOne.getHistory())
-                .movies(emptySet())
+                .movies(emptyList())
                 .build();
         characterTwoResponseDto = CharacterResponseDto.builder()
                 .id(characterTwo.getId().toString())
@@ -123,7 +148,7 @@ public class CharacterServiceTest {
                 .age(characterTwo.getAge())
                 .weight(characterTwo.getWeight())
                 .history(characterTwo.getHistory())
-                .movies(Set.of(mock(MovieBasicInfoResponseDto.class)))
+                .movies(List.of(mock(MovieBasicInfoResponseDto.class)))
                 .build();
         pageable = PageRequest.of(0, ELEMENTS_PER_PAGE);
     }
@@ -239,7 +264,7 @@ public class CharacterServiceTest {
                 .age(updateRequest.age())
                 .weight(updateRequest.weight())
                 .history(updateRequest.history())
-                .movies(emptySet())
+                .movies(emptyList())
                 .build();
 
         given(characterRepository.findById(any(UUID.class))).willReturn(Optional.ofNullable(characterOne));
@@ -347,16 +372,15 @@ public class CharacterServiceTest {
     public void givenId_whenGetCharacterById_thenReturnCharacterResponse() {
         // given
         final String characterId = characterOne.getId().toString();
-        given(characterRepository.findById(any(UUID.class))).willReturn(Optional.ofNullable(characterOne));
-        given(characterMapper.toDTO(any(Character.class))).willReturn(characterOneResponseDto);
+        given(characterCache.get(any(UUID.class))).willReturn(Optional.ofNullable(characterOneResponseDto));
 
         // when
         CharacterResponseDto result = characterService.getCharacterById(characterId);
 
         //then
         assertThat(result).isNotNull().usingRecursiveComparison().isEqualTo(characterOneResponseDto);
-        then(characterRepository).should(times(1)).findById(characterOne.getId());
-        then(characterMapper).should(times(1)).toDTO(characterOne);
+        then(characterCache).should(times(1)).get(characterOne.getId());
+        then(characterRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName(value = "JUnit Test for EntityNotFoundException when get Character (DTO) by ID")
@@ -365,7 +389,7 @@ public class CharacterServiceTest {
         // given
         final String characterId = UUID.randomUUID().toString();
         final String expectedMessage = STR."Character not found for ID \{characterId}";
-        given(characterRepository.findById(any(UUID.class))).willReturn(Optional.empty());
+        given(characterCache.get(any(UUID.class))).willReturn(Optional.empty());
 
         // when
         Throwable result = catchThrowable(() -> characterService.getCharacterById(characterId));
@@ -386,6 +410,7 @@ public class CharacterServiceTest {
 
         //then
         assertThat(result).isNotNull().isInstanceOf(InvalidParameterException.class).hasMessage(expectedMessage);
+        then(characterCache).shouldHaveNoInteractions();
         then(characterRepository).shouldHaveNoInteractions();
         then(characterMapper).shouldHaveNoInteractions();
     }
@@ -492,15 +517,15 @@ public class CharacterServiceTest {
         given(characterMapper.toDTO(characterTwo)).willReturn(characterTwoResponseDto);
 
         // when
-        Page<CharacterResponseDto> result = characterService.listCharacters(pageNumber, emptyName, zeroAge, emptyMovies);
+        PageEnvelope<CharacterResponseDto> result =
+                characterService.listCharacters(pageNumber, emptyName, zeroAge, emptyMovies);
 
         //then
         assertThat(result).isNotNull();
-        assertThat(result.hasContent()).isTrue();
-        assertThat(result.getTotalElements()).isEqualTo(2L);
-        assertThat(result.getContent()).isNotEmpty().contains(characterOneResponseDto, characterTwoResponseDto);
-        assertThat(result.isFirst()).isTrue();
-        assertThat(result.isLast()).isTrue();
+        assertThat(result.total()).isEqualTo(2L);
+        assertThat(result.items()).isNotEmpty().contains(characterOneResponseDto, characterTwoResponseDto);
+        assertThat(result.page()).isZero();
+        assertThat(result.next()).isNull();
     }
 
     @DisplayName(value = "JUnit Test for list all Characters filtering by name")
@@ -514,14 +539,13 @@ public class CharacterServiceTest {
         given(characterMapper.toDTO(characterOne)).willReturn(characterOneResponseDto);
 
         // when
-        Page<CharacterResponseDto> result = characterService.listCharacters(pageNumber, name, 0, emptySet());
+        PageEnvelope<CharacterResponseDto> result = characterService.listCharacters(pageNumber, name, 0, emptySet());
 
         //then
         assertThat(result).isNotNull();
-        assertThat(result.hasContent()).isTrue();
-        assertThat(result.getTotalElements()).isEqualTo(1L);
-        assertThat(result.getContent()).isNotEmpty().contains(characterOneResponseDto);
-        assertThat(result.isFirst()).isTrue();
-        assertThat(result.isLast()).isTrue();
+        assertThat(result.total()).isEqualTo(1L);
+        assertThat(result.items()).isNotEmpty().contains(characterOneResponseDto);
+        assertThat(result.page()).isZero();
+        assertThat(result.next()).isNull();
     }
 }
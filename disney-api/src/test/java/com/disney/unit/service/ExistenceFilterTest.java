@@ -0,0 +1,92 @@
+package com.disney.unit.service;
+
+import com.disney.model.entity.Genre;
+import com.disney.service.cache.BloomFilter;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ExistenceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExistenceFilterTest {
+    private final Set<UUID> table = ConcurrentHashMap.newKeySet();
+    private final ExistenceFilter<Genre> filter = new ExistenceFilter<>("genres", Genre.class, Genre::getId,
+            table::stream, table::size, TransactionOperations.withoutTransaction(),
+            new ExistenceProperties(true, 0.01, 1000, Duration.ofHours(1)), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        filter.close();
+    }
+
+    @DisplayName(value = "JUnit Test for never report an added key as absent and rarely report a missing one")
+    @Test
+    public void givenAddedKeys_whenMightContain_thenNoFalseNegativesAndFewFalsePositives() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.add(BloomFilter.mix(i)));
+
+        // when
+        long falseNegatives = IntStream.range(0, 10_000).filter(i -> !bloomFilter.mightContain(BloomFilter.mix(i)))
+                .count();
+        long falsePositives = IntStream.range(10_000, 110_000)
+                .filter(i -> bloomFilter.mightContain(BloomFilter.mix(i))).count();
+
+        // then
+        assertThat(falseNegatives).isZero();
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @DisplayName(value = "JUnit Test for answer maybe to every lookup before the filter has been built")
+    @Test
+    public void givenNotStarted_whenMightContain_thenMaybe() {
+        // when / then
+        assertThat(filter.mightContainId(UUID.randomUUID())).isTrue();
+    }
+
+    @DisplayName(value = "JUnit Test for find the rows of the table and the ones written after the build")
+    @Test
+    public void givenBuiltFilter_whenRowWritten_thenFoundById() {
+        // given
+        UUID existing = UUID.randomUUID();
+        table.add(existing);
+        filter.start();
+        UUID written = UUID.randomUUID();
+
+        // when
+        filter.add(Genre.builder().id(written).name("Science Fiction").build());
+
+        // then
+        assertThat(filter.mightContainId(existing)).isTrue();
+        assertThat(filter.mightContainId(written)).isTrue();
+        assertThat(IntStream.range(0, 100).filter(i -> filter.mightContainId(UUID.randomUUID())).count())
+                .isLessThan(10);
+    }
+
+    @DisplayName(value = "JUnit Test for forget the deleted rows once the filter is rebuilt")
+    @Test
+    public void givenDeletedRows_whenRebuild_thenAbsent() {
+        // given
+        List<UUID> ids = IntStream.range(0, 50).mapToObj(i -> UUID.randomUUID()).toList();
+        table.addAll(ids);
+        filter.start();
+        ids.forEach(table::remove);
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(ids.stream().filter(filter::mightContainId).count()).isLessThan(5);
+    }
+}
@@ -0,0 +1,147 @@
+package com.disney.unit.service;
+
+import com.disney.model.entity.Character;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.EntityKey;
+import com.disney.service.cache.GenerationListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+public class GenerationListenerTest {
+    private final EntityGenerations generations;
+    private final TestEntityManager entityManager;
+    private final List<EntityKey> changed = new CopyOnWriteArrayList<>();
+    private final List<EntityKey> linked = new CopyOnWriteArrayList<>();
+    private final EntityGenerations.Listener recorder = new EntityGenerations.Listener() {
+        @Override
+        public void changed(EntityKey key) {
+            changed.add(key);
+        }
+
+        @Override
+        public void linked(EntityKey key) {
+            linked.add(key);
+        }
+    };
+    private Genre genre;
+    private Character first;
+    private Character second;
+
+    @Autowired
+    public GenerationListenerTest(EntityGenerations generations, TestEntityManager entityManager) {
+        this.generations = generations;
+        this.entityManager = entityManager;
+    }
+
+    @BeforeEach
+    public void setup() {
+        genre = entityManager.persist(Genre.builder().name("drama " + System.nanoTime()).movies(new HashSet<>())
+                .build());
+        first = entityManager.persist(character("first"));
+        second = entityManager.persist(character("second"));
+        commit();
+        generations.subscribe(recorder);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        generations.unsubscribe(recorder);
+    }
+
+    @DisplayName(value = "JUnit Test for report a new movie as changed and its genre and characters as linked")
+    @Test
+    public void givenNewMovie_whenCommitted_thenMovieChangedAndGenreAndCharactersLinked() {
+        // given
+        Movie movie = entityManager.persist(movie(Set.of(first)));
+
+        // when
+        commit();
+
+        // then
+        assertThat(changed).containsOnly(EntityKey.of(Movie.class, movie.getId()));
+        assertThat(linked).containsOnly(EntityKey.of(Genre.class, genre.getId()),
+                EntityKey.of(Character.class, first.getId()));
+    }
+
+    @DisplayName(value = "JUnit Test for report only the characters a movie gained as linked")
+    @Test
+    public void givenCharacterReplaced_whenCommitted_thenOnlyTheNewCharacterLinked() {
+        // given
+        Movie movie = entityManager.persist(movie(new HashSet<>(Set.of(first))));
+        commit();
+        changed.clear();
+        linked.clear();
+        movie = entityManager.find(Movie.class, movie.getId());
+        movie.getCharacters().clear();
+        movie.getCharacters().add(entityManager.find(Character.class, second.getId()));
+
+        // when
+        commit();
+
+        // then
+        assertThat(changed).containsOnly(EntityKey.of(Movie.class, movie.getId()));
+        assertThat(linked).containsOnly(EntityKey.of(Character.class, second.getId()));
+    }
+
+    @DisplayName(value = "JUnit Test for report nothing when the transaction rolls back")
+    @Test
+    public void givenRolledBackTransaction_whenEnded_thenNothingReported() {
+        // given
+        entityManager.persist(movie(Set.of(first)));
+        entityManager.flush();
+
+        // when
+        TestTransaction.end();
+        TestTransaction.start();
+
+        // then
+        assertThat(changed).isEmpty();
+        assertThat(linked).isEmpty();
+    }
+
+    private Character character(String name) {
+        return Character.builder().name(name + " " + System.nanoTime()).image("image").age(10).weight(20.0)
+                .history("history").movies(new HashSet<>()).build();
+    }
+
+    private Movie movie(Set<Character> characters) {
+        return Movie.builder().title("title " + System.nanoTime()).image("image").creationDate(LocalDate.now())
+                .rate(3).genre(genre).characters(characters).build();
+    }
+
+    private static void commit() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+    }
+
+    @TestConfiguration
+    static class Generations {
+        @Bean
+        public EntityGenerations entityGenerations(EntityManagerFactory entityManagerFactory) {
+            EntityGenerations generations = new EntityGenerations();
+            GenerationListener.register(entityManagerFactory, generations);
+            return generations;
+        }
+    }
+}
@@ -4,11 +4,16 @@ import com.disney.model.InvalidUUIDFormatException;
 import com.disney.model.dto.request.GenreRequestDto;
 import com.disney.model.dto.request.GenreUpdateRequestDto;
 import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.entity.Genre;
 import com.disney.model.mapper.GenreMapper;
 import com.disney.repository.GenreRepository;
+import com.disney.service.cache.ExistenceProperties;
 import com.disney.service.implement.GenreServiceImpl;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ResponseCache;
 import com.disney.util.ApiUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,17 +24,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.security.InvalidParameterException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -42,6 +52,13 @@ public class GenreServiceTest {
     private GenreRepository genreRepository;
     @Mock
     private GenreMapper genreMapper;
+    @Mock
+    private ResponseCache<UUID, GenreResponseDto> genreCache;
+    // disabled, every lookup is a maybe and queried as before the filters
+    @Spy
+    private ExistenceFilter<Genre> genreExistence = new ExistenceFilter<>("genres", Genre.class, Genre::getId,
+            Stream::empty, () -> 0, TransactionOperations.withoutTransaction(),
+            new ExistenceProperties(false, 0.01, 0, Duration.ZERO), new SimpleMeterRegistry());
     @InjectMocks
     private GenreServiceImpl genreService;
     @Captor
@@ -71,12 +88,12 @@ public class GenreServiceTest {
         genreResponseOne = GenreResponseDto.builder()
                 .id(genreOne.getId().toString())
                 .name(genreOne.getName())
-                .movies(emptySet())
+                .movies(emptyList())
                 .build();
         genreResponseTwo = GenreResponseDto.builder()
                 .id(genreTwo.getId().toString())
                 .name(genreTwo.getName())
-                .movies(emptySet())
+                .movies(emptyList())
                 .build();
         updateRequestDto = GenreUpdateRequestDto.builder()
                 .name("NEW NAME VALUE")
@@ -160,15 +177,17 @@ public class GenreServiceTest {
         given(genreMapper.toDTO(genreTwo)).willReturn(genreResponseTwo);
 
         // when
-        Page<GenreResponseDto> result = genreService.listMovieGenres(pageNumber);
+        PageEnvelope<GenreResponseDto> result = genreService.listMovieGenres(pageNumber);
 
-        //then
-        then(genreMapper).should(times(2)).toDTO(any(Genre.class));
+        //then the movies are fetched for the page, rows are only mapped once the items are read
         then(genreRepository).should().findAll(pageable);
+        then(genreRepository).should().fetchMovies(genres.getContent());
+        then(genreMapper).should(never()).toDTO(any(Genre.class));
         assertThat(result).isNotNull();
-        assertThat(result.getContent()).isNotEmpty();
-        assertThat(result.getTotalElements()).isEqualTo(2L);
-        assertThat(result.getContent()).containsExactly(genreResponseOne, genreResponseTwo);
+        assertThat(result.total()).isEqualTo(2L);
+        assertThat(result.next()).isNull();
+        assertThat(result.items()).containsExactly(genreResponseOne, genreResponseTwo);
+        then(genreMapper).should(times(2)).toDTO(any(Genre.class));
     }
 
     @DisplayName(value = "JUnit Test for get empty Genre list")
@@ -181,13 +200,13 @@ public class GenreServiceTest {
         given(genreRepository.findAll(pageable)).willReturn(genres);
 
         // when
-        Page<GenreResponseDto> result = genreService.listMovieGenres(pageNumber);
+        PageEnvelope<GenreResponseDto> result = genreService.listMovieGenres(pageNumber);
 
         //then
-        then(genreMapper).should(never()).toDTO(any(Genre.class));
         then(genreRepository).should(times(1)).findAll(pageable);
         assertThat(result).isNotNull();
-        assertThat(result.getContent()).isEmpty();
+        assertThat(result.items()).isEmpty();
+        then(genreMapper).should(never()).toDTO(any(Genre.class));
     }
 
     @DisplayName(value = "JUnit Test for get (DTO) Genre by ID")
@@ -195,15 +214,14 @@ public class GenreServiceTest {
     public void givenId_whenGetGenreDtoById_thenReturnTheGenreFound() {
         // given
         final String stringUUID = genreOne.getId().toString();
-        given(genreRepository.findById(any(UUID.class))).willReturn(Optional.ofNullable(genreOne));
-        given(genreMapper.toDTO(genreOne)).willReturn(genreResponseOne);
+        given(genreCache.get(any(UUID.class))).willReturn(Optional.ofNullable(genreResponseOne));
 
         // when
         GenreResponseDto result = genreService.getGenreById(stringUUID);
 
         //then
-        then(genreRepository).should(times(1)).findById(genreOne.getId());
-        then(genreMapper).should().toDTO(genreOne);
+        then(genreCache).should(times(1)).get(genreOne.getId());
+        then(genreRepository).shouldHaveNoInteractions();
         assertThat(result).isNotNull();
         assertThat(result).usingRecursiveAssertion().isEqualTo(genreResponseOne);
     }
@@ -214,7 +232,7 @@ public class GenreServiceTest {
         // given
         final String stringUUID = UUID.randomUUID().toString();
         final String expectedExceptionMessage = STR."Genre not found for ID \{stringUUID}";
-        given(genreRepository.findById(any(UUID.class))).willReturn(Optional.empty());
+        given(genreCache.get(any(UUID.class))).willReturn(Optional.empty());
 
         // when
         Throwable result = catchThrowable(() -> genreService.getGenreById(stringUUID));
@@ -222,7 +240,7 @@ public class GenreServiceTest {
         //then
         assertThat(result).isNotNull().isInstanceOf(EntityNotFoundException.class)
                 .hasMessage(expectedExceptionMessage);
-        then(genreRepository).should(times(1)).findById(any(UUID.class));
+        then(genreCache).should(times(1)).get(UUID.fromString(stringUUID));
         then(genreMapper).shouldHaveNoInteractions();
     }
 
@@ -238,6 +256,7 @@ public class GenreServiceTest {
         //then
         assertThat(result).isNotNull().isInstanceOf(InvalidParameterException.class)
                 .hasMessage(expectedExceptionMessage);
+        then(genreCache).shouldHaveNoInteractions();
         then(genreRepository).shouldHaveNoInteractions();
         then(genreMapper).shouldHaveNoInteractions();
     }
@@ -315,7 +334,7 @@ public class GenreServiceTest {
         final GenreResponseDto expectedResponse = GenreResponseDto.builder()
                 .id(updatedGenreOne.getId().toString())
                 .name(updatedGenreOne.getName())
-                .movies(emptySet())
+                .movies(emptyList())
                 .build();
 
         given(genreRepository.findById(any(UUID.class))).willReturn(Optional.ofNullable(genreOne));
@@ -0,0 +1,198 @@
+package com.disney.unit.service;
+
+import com.disney.model.ServiceOverloadedException;
+import com.disney.model.dto.response.PageEnvelope;
+import com.disney.model.entity.Movie;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.ListCacheProperties;
+import com.disney.service.cache.ListQuery;
+import com.disney.service.cache.ListQueryCache;
+import com.disney.service.loader.BatchLoader;
+import com.disney.service.loader.LoaderProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ListQueryCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EntityGenerations generations = new EntityGenerations();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final List<UUID> rows = List.of(UUID.randomUUID(), UUID.randomUUID());
+    private final BatchLoader<UUID, String> loader = new BatchLoader<>("rows",
+            ids -> ids.stream().collect(toMap(Function.identity(), UUID::toString)),
+            new LoaderProperties(false, Duration.ofMillis(2), 100, 1, Duration.ofSeconds(5)), meterRegistry);
+    private final AtomicLong clock = new AtomicLong();
+    private final ListCacheProperties properties = new ListCacheProperties(true, 16, Duration.ofSeconds(30),
+            Duration.ofMillis(100));
+    private final ListQueryCache<UUID, String> cache = new ListQueryCache<>("rows", properties, generations,
+            List.of(Movie.class), Function.identity(), loader::load, TransactionOperations.withoutTransaction(),
+            Duration.ZERO, () -> false, hit -> {
+    }, meterRegistry, clock::get);
+
+    @AfterEach
+    void tearDown() {
+        loader.close();
+    }
+
+    @DisplayName(value = "JUnit Test for give every spelling of the same filters the same key")
+    @Test
+    public void givenEquivalentFilters_whenCanonicalize_thenSameKeyAndShape() {
+        // given
+        String movie = UUID.randomUUID().toString();
+        String other = UUID.randomUUID().toString();
+
+        // when
+        ListQuery lower = ListQuery.characters(0, "", 0, Set.of(movie, other));
+        ListQuery upper = ListQuery.characters(0, null, 0, List.of(other.toUpperCase(), movie));
+        ListQuery ascending = ListQuery.movies(1, "Toy", movie, "asc");
+        ListQuery descending = ListQuery.movies(1, "Toy", movie, "DESC");
+
+        // then
+        assertThat(lower).isEqualTo(upper);
+        assertThat(lower.shape()).isEqualTo("movies");
+        assertThat(ascending.key()).isNotEqualTo(descending.key());
+        assertThat(ascending.shape()).isEqualTo("title+genre");
+        assertThat(ListQuery.movies(0, "", "", "ASC").shape()).isEqualTo("none");
+        assertThat(ListQuery.movies(0, "a&genre=b", "", "ASC").key())
+                .isNotEqualTo(ListQuery.movies(0, "a", "", "ASC").key());
+    }
+
+    @DisplayName(value = "JUnit Test for serve a repeated list from the cached IDs without running the query")
+    @Test
+    public void givenCachedPage_whenList_thenRehydrateThroughLoader() {
+        // given
+        ListQuery query = ListQuery.movies(0, "", "", "ASC");
+        cache.list(query, finder(), UUID::toString);
+
+        // when
+        PageEnvelope<String> result = cache.list(query, finder(), UUID::toString);
+
+        // then
+        assertThat(queries).hasValue(1);
+        assertThat(result.items()).containsExactly(rows.get(0).toString(), rows.get(1).toString());
+        assertThat(result.total()).isEqualTo(12L);
+        assertThat(result.next()).isEqualTo(1);
+        assertThat(result.count()).isEqualTo(2);
+        assertThat(meterRegistry.get("disney.cache.list.hit.ratio").tag("shape", "none").gauge().value())
+                .isEqualTo(0.5);
+    }
+
+    @DisplayName(value = "JUnit Test for run the query again once a write to the entity type has committed")
+    @Test
+    public void givenGenerationBumped_whenList_thenQueryAgain() {
+        // given
+        ListQuery query = ListQuery.movies(0, "", "", "ASC");
+        cache.list(query, finder(), UUID::toString);
+        generations.bump(Movie.class);
+
+        // when
+        cache.list(query, finder(), UUID::toString);
+        cache.list(query, finder(), UUID::toString);
+
+        // then
+        assertThat(queries).hasValue(2);
+        assertThat(meterRegistry.get("disney.cache.list.lookups").tag("result", "stale").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @DisplayName(value = "JUnit Test for not store a page read while the replica may not have the write yet")
+    @Test
+    public void givenRecentGenerationBump_whenList_thenStoreOnlyOnceTheReplicaLagHasPassed() {
+        // given
+        ListQueryCache<UUID, String> routed = new ListQueryCache<>("routed", properties, generations,
+                List.of(Movie.class), Function.identity(), loader::load, TransactionOperations.withoutTransaction(),
+                Duration.ofSeconds(10), () -> false, hit -> {
+        }, meterRegistry, clock::get);
+        ListQuery query = ListQuery.movies(0, "", "", "ASC");
+        routed.list(query, finder(), UUID::toString);
+        routed.list(query, finder(), UUID::toString);
+        generations.bump(Movie.class);
+
+        // when
+        routed.list(query, finder(), UUID::toString);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        routed.list(query, finder(), UUID::toString);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        routed.list(query, finder(), UUID::toString);
+        routed.list(query, finder(), UUID::toString);
+
+        // then the page from before the write was cached, the first two after it were not
+        assertThat(queries).hasValue(4);
+    }
+
+    @DisplayName(value = "JUnit Test for run the query again once the entry is older than the ttl")
+    @Test
+    public void givenEntryPastTtl_whenList_thenQueryAgain() {
+        // given
+        ListQuery query = ListQuery.movies(0, "", "", "ASC");
+        cache.list(query, finder(), UUID::toString);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(29));
+        cache.list(query, finder(), UUID::toString);
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.list(query, finder(), UUID::toString);
+
+        // then
+        assertThat(queries).hasValue(2);
+    }
+
+    @DisplayName(value = "JUnit Test for report an overload when the rows of a cached page do not load in time")
+    @Test
+    public void givenStuckRows_whenList_thenServiceOverloadedException() {
+        // given
+        ListQueryCache<UUID, String> stuck = new ListQueryCache<>("stuck", properties, generations,
+                List.of(Movie.class), Function.identity(), id -> new CompletableFuture<>(),
+                TransactionOperations.withoutTransaction(), Duration.ZERO, () -> false, hit -> {
+        }, meterRegistry, clock::get);
+        ListQuery query = ListQuery.movies(0, "", "", "ASC");
+        stuck.list(query, finder(), UUID::toString);
+
+        // when
+        Throwable thrown = catchThrowable(() -> stuck.list(query, finder(), UUID::toString));
+
+        // then
+        assertThat(thrown).isInstanceOf(ServiceOverloadedException.class).hasMessageContaining("stuck");
+    }
+
+    @DisplayName(value = "JUnit Test for keep the number of cached pages within the maximum")
+    @Test
+    public void givenFullCache_whenList_thenEvictAnEntry() {
+        // given
+        for (int page = 0; page < 16; page++)
+            cache.list(ListQuery.movies(page, "", "", "ASC"), finder(), UUID::toString);
+
+        // when
+        cache.list(ListQuery.movies(16, "", "", "ASC"), finder(), UUID::toString);
+
+        // then
+        assertThat(cache.size()).isEqualTo(16);
+    }
+
+    private Supplier<Slice<UUID>> finder() {
+        return () -> {
+            queries.incrementAndGet();
+            return new PageImpl<>(rows, PageRequest.of(0, 2), 12);
+        };
+    }
+}
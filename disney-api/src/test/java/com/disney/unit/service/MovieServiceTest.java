@@ -4,6 +4,7 @@ import com.disney.model.InvalidUUIDFormatException;
 import com.disney.model.dto.request.MovieRequestDto;
 import com.disney.model.dto.request.MovieUpdateRequestDto;
 import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.PageEnvelope;
 import com.disney.model.dto.response.basic.CharacterBasicResponseDto;
 import com.disney.model.dto.response.basic.GenreBasicResponseDto;
 import com.disney.model.entity.Character;
@@ -14,7 +15,14 @@ import com.disney.repository.MovieRepository;
 import com.disney.repository.specification.MovieSpecification;
 import com.disney.service.CharacterService;
 import com.disney.service.GenreService;
+import com.disney.service.cache.ExistenceProperties;
 import com.disney.service.implement.MovieServiceImpl;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.ExistenceFilter;
+import com.disney.service.cache.ListCacheProperties;
+import com.disney.service.cache.ListQueryCache;
+import com.disney.service.cache.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,14 +33,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.security.InvalidParameterException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static com.disney.util.ApiUtils.ELEMENTS_PER_PAGE;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +53,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +68,19 @@ public class MovieServiceTest {
     private CharacterService characterService;
     @Mock
     private GenreService genreService;
+    @Mock
+    private ResponseCache<UUID, MovieResponseDto> movieCache;
+    @Spy
+    // disabled, it runs every query as the service did before the cache
+    private ListQueryCache<Movie, MovieResponseDto> movieListCache = new ListQueryCache<>("movies",
+            new ListCacheProperties(false, 0, Duration.ZERO, Duration.ZERO), new EntityGenerations(), List.of(),
+            Movie::getId, id -> null, TransactionOperations.withoutTransaction(), Duration.ZERO, () -> false, hit -> {
+    }, new SimpleMeterRegistry());
+    // disabled, every lookup is a maybe and queried as before the filters
+    @Spy
+    private ExistenceFilter<Movie> movieExistence = new ExistenceFilter<>("movies", Movie.class, Movie::getId,
+            Stream::empty, () -> 0, TransactionOperations.withoutTransaction(),
+            new ExistenceProperties(false, 0.01, 0, Duration.ZERO), new SimpleMeterRegistry());
     @InjectMocks
     private MovieServiceImpl movieService;
     @Captor
@@ -91,7 +116,7 @@ public class MovieServiceTest {
                 movie.getCreationDate().toString(),
                 movie.getRate(),
                 mock(GenreBasicResponseDto.class, "genre"),
-                Set.of(mock(CharacterBasicResponseDto.class, "characters"))
+                List.of(mock(CharacterBasicResponseDto.class, "characters"))
         );
     }
 
@@ -199,7 +224,7 @@ public class MovieServiceTest {
                 updateRequest.creationDate(),
                 updateRequest.rate(),
                 mock(GenreBasicResponseDto.class),
-                Set.of(mock(CharacterBasicResponseDto.class), mock(CharacterBasicResponseDto.class))
+                List.of(mock(CharacterBasicResponseDto.class), mock(CharacterBasicResponseDto.class))
         );
         given(movieRepository.findById(any(UUID.class))).willReturn(Optional.ofNullable(movie));
         given(movieRepository.save(any(Movie.class))).willAnswer(invocation -> invocation.getArgument(0));
@@ -243,7 +268,7 @@ public class MovieServiceTest {
                 movie.getCreationDate().toString(),
                 movie.getRate(),
                 new GenreBasicResponseDto(genre.getId().toString(), genre.getName()),
-                Set.of(mock(CharacterBasicResponseDto.class), mock(CharacterBasicResponseDto.class))
+                List.of(mock(CharacterBasicResponseDto.class), mock(CharacterBasicResponseDto.class))
         );
         given(movieRepository.findById(any(UUID.class))).willReturn(Optional.ofNullable(movie));
         given(genreService.getGenreById(any(UUID.class))).willReturn(genre);
@@ -295,7 +320,7 @@ public class MovieServiceTest {
                 movie.getCreationDate().toString(),
                 movie.getRate(),
                 mock(GenreBasicResponseDto.class),
-                Set.of(mock(CharacterBasicResponseDto.class), // set of two characters as response (old and new)
+                List.of(mock(CharacterBasicResponseDto.class), // set of two characters as response (old and new)
                         new CharacterBasicResponseDto(
                                 character.getId().toString(),
                                 character.getImage(),
@@ -349,7 +374,7 @@ public class MovieServiceTest {
                 movie.getCreationDate().toString(),
                 movie.getRate(),
                 mock(GenreBasicResponseDto.class),
-                Set.of(mock(CharacterBasicResponseDto.class)));
+                List.of(mock(CharacterBasicResponseDto.class)));
         given(movieRepository.findById(any(UUID.class))).willReturn(Optional.ofNullable(movie));
         given(characterService.getCharacterById(any(UUID.class))).willReturn(character);
         given(movieRepository.save(any(Movie.class))).willAnswer(invocation -> invocation.getArgument(0));
@@ -497,15 +522,14 @@ public class MovieServiceTest {
     public void givenMovieId_whenGetMovieById_thenReturnTheMovieFound() {
         // given
         final String movieId = movie.getId().toString();
-        given(movieRepository.findById(any(UUID.class))).willReturn(Optional.ofNullable(movie));
-        given(movieMapper.toDTO(any(Movie.class))).willReturn(movieResponse);
+        given(movieCache.get(any(UUID.class))).willReturn(Optional.ofNullable(movieResponse));
 
         // when
         MovieResponseDto result = movieService.getMovieById(movieId);
 
         // then verify mocks interactions
-        then(movieRepository).should(times(1)).findById(UUID.fromString(movieId));
-        then(movieMapper).should(times(1)).toDTO(movie);
+        then(movieCache).should(times(1)).get(UUID.fromString(movieId));
+        then(movieRepository).shouldHaveNoInteractions();
         // then verify result contains expected data
         assertThat(result).isNotNull().usingRecursiveComparison().isEqualTo(movieResponse);
     }
@@ -517,11 +541,13 @@ public class MovieServiceTest {
         final String movieId = UUID.randomUUID().toString();
         final String errorMsg = STR."Movie not found for ID \{movieId}";
 
+        given(movieCache.get(any(UUID.class))).willReturn(Optional.empty());
+
         // when
         Throwable result = catchThrowable(() -> movieService.getMovieById(movieId));
 
         //then verify mock interactions
-        then(movieRepository).should(times(1)).findById(UUID.fromString(movieId));
+        then(movieCache).should(times(1)).get(UUID.fromString(movieId));
         then(movieMapper).shouldHaveNoInteractions();
         // then verify result contains expected data
         assertThat(result).isNotNull().isInstanceOf(EntityNotFoundException.class).hasMessage(errorMsg);
@@ -537,6 +563,7 @@ public class MovieServiceTest {
         Throwable result = catchThrowable(() -> movieService.getMovieById(null));
 
         // then verify mocks interactions
+        then(movieCache).shouldHaveNoInteractions();
         then(movieRepository).shouldHaveNoInteractions();
         then(movieMapper).shouldHaveNoInteractions();
         // then verify result contains expected data
@@ -688,15 +715,15 @@ public class MovieServiceTest {
         given(movieMapper.toDTO(any(Movie.class))).willReturn(movieResponse);
 
         // when
-        Page<MovieResponseDto> result = movieService.listMovies(pageNumber, "", "", "");
+        PageEnvelope<MovieResponseDto> result = movieService.listMovies(pageNumber, "", "", "");
 
-        //then verify mocks interactions
+        //then verify mocks interactions, rows are not mapped until the items are read
         then(movieRepository).should(times(1)).findAll(movieSpec.getByFilters("", "", ""), pageable);
-        then(movieMapper).should(times(1)).toDTO(movie);
+        then(movieMapper).should(never()).toDTO(any(Movie.class));
         // then assert on result verifying that contains expected data
         assertThat(result).isNotNull();
-        assertThat(result.getTotalElements()).isEqualTo(1L);
-        //...as the result only contains one single object, we apply recursive comparison against other object
-        assertThat(result.getContent().getFirst()).usingRecursiveComparison().isEqualTo(movieResponse);
+        assertThat(result.total()).isEqualTo(1L);
+        assertThat(result.items()).containsExactly(movieResponse);
+        then(movieMapper).should(times(1)).toDTO(movie);
     }
 }
@@ -0,0 +1,263 @@
+package com.disney.unit.service;
+
+import com.disney.model.ServiceOverloadedException;
+import com.disney.model.entity.Genre;
+import com.disney.model.entity.Movie;
+import com.disney.service.cache.EntityGenerations;
+import com.disney.service.cache.EntityKey;
+import com.disney.service.cache.ResponseCache;
+import com.disney.service.cache.ResponseCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ResponseCacheTest {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+    // every response of the test cache shows this genre
+    private static final EntityKey GENRE = EntityKey.of(Genre.class, 100);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EntityGenerations generations = new EntityGenerations();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicReference<CompletableFuture<String>> pending = new AtomicReference<>();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private ResponseCache<Integer, String> cache;
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @DisplayName(value = "JUnit Test for serve a fresh entry without loading it again")
+    @Test
+    public void givenFreshEntry_whenGet_thenHit() {
+        // given
+        cache = newCache(0.0);
+        cache.get(1);
+
+        // when
+        clock.addAndGet(10 * SECOND);
+        String value = cache.get(1).orElseThrow();
+
+        // then
+        assertThat(value).isEqualTo("1#1");
+        assertThat(loads).hasValue(1);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+    }
+
+    @DisplayName(value = "JUnit Test for serve the stale entry while a single background refresh runs")
+    @Test
+    public void givenExpiredEntry_whenGet_thenStaleAndOneRefresh() {
+        // given
+        cache = newCache(0.0);
+        cache.get(1);
+        clock.addAndGet(31 * SECOND);
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+        pending.set(refresh);
+
+        // when
+        String first = cache.get(1).orElseThrow();
+        String second = cache.get(1).orElseThrow();
+        awaitLoads(2);
+        refresh.complete("fresh");
+
+        // then
+        assertThat(first).isEqualTo("1#1");
+        assertThat(second).isEqualTo("1#1");
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get(1)).contains("fresh");
+        assertThat(lookups("stale")).isEqualTo(2.0);
+    }
+
+    @DisplayName(value = "JUnit Test for refresh a fresh entry early once the expiry is close enough")
+    @Test
+    public void givenEntryCloseToExpiry_whenGet_thenEarlyRefresh() {
+        // given, a beta this large makes the early refresh certain
+        cache = newCache(1e12);
+        cache.get(1);
+
+        // when
+        clock.addAndGet(29 * SECOND);
+        String value = cache.get(1).orElseThrow();
+        awaitLoads(2);
+
+        // then
+        assertThat(value).isEqualTo("1#1");
+        assertThat(lookups("early")).isEqualTo(1.0);
+    }
+
+    @DisplayName(value = "JUnit Test for serve stale data when the refresh fails, up to the staleness limit")
+    @Test
+    public void givenFailingRefresh_whenGet_thenStaleWithinLimitOnly() {
+        // given
+        cache = newCache(0.0);
+        cache.get(1);
+        clock.addAndGet(31 * SECOND);
+        failure.set(new IllegalStateException("database unavailable"));
+        cache.get(1);
+        awaitRefreshFailures(1);
+
+        // when
+        String stale = cache.get(1).orElseThrow();
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        Throwable thrown = catchThrowable(() -> cache.get(1));
+
+        // then
+        assertThat(stale).isEqualTo("1#1");
+        assertThat(lookups("stale-on-error")).isEqualTo(1.0);
+        assertThat(thrown).isInstanceOf(IllegalStateException.class).hasMessage("database unavailable");
+    }
+
+    @DisplayName(value = "JUnit Test for never serve an entry from before a write, even when the reload fails")
+    @Test
+    public void givenRowWrittenAndFailingSource_whenGet_thenFailure() {
+        // given
+        cache = newCache(0.0);
+        cache.get(1);
+        generations.changed(EntityKey.of(Movie.class, 1));
+        failure.set(new IllegalStateException("database unavailable"));
+
+        // when
+        Throwable thrown = catchThrowable(() -> cache.get(1));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class).hasMessage("database unavailable");
+        assertThat(lookups("stale-on-error")).isZero();
+    }
+
+    @DisplayName(value = "JUnit Test for report an overload when the loader gives up on a key")
+    @Test
+    public void givenTimedOutLoad_whenGet_thenServiceOverloadedException() {
+        // given
+        cache = newCache(0.0);
+        pending.set(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // when
+        Throwable thrown = catchThrowable(() -> cache.get(1));
+
+        // then
+        assertThat(thrown).isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    @DisplayName(value = "JUnit Test for load again once a write to the row has committed, and only that row")
+    @Test
+    public void givenRowWritten_whenGet_thenMissForThatKeyOnly() {
+        // given
+        cache = newCache(0.0);
+        cache.get(1);
+        cache.get(2);
+
+        // when
+        generations.changed(EntityKey.of(Movie.class, 1));
+        String written = cache.get(1).orElseThrow();
+        String other = cache.get(2).orElseThrow();
+
+        // then
+        assertThat(written).isEqualTo("1#3");
+        assertThat(other).isEqualTo("2#2");
+        assertThat(lookups("miss")).isEqualTo(3.0);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+    }
+
+    @DisplayName(value = "JUnit Test for load again every response that shows a row once a write to it has committed")
+    @Test
+    public void givenShownRowWritten_whenGet_thenMissForEveryKeyShowingIt() {
+        // given
+        cache = newCache(0.0);
+        cache.get(1);
+        cache.get(2);
+
+        // when
+        generations.changed(GENRE);
+        cache.get(1);
+        cache.get(2);
+
+        // then
+        assertThat(loads).hasValue(4);
+        assertThat(lookups("miss")).isEqualTo(4.0);
+    }
+
+    @DisplayName(value = "JUnit Test for load again only the response of a row that gained an association")
+    @Test
+    public void givenRowLinked_whenGet_thenMissForItsOwnKeyOnly() {
+        // given
+        cache = newCache(0.0);
+        cache.get(1);
+        cache.get(2);
+
+        // when
+        generations.linked(EntityKey.of(Movie.class, 1));
+        generations.linked(GENRE);
+        cache.get(1);
+        cache.get(2);
+
+        // then
+        assertThat(loads).hasValue(3);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+    }
+
+    @DisplayName(value = "JUnit Test for not keep a response loaded while a write committed")
+    @Test
+    public void givenWriteDuringLoad_whenLoaded_thenNotKept() {
+        // given
+        cache = newCache(0.0);
+        CompletableFuture<String> load = new CompletableFuture<>();
+        pending.set(load);
+        CompletableFuture<String> value = cache.load(1);
+
+        // when
+        generations.changed(EntityKey.of(Movie.class, 2));
+        load.complete("before the write");
+
+        // then
+        assertThat(value.join()).isEqualTo("before the write");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1)).contains("1#2");
+    }
+
+    private ResponseCache<Integer, String> newCache(double beta) {
+        ResponseCacheProperties properties = new ResponseCacheProperties(true, Duration.ofSeconds(30),
+                Duration.ofMinutes(5), beta, 100, 1);
+        return new ResponseCache<>("test", properties, generations, Movie.class, List.of(Movie.class, Genre.class),
+                value -> List.of(GENRE), this::load, () -> false, hit -> {
+                }, meterRegistry, clock::get);
+    }
+
+    private CompletableFuture<String> load(Integer key) {
+        int count = loads.incrementAndGet();
+        clock.addAndGet(1_000_000);
+        if (failure.get() != null)
+            throw failure.get();
+        CompletableFuture<String> future = pending.getAndSet(null);
+        return future != null ? future : CompletableFuture.completedFuture(key + "#" + count);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("disney.cache.response.lookups").tag("result", result).counter().count();
+    }
+
+    private void awaitRefreshFailures(int expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("disney.cache.response.refresh.failures").counter().count() < expected
+                && System.nanoTime() < deadline)
+            Thread.onSpinWait();
+    }
+
+    private void awaitLoads(int expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (loads.get() < expected && System.nanoTime() < deadline)
+            Thread.onSpinWait();
+    }
+}
@@ -0,0 +1,13 @@
+package com.disney.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class DisneyReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(DisneyReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.disney.reactive.controller;
+
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.reactive.service.CharacterReadService;
+import com.disney.util.ApiUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping(ApiUtils.CHARACTER_BASE_URL)
+public class CharacterReadController {
+    private final CharacterReadService characterService;
+
+    public CharacterReadController(CharacterReadService characterService) {
+        this.characterService = characterService;
+    }
+
+    @GetMapping(ApiUtils.CHARACTER_URI_VARIABLE)
+    public Mono<ResponseEntity<CharacterResponseDto>> getCharacter(@PathVariable String characterId) {
+        return characterService.getCharacterById(characterId)
+                .map(character -> ResponseEntity.status(HttpStatus.OK).body(character));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Flux<CharacterResponseDto>> listMovieCharacters(
+            @RequestParam(required = false, defaultValue = "0", name = "page") int pageNumber,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false, defaultValue = "0") int age,
+            @RequestParam(required = false) Set<String> moviesId) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(characterService.listCharacters(pageNumber, name, age, moviesId));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<CharacterResponseDto>> streamMovieCharacters(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false, defaultValue = "0") int age,
+            @RequestParam(required = false) Set<String> moviesId) {
+        return ResponseEntity.status(HttpStatus.OK).body(characterService.streamCharacters(name, age, moviesId));
+    }
+}
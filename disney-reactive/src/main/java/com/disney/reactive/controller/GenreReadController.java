@@ -0,0 +1,37 @@
+package com.disney.reactive.controller;
+
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.reactive.service.GenreReadService;
+import com.disney.util.ApiUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(ApiUtils.GENRE_BASE_URL)
+public class GenreReadController {
+    private final GenreReadService genreService;
+
+    public GenreReadController(GenreReadService genreService) {
+        this.genreService = genreService;
+    }
+
+    @GetMapping(ApiUtils.GENRE_URI_VARIABLE)
+    public Mono<ResponseEntity<GenreResponseDto>> getGenre(@PathVariable String genreId) {
+        return genreService.getGenreById(genreId).map(genre -> ResponseEntity.status(HttpStatus.OK).body(genre));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Flux<GenreResponseDto>> listGenres(
+            @RequestParam(required = false, defaultValue = "0", name = "page") int pageNumber) {
+        return ResponseEntity.status(HttpStatus.OK).body(genreService.listGenres(pageNumber));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<GenreResponseDto>> streamGenres() {
+        return ResponseEntity.status(HttpStatus.OK).body(genreService.streamGenres());
+    }
+}
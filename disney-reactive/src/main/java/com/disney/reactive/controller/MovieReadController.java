@@ -0,0 +1,43 @@
+package com.disney.reactive.controller;
+
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.reactive.service.MovieReadService;
+import com.disney.util.ApiUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(ApiUtils.MOVIE_BASE_URL)
+public class MovieReadController {
+    private final MovieReadService movieService;
+
+    public MovieReadController(MovieReadService movieService) {
+        this.movieService = movieService;
+    }
+
+    @GetMapping(ApiUtils.MOVIE_URI_VARIABLE)
+    public Mono<ResponseEntity<MovieResponseDto>> getMovie(@PathVariable String movieId) {
+        return movieService.getMovieById(movieId).map(movie -> ResponseEntity.status(HttpStatus.OK).body(movie));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Flux<MovieResponseDto>> listMovies(
+            @RequestParam(required = false, defaultValue = "0", name = "page") int pageNumber,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false, defaultValue = "ASC") String order) {
+        return ResponseEntity.status(HttpStatus.OK).body(movieService.listMovies(pageNumber, title, genre, order));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<MovieResponseDto>> streamMovies(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false, defaultValue = "ASC") String order) {
+        return ResponseEntity.status(HttpStatus.OK).body(movieService.streamMovies(title, genre, order));
+    }
+}
@@ -0,0 +1,45 @@
+package com.disney.reactive.controller;
+
+import com.disney.model.HttpCodeResponse;
+import com.disney.model.InvalidUUIDFormatException;
+import com.disney.model.dto.response.ApiErrorResponse;
+import com.disney.reactive.model.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.security.InvalidParameterException;
+import java.time.LocalDateTime;
+
+@ControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(value = {ResourceNotFoundException.class})
+    protected ResponseEntity<Object> handleResourceNotFound(ResourceNotFoundException ex, ServerWebExchange exchange) {
+        return error(HttpStatus.NOT_FOUND, HttpCodeResponse.RESOURCE_NOT_FOUND, ex, exchange);
+    }
+
+    @ExceptionHandler(value = InvalidUUIDFormatException.class)
+    protected ResponseEntity<Object> handleInvalidUUIDFormat(InvalidUUIDFormatException ex,
+                                                             ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, HttpCodeResponse.INVALID_ID_FORMAT, ex, exchange);
+    }
+
+    @ExceptionHandler(value = {InvalidParameterException.class})
+    protected ResponseEntity<Object> handleInvalidParameter(InvalidParameterException ex, ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, HttpCodeResponse.INVALID_ARGUMENT, ex, exchange);
+    }
+
+    private static ResponseEntity<Object> error(HttpStatus status, HttpCodeResponse errorCode, Exception ex,
+                                                ServerWebExchange exchange) {
+        ApiErrorResponse apiErrorResponse = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .message(ex.getMessage())
+                .path("uri=%s".formatted(exchange.getRequest().getPath()))
+                .errorCode(errorCode)
+                .build();
+        return ResponseEntity.status(status).body(apiErrorResponse);
+    }
+}
@@ -0,0 +1,8 @@
+package com.disney.reactive.model;
+
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,102 @@
+package com.disney.reactive.repository;
+
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.basic.GenreBasicResponseDto;
+import com.disney.model.dto.response.basic.MovieBasicInfoResponseDto;
+import io.r2dbc.spi.Row;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.disney.util.ApiUtils.OF_PATTERN;
+
+@Repository
+public class CharacterReadRepository {
+    private static final String SELECT_CHARACTERS = """
+            SELECT c.id, c.image, c.name, c.age, c.weight, c.history
+            FROM characters c
+            WHERE c.deleted = false""";
+    private static final String APPEARS_IN_MOVIES = """
+            EXISTS (SELECT 1 FROM rel_movie_character r JOIN movies m ON m.id = r.movie_id
+                    WHERE r.character_id = c.id AND m.deleted = false AND r.movie_id IN (:movieIds))""";
+    private static final String SELECT_MOVIES_BY_CHARACTER = """
+            SELECT r.character_id, m.id, m.image, m.title, m.creation_date, m.rate,
+                   g.id AS genre_id, g.name AS genre_name
+            FROM rel_movie_character r JOIN movies m ON m.id = r.movie_id LEFT JOIN genres g ON g.id = m.genre_id
+            WHERE m.deleted = false AND r.character_id IN (:characterIds)""";
+    private final DatabaseClient databaseClient;
+    private final UuidColumns uuidColumns;
+
+    public CharacterReadRepository(DatabaseClient databaseClient, UuidColumns uuidColumns) {
+        this.databaseClient = databaseClient;
+        this.uuidColumns = uuidColumns;
+    }
+
+    public Mono<CharacterResponseDto> findById(UUID id) {
+        return new SqlQuery(SELECT_CHARACTERS)
+                .and("c.id = :id", "id", uuidColumns.bind(id))
+                .prepare(databaseClient)
+                .map((row, metadata) -> toCharacter(row))
+                .one();
+    }
+
+    // same semantics as CharacterSpecification: contains match on the name, exact age, appears in any of the movies
+    public Flux<CharacterResponseDto> findByFilters(String name, int age, Collection<UUID> movieIds,
+                                                    Pageable pageable) {
+        SqlQuery query = new SqlQuery(SELECT_CHARACTERS);
+        if (StringUtils.hasLength(name))
+            query.and("LOWER(c.name) LIKE :name", "name", '%' + name + '%');
+        if (age > 0)
+            query.and("c.age = :age", "age", age);
+        if (!CollectionUtils.isEmpty(movieIds))
+            query.and(APPEARS_IN_MOVIES, "movieIds", uuidColumns.bindAll(movieIds));
+        return query.append("ORDER BY c.id")
+                .page(pageable)
+                .prepare(databaseClient)
+                .map((row, metadata) -> toCharacter(row))
+                .all();
+    }
+
+    public Flux<Related<MovieBasicInfoResponseDto>> findMovies(Collection<UUID> characterIds) {
+        if (characterIds.isEmpty())
+            return Flux.empty();
+        return databaseClient.sql(SELECT_MOVIES_BY_CHARACTER)
+                .bind("characterIds", uuidColumns.bindAll(characterIds))
+                .map((row, metadata) -> new Related<>(
+                        uuidColumns.read(row.get("character_id")).toString(), toMovie(row)))
+                .all();
+    }
+
+    private CharacterResponseDto toCharacter(Row row) {
+        return new CharacterResponseDto(
+                uuidColumns.read(row.get("id")).toString(),
+                row.get("image", String.class),
+                row.get("name", String.class),
+                row.get("age", Integer.class),
+                row.get("weight", Double.class),
+                row.get("history", String.class),
+                List.of());
+    }
+
+    private MovieBasicInfoResponseDto toMovie(Row row) {
+        UUID genreId = uuidColumns.read(row.get("genre_id"));
+        return new MovieBasicInfoResponseDto(
+                uuidColumns.read(row.get("id")).toString(),
+                row.get("image", String.class),
+                row.get("title", String.class),
+                row.get("creation_date", LocalDate.class).format(OF_PATTERN),
+                row.get("rate", Integer.class),
+                Objects.isNull(genreId) ? null
+                        : new GenreBasicResponseDto(genreId.toString(), row.get("genre_name", String.class)));
+    }
+}
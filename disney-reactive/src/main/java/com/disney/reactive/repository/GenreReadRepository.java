@@ -0,0 +1,73 @@
+package com.disney.reactive.repository;
+
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.basic.MovieBasicResponseDto;
+import io.r2dbc.spi.Row;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static com.disney.util.ApiUtils.OF_PATTERN;
+
+@Repository
+public class GenreReadRepository {
+    private static final String SELECT_GENRES = """
+            SELECT g.id, g.name
+            FROM genres g""";
+    private static final String SELECT_MOVIES_BY_GENRE = """
+            SELECT m.genre_id, m.id, m.image, m.title, m.creation_date, m.rate
+            FROM movies m
+            WHERE m.deleted = false AND m.genre_id IN (:genreIds)""";
+    private final DatabaseClient databaseClient;
+    private final UuidColumns uuidColumns;
+
+    public GenreReadRepository(DatabaseClient databaseClient, UuidColumns uuidColumns) {
+        this.databaseClient = databaseClient;
+        this.uuidColumns = uuidColumns;
+    }
+
+    public Mono<GenreResponseDto> findById(UUID id) {
+        return new SqlQuery(SELECT_GENRES)
+                .and("g.id = :id", "id", uuidColumns.bind(id))
+                .prepare(databaseClient)
+                .map((row, metadata) -> toGenre(row))
+                .one();
+    }
+
+    public Flux<GenreResponseDto> findAll(Pageable pageable) {
+        return new SqlQuery(SELECT_GENRES)
+                .append("ORDER BY g.name, g.id")
+                .page(pageable)
+                .prepare(databaseClient)
+                .map((row, metadata) -> toGenre(row))
+                .all();
+    }
+
+    public Flux<Related<MovieBasicResponseDto>> findMovies(Collection<UUID> genreIds) {
+        if (genreIds.isEmpty())
+            return Flux.empty();
+        return databaseClient.sql(SELECT_MOVIES_BY_GENRE)
+                .bind("genreIds", uuidColumns.bindAll(genreIds))
+                .map((row, metadata) -> new Related<>(
+                        uuidColumns.read(row.get("genre_id")).toString(),
+                        new MovieBasicResponseDto(
+                                uuidColumns.read(row.get("id")).toString(),
+                                row.get("image", String.class),
+                                row.get("title", String.class),
+                                row.get("creation_date", LocalDate.class).format(OF_PATTERN),
+                                row.get("rate", Integer.class),
+                                List.of())))
+                .all();
+    }
+
+    private GenreResponseDto toGenre(Row row) {
+        return new GenreResponseDto(uuidColumns.read(row.get("id")).toString(), row.get("name", String.class), List.of());
+    }
+}
@@ -0,0 +1,92 @@
+package com.disney.reactive.repository;
+
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.basic.CharacterBasicResponseDto;
+import com.disney.model.dto.response.basic.GenreBasicResponseDto;
+import com.disney.util.ApiUtils;
+import io.r2dbc.spi.Row;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.disney.util.ApiUtils.OF_PATTERN;
+
+@Repository
+public class MovieReadRepository {
+    private static final String SELECT_MOVIES = """
+            SELECT m.id, m.image, m.title, m.creation_date, m.rate, g.id AS genre_id, g.name AS genre_name
+            FROM movies m LEFT JOIN genres g ON g.id = m.genre_id
+            WHERE m.deleted = false""";
+    private static final String SELECT_CHARACTERS_BY_MOVIE = """
+            SELECT r.movie_id, c.id, c.image, c.name, c.age, c.weight, c.history
+            FROM rel_movie_character r JOIN characters c ON c.id = r.character_id
+            WHERE c.deleted = false AND r.movie_id IN (:movieIds)""";
+    private final DatabaseClient databaseClient;
+    private final UuidColumns uuidColumns;
+
+    public MovieReadRepository(DatabaseClient databaseClient, UuidColumns uuidColumns) {
+        this.databaseClient = databaseClient;
+        this.uuidColumns = uuidColumns;
+    }
+
+    public Mono<MovieResponseDto> findById(UUID id) {
+        return new SqlQuery(SELECT_MOVIES)
+                .and("m.id = :id", "id", uuidColumns.bind(id))
+                .prepare(databaseClient)
+                .map((row, metadata) -> toMovie(row))
+                .one();
+    }
+
+    // same semantics as MovieSpecification: the title is a contains match and the genre filter is the genre ID
+    public Flux<MovieResponseDto> findByFilters(String title, UUID genreId, String order, Pageable pageable) {
+        SqlQuery query = new SqlQuery(SELECT_MOVIES);
+        if (StringUtils.hasLength(title))
+            query.and("LOWER(m.title) LIKE :title", "title", '%' + title + '%');
+        if (Objects.nonNull(genreId))
+            query.and("m.genre_id = :genreId", "genreId", uuidColumns.bind(genreId));
+        return query.append("ORDER BY m.creation_date %s, m.id".formatted(ApiUtils.isASC(order) ? "ASC" : "DESC"))
+                .page(pageable)
+                .prepare(databaseClient)
+                .map((row, metadata) -> toMovie(row))
+                .all();
+    }
+
+    public Flux<Related<CharacterBasicResponseDto>> findCharacters(Collection<UUID> movieIds) {
+        if (movieIds.isEmpty())
+            return Flux.empty();
+        return databaseClient.sql(SELECT_CHARACTERS_BY_MOVIE)
+                .bind("movieIds", uuidColumns.bindAll(movieIds))
+                .map((row, metadata) -> new Related<>(
+                        uuidColumns.read(row.get("movie_id")).toString(),
+                        new CharacterBasicResponseDto(
+                                uuidColumns.read(row.get("id")).toString(),
+                                row.get("image", String.class),
+                                row.get("name", String.class),
+                                row.get("age", Integer.class),
+                                row.get("weight", Double.class),
+                                row.get("history", String.class))))
+                .all();
+    }
+
+    private MovieResponseDto toMovie(Row row) {
+        UUID genreId = uuidColumns.read(row.get("genre_id"));
+        return new MovieResponseDto(
+                uuidColumns.read(row.get("id")).toString(),
+                row.get("image", String.class),
+                row.get("title", String.class),
+                row.get("creation_date", LocalDate.class).format(OF_PATTERN),
+                row.get("rate", Integer.class),
+                Objects.isNull(genreId) ? null
+                        : new GenreBasicResponseDto(genreId.toString(), row.get("genre_name", String.class)),
+                List.of());
+    }
+}
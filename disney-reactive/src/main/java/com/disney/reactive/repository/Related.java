@@ -0,0 +1,8 @@
+package com.disney.reactive.repository;
+
+/**
+ * A row of an association fetched for a batch of owners, e.g. a character together with the id of the movie it
+ * was loaded for.
+ */
+public record Related<T>(String ownerId, T value) {
+}
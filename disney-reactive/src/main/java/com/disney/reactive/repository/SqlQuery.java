@@ -0,0 +1,46 @@
+package com.disney.reactive.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Appends the optional filters of a search to a base query, keeping their values as bind parameters.
+ */
+class SqlQuery {
+    private final StringBuilder sql;
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+    private boolean filtered;
+
+    SqlQuery(String select) {
+        this.sql = new StringBuilder(select);
+        this.filtered = select.contains("WHERE");
+    }
+
+    SqlQuery and(String condition, String parameter, Object value) {
+        sql.append(filtered ? " AND " : " WHERE ").append(condition);
+        filtered = true;
+        parameters.put(parameter, value);
+        return this;
+    }
+
+    SqlQuery append(String clause) {
+        sql.append(' ').append(clause);
+        return this;
+    }
+
+    SqlQuery page(Pageable pageable) {
+        if (pageable.isPaged())
+            sql.append(" LIMIT %d OFFSET %d".formatted(pageable.getPageSize(), pageable.getOffset()));
+        return this;
+    }
+
+    DatabaseClient.GenericExecuteSpec prepare(DatabaseClient databaseClient) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> parameter : parameters.entrySet())
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        return spec;
+    }
+}
@@ -0,0 +1,47 @@
+package com.disney.reactive.repository;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Converts the ids between {@link UUID} and the column type Hibernate generated for them: {@code binary(16)} on
+ * MySQL and MariaDB, a native {@code uuid} column everywhere else.
+ */
+@Component
+public class UuidColumns {
+    private final boolean binary;
+
+    public UuidColumns(ConnectionFactory connectionFactory) {
+        String database = connectionFactory.getMetadata().getName();
+        this.binary = database.contains("MySQL") || database.contains("MariaDB");
+    }
+
+    public Object bind(UUID id) {
+        if (!binary)
+            return id;
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    public List<Object> bindAll(Collection<UUID> ids) {
+        return ids.stream().map(this::bind).toList();
+    }
+
+    public UUID read(Object value) {
+        if (Objects.isNull(value) || value instanceof UUID)
+            return (UUID) value;
+        if (value instanceof byte[] bytes)
+            value = ByteBuffer.wrap(bytes);
+        if (value instanceof ByteBuffer buffer)
+            return new UUID(buffer.getLong(0), buffer.getLong(8));
+        return UUID.fromString(value.toString());
+    }
+}
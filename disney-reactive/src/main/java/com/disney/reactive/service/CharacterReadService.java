@@ -0,0 +1,17 @@
+package com.disney.reactive.service;
+
+import com.disney.model.dto.response.CharacterResponseDto;
+import jakarta.validation.constraints.NotNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+public interface CharacterReadService {
+
+    Mono<CharacterResponseDto> getCharacterById(@NotNull String id);
+
+    Flux<CharacterResponseDto> listCharacters(@NotNull int pageNumber, String name, int age, Set<String> moviesId);
+
+    Flux<CharacterResponseDto> streamCharacters(String name, int age, Set<String> moviesId);
+}
@@ -0,0 +1,15 @@
+package com.disney.reactive.service;
+
+import com.disney.model.dto.response.GenreResponseDto;
+import jakarta.validation.constraints.NotNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface GenreReadService {
+
+    Mono<GenreResponseDto> getGenreById(@NotNull String id);
+
+    Flux<GenreResponseDto> listGenres(@NotNull int pageNumber);
+
+    Flux<GenreResponseDto> streamGenres();
+}
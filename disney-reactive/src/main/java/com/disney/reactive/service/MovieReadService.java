@@ -0,0 +1,15 @@
+package com.disney.reactive.service;
+
+import com.disney.model.dto.response.MovieResponseDto;
+import jakarta.validation.constraints.NotNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface MovieReadService {
+
+    Mono<MovieResponseDto> getMovieById(@NotNull String id);
+
+    Flux<MovieResponseDto> listMovies(@NotNull int pageNumber, String title, String genre, String order);
+
+    Flux<MovieResponseDto> streamMovies(String title, String genre, String order);
+}
@@ -0,0 +1,71 @@
+package com.disney.reactive.service.implement;
+
+import com.disney.model.dto.response.CharacterResponseDto;
+import com.disney.model.dto.response.basic.MovieBasicInfoResponseDto;
+import com.disney.reactive.model.ResourceNotFoundException;
+import com.disney.reactive.repository.CharacterReadRepository;
+import com.disney.reactive.repository.Related;
+import com.disney.reactive.service.CharacterReadService;
+import com.disney.util.ApiUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.InvalidParameterException;
+import java.util.*;
+
+@Service
+public class CharacterReadServiceImpl implements CharacterReadService {
+    private final CharacterReadRepository characterRepository;
+
+    public CharacterReadServiceImpl(CharacterReadRepository characterRepository) {
+        this.characterRepository = characterRepository;
+    }
+
+    @Override
+    public Mono<CharacterResponseDto> getCharacterById(String id) {
+        return Mono.defer(() -> characterRepository.findById(ApiUtils.getUUIDFromString(id)))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Character not found for ID %s".formatted(id))))
+                .flatMapMany(character -> withMovies(List.of(character)))
+                .single();
+    }
+
+    @Override
+    public Flux<CharacterResponseDto> listCharacters(int pageNumber, String name, int age, Set<String> moviesId) {
+        if (pageNumber < 0)
+            return Flux.error(new InvalidParameterException("Invalid parameter value: page"));
+        return findCharacters(name, age, moviesId, PageRequest.of(pageNumber, ApiUtils.ELEMENTS_PER_PAGE));
+    }
+
+    @Override
+    public Flux<CharacterResponseDto> streamCharacters(String name, int age, Set<String> moviesId) {
+        return findCharacters(name, age, moviesId, Pageable.unpaged());
+    }
+
+    private Flux<CharacterResponseDto> findCharacters(String name, int age, Set<String> moviesId, Pageable pageable) {
+        return Flux.defer(() -> {
+                    List<UUID> movieIds = Objects.isNull(moviesId) ? List.of()
+                            : moviesId.stream().map(ApiUtils::getUUIDFromString).toList();
+                    return characterRepository.findByFilters(name, age, movieIds, pageable);
+                })
+                .buffer(ApiUtils.ELEMENTS_PER_PAGE)
+                .concatMap(this::withMovies);
+    }
+
+    private Flux<CharacterResponseDto> withMovies(List<CharacterResponseDto> characters) {
+        List<UUID> ids = characters.stream().map(character -> UUID.fromString(character.id())).toList();
+        return characterRepository.findMovies(ids)
+                .collectMultimap(Related::ownerId, Related::value)
+                .flatMapIterable(movies -> characters.stream()
+                        .map(character -> withMovies(character, movies.getOrDefault(character.id(), List.of())))
+                        .toList());
+    }
+
+    private static CharacterResponseDto withMovies(CharacterResponseDto character,
+                                                   Collection<MovieBasicInfoResponseDto> movies) {
+        return new CharacterResponseDto(character.id(), character.image(), character.name(), character.age(),
+                character.weight(), character.history(), List.copyOf(movies));
+    }
+}
@@ -0,0 +1,82 @@
+package com.disney.reactive.service.implement;
+
+import com.disney.model.dto.response.GenreResponseDto;
+import com.disney.model.dto.response.basic.CharacterBasicResponseDto;
+import com.disney.model.dto.response.basic.MovieBasicResponseDto;
+import com.disney.reactive.model.ResourceNotFoundException;
+import com.disney.reactive.repository.GenreReadRepository;
+import com.disney.reactive.repository.MovieReadRepository;
+import com.disney.reactive.repository.Related;
+import com.disney.reactive.service.GenreReadService;
+import com.disney.util.ApiUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.InvalidParameterException;
+import java.util.*;
+
+@Service
+public class GenreReadServiceImpl implements GenreReadService {
+    private final GenreReadRepository genreRepository;
+    private final MovieReadRepository movieRepository;
+
+    public GenreReadServiceImpl(GenreReadRepository genreRepository, MovieReadRepository movieRepository) {
+        this.genreRepository = genreRepository;
+        this.movieRepository = movieRepository;
+    }
+
+    @Override
+    public Mono<GenreResponseDto> getGenreById(String id) {
+        return Mono.defer(() -> genreRepository.findById(ApiUtils.getUUIDFromString(id)))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Genre not found for ID %s".formatted(id))))
+                .flatMapMany(genre -> withMovies(List.of(genre)))
+                .single();
+    }
+
+    @Override
+    public Flux<GenreResponseDto> listGenres(int pageNumber) {
+        if (pageNumber < 0)
+            return Flux.error(new InvalidParameterException("Invalid parameter value: page"));
+        return findGenres(PageRequest.of(pageNumber, ApiUtils.ELEMENTS_PER_PAGE));
+    }
+
+    @Override
+    public Flux<GenreResponseDto> streamGenres() {
+        return findGenres(Pageable.unpaged());
+    }
+
+    private Flux<GenreResponseDto> findGenres(Pageable pageable) {
+        return genreRepository.findAll(pageable)
+                .buffer(ApiUtils.ELEMENTS_PER_PAGE)
+                .concatMap(this::withMovies);
+    }
+
+    private Flux<GenreResponseDto> withMovies(List<GenreResponseDto> genres) {
+        List<UUID> ids = genres.stream().map(genre -> UUID.fromString(genre.id())).toList();
+        return genreRepository.findMovies(ids)
+                .collectList()
+                .flatMap(movies -> movieRepository.findCharacters(movies.stream()
+                                .map(movie -> UUID.fromString(movie.value().id())).toList())
+                        .collectMultimap(Related::ownerId, Related::value)
+                        .map(characters -> groupByGenre(movies, characters)))
+                .flatMapIterable(movies -> genres.stream()
+                        .map(genre -> new GenreResponseDto(genre.id(), genre.name(),
+                                List.copyOf(movies.getOrDefault(genre.id(), List.of()))))
+                        .toList());
+    }
+
+    private static Map<String, List<MovieBasicResponseDto>> groupByGenre(
+            List<Related<MovieBasicResponseDto>> movies, Map<String, Collection<CharacterBasicResponseDto>> characters) {
+        Map<String, List<MovieBasicResponseDto>> moviesByGenre = new HashMap<>();
+        for (Related<MovieBasicResponseDto> related : movies) {
+            MovieBasicResponseDto movie = related.value();
+            moviesByGenre.computeIfAbsent(related.ownerId(), genreId -> new ArrayList<>())
+                    .add(new MovieBasicResponseDto(movie.id(), movie.image(), movie.title(), movie.creationDate(),
+                            movie.rate(), List.copyOf(characters.getOrDefault(movie.id(), List.of()))));
+        }
+        return moviesByGenre;
+    }
+}
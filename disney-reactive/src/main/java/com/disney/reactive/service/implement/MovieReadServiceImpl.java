@@ -0,0 +1,75 @@
+package com.disney.reactive.service.implement;
+
+import com.disney.model.dto.response.MovieResponseDto;
+import com.disney.model.dto.response.basic.CharacterBasicResponseDto;
+import com.disney.reactive.model.ResourceNotFoundException;
+import com.disney.reactive.repository.MovieReadRepository;
+import com.disney.reactive.repository.Related;
+import com.disney.reactive.service.MovieReadService;
+import com.disney.util.ApiUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.InvalidParameterException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class MovieReadServiceImpl implements MovieReadService {
+    private final MovieReadRepository movieRepository;
+
+    public MovieReadServiceImpl(MovieReadRepository movieRepository) {
+        this.movieRepository = movieRepository;
+    }
+
+    @Override
+    public Mono<MovieResponseDto> getMovieById(String id) {
+        return Mono.defer(() -> movieRepository.findById(ApiUtils.getUUIDFromString(id)))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Movie not found for ID %s".formatted(id))))
+                .flatMapMany(movie -> withCharacters(List.of(movie)))
+                .single();
+    }
+
+    @Override
+    public Flux<MovieResponseDto> listMovies(int pageNumber, String title, String genre, String order) {
+        if (pageNumber < 0)
+            return Flux.error(new InvalidParameterException("Invalid parameter value: page"));
+        return findMovies(title, genre, order, PageRequest.of(pageNumber, ApiUtils.ELEMENTS_PER_PAGE));
+    }
+
+    @Override
+    public Flux<MovieResponseDto> streamMovies(String title, String genre, String order) {
+        return findMovies(title, genre, order, Pageable.unpaged());
+    }
+
+    private Flux<MovieResponseDto> findMovies(String title, String genre, String order, Pageable pageable) {
+        return Flux.defer(() -> {
+                    UUID genreId = StringUtils.hasLength(genre) ? ApiUtils.getUUIDFromString(genre) : null;
+                    return movieRepository.findByFilters(title, genreId, order, pageable);
+                })
+                // the characters are loaded once per batch and only one batch is in flight, so a slow reader
+                // holds back the movie query instead of buffering the whole result
+                .buffer(ApiUtils.ELEMENTS_PER_PAGE)
+                .concatMap(this::withCharacters);
+    }
+
+    private Flux<MovieResponseDto> withCharacters(List<MovieResponseDto> movies) {
+        List<UUID> ids = movies.stream().map(movie -> UUID.fromString(movie.id())).toList();
+        return movieRepository.findCharacters(ids)
+                .collectMultimap(Related::ownerId, Related::value)
+                .flatMapIterable(characters -> movies.stream()
+                        .map(movie -> withCharacters(movie, characters.getOrDefault(movie.id(), List.of())))
+                        .toList());
+    }
+
+    private static MovieResponseDto withCharacters(MovieResponseDto movie,
+                                                   Collection<CharacterBasicResponseDto> characters) {
+        return new MovieResponseDto(movie.id(), movie.image(), movie.title(), movie.creationDate(), movie.rate(),
+                movie.genre(), List.copyOf(characters));
+    }
+}
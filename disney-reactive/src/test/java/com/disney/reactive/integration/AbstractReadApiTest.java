@@ -0,0 +1,66 @@
+package com.disney.reactive.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+public abstract class AbstractReadApiTest {
+    @Autowired
+    protected WebTestClient webTestClient;
+    @Autowired
+    protected DatabaseClient databaseClient;
+
+    @BeforeEach
+    void cleanDatabase() {
+        for (String table : new String[]{"rel_movie_character", "characters", "movies", "genres"})
+            databaseClient.sql("DELETE FROM " + table).then().block();
+    }
+
+    protected UUID createGenre(String name) {
+        UUID id = UUID.randomUUID();
+        databaseClient.sql("INSERT INTO genres (id, name) VALUES (:id, :name)")
+                .bind("id", id)
+                .bind("name", name)
+                .then().block();
+        return id;
+    }
+
+    protected UUID createMovie(String title, LocalDate creationDate, UUID genreId, boolean deleted) {
+        UUID id = UUID.randomUUID();
+        databaseClient.sql("""
+                        INSERT INTO movies (id, image, title, creation_date, rate, genre_id, deleted)
+                        VALUES (:id, 'movie-image.jpg', :title, :creationDate, 5, :genreId, :deleted)""")
+                .bind("id", id)
+                .bind("title", title)
+                .bind("creationDate", creationDate)
+                .bind("genreId", genreId)
+                .bind("deleted", deleted)
+                .then().block();
+        return id;
+    }
+
+    protected UUID createCharacter(String name, int age, UUID... movieIds) {
+        UUID id = UUID.randomUUID();
+        databaseClient.sql("""
+                        INSERT INTO characters (id, image, name, age, weight, history, deleted)
+                        VALUES (:id, 'character-image.png', :name, :age, 78.5, 'Some history.', false)""")
+                .bind("id", id)
+                .bind("name", name)
+                .bind("age", age)
+                .then().block();
+        for (UUID movieId : movieIds)
+            databaseClient.sql("INSERT INTO rel_movie_character (movie_id, character_id) VALUES (:movieId, :id)")
+                    .bind("movieId", movieId)
+                    .bind("id", id)
+                    .then().block();
+        return id;
+    }
+}
@@ -0,0 +1,70 @@
+package com.disney.reactive.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static com.disney.model.HttpCodeResponse.RESOURCE_NOT_FOUND;
+import static com.disney.util.ApiUtils.CHARACTER_BASE_URL;
+
+public class CharacterReadControllerTest extends AbstractReadApiTest {
+
+    @DisplayName(value = "JUnit Test for get Character by ID with the Movies it appears in")
+    @Test
+    public void givenCharacterId_whenGetCharacter_thenReturnCharacterWithMovies() {
+        // given
+        UUID genreId = createGenre("Genre Name");
+        UUID movieId = createMovie("Movie Title", LocalDate.of(2020, 1, 1), genreId, false);
+        UUID deletedMovieId = createMovie("Deleted", LocalDate.of(2021, 1, 1), genreId, true);
+        UUID characterId = createCharacter("Frank", 27, movieId, deletedMovieId);
+
+        // when - then
+        webTestClient.get().uri(CHARACTER_BASE_URL + "/{characterId}", characterId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Frank")
+                .jsonPath("$.movies.length()").isEqualTo(1)
+                .jsonPath("$.movies[0].id").isEqualTo(movieId.toString())
+                .jsonPath("$.movies[0].genre.name").isEqualTo("Genre Name");
+    }
+
+    @DisplayName(value = "JUnit Test for get a missing Character")
+    @Test
+    public void givenUnknownCharacterId_whenGetCharacter_thenReturnNotFound() {
+        webTestClient.get().uri(CHARACTER_BASE_URL + "/{characterId}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(RESOURCE_NOT_FOUND.name());
+    }
+
+    @DisplayName(value = "JUnit Test for list Characters filtered by name, age and Movie")
+    @Test
+    public void givenFilters_whenListCharacters_thenReturnMatchingCharacters() {
+        // given
+        UUID genreId = createGenre("Genre Name");
+        UUID movieId = createMovie("Movie Title", LocalDate.of(2020, 1, 1), genreId, false);
+        UUID otherMovieId = createMovie("Other Title", LocalDate.of(2021, 1, 1), genreId, false);
+        UUID expected = createCharacter("simba", 5, movieId);
+        createCharacter("simba", 30, movieId);
+        createCharacter("simba", 5, otherMovieId);
+        createCharacter("nala", 5, movieId);
+
+        // when - then
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(CHARACTER_BASE_URL)
+                        .queryParam("name", "simb")
+                        .queryParam("age", 5)
+                        .queryParam("moviesId", movieId)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(expected.toString());
+    }
+}
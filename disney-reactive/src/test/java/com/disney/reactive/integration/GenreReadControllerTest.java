@@ -0,0 +1,50 @@
+package com.disney.reactive.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static com.disney.util.ApiUtils.GENRE_BASE_URL;
+
+public class GenreReadControllerTest extends AbstractReadApiTest {
+
+    @DisplayName(value = "JUnit Test for get Genre by ID with its Movies and their Characters")
+    @Test
+    public void givenGenreId_whenGetGenre_thenReturnGenreWithMoviesAndCharacters() {
+        // given
+        UUID genreId = createGenre("Genre Name");
+        UUID movieId = createMovie("Movie Title", LocalDate.of(2020, 1, 1), genreId, false);
+        createMovie("Deleted", LocalDate.of(2021, 1, 1), genreId, true);
+        createCharacter("Frank", 27, movieId);
+
+        // when - then
+        webTestClient.get().uri(GENRE_BASE_URL + "/{genreId}", genreId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Genre Name")
+                .jsonPath("$.movies.length()").isEqualTo(1)
+                .jsonPath("$.movies[0].characters[0].name").isEqualTo("Frank");
+    }
+
+    @DisplayName(value = "JUnit Test for list Genres by page")
+    @Test
+    public void givenGenres_whenListGenres_thenReturnPage() {
+        // given
+        createGenre("Drama");
+        createGenre("Animation");
+
+        // when - then
+        webTestClient.get().uri(GENRE_BASE_URL + "?page=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].name").isEqualTo("Animation")
+                .jsonPath("$[0].movies").isEmpty();
+    }
+}
@@ -0,0 +1,148 @@
+package com.disney.reactive.integration;
+
+import com.disney.model.dto.response.MovieResponseDto;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.disney.model.HttpCodeResponse.INVALID_ARGUMENT;
+import static com.disney.model.HttpCodeResponse.INVALID_ID_FORMAT;
+import static com.disney.model.HttpCodeResponse.RESOURCE_NOT_FOUND;
+import static com.disney.util.ApiUtils.ELEMENTS_PER_PAGE;
+import static com.disney.util.ApiUtils.MOVIE_BASE_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MovieReadControllerTest extends AbstractReadApiTest {
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @DisplayName(value = "JUnit Test for get Movie by ID with its Genre and Characters")
+    @Test
+    public void givenMovieId_whenGetMovie_thenReturnMovieWithGenreAndCharacters() {
+        // given
+        UUID genreId = createGenre("Genre Name");
+        UUID movieId = createMovie("Movie Title", LocalDate.of(2020, 1, 1), genreId, false);
+        createCharacter("Frank", 27, movieId);
+        createCharacter("Anne", 31, movieId);
+
+        // when - then
+        webTestClient.get().uri(MOVIE_BASE_URL + "/{movieId}", movieId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(movieId.toString())
+                .jsonPath("$.title").isEqualTo("Movie Title")
+                .jsonPath("$.creationDate").isEqualTo("2020/01/01")
+                .jsonPath("$.genre.id").isEqualTo(genreId.toString())
+                .jsonPath("$.characters.length()").isEqualTo(2);
+    }
+
+    @DisplayName(value = "JUnit Test for get Movie by ID encoded as Smile when the client accepts it")
+    @Test
+    public void givenSmileAcceptHeader_whenGetMovie_thenReturnMovieEncodedAsSmile() throws Exception {
+        // given
+        UUID movieId = createMovie("Movie Title", LocalDate.of(2020, 1, 1), createGenre("Genre Name"), false);
+
+        // when
+        byte[] body = webTestClient.get().uri(MOVIE_BASE_URL + "/{movieId}", movieId)
+                .accept(SMILE)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(SMILE)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+
+        // then
+        assertThat(new SmileMapper().readValue(body, MovieResponseDto.class).title()).isEqualTo("Movie Title");
+    }
+
+    @DisplayName(value = "JUnit Test for get a deleted or missing Movie")
+    @Test
+    public void givenDeletedMovieId_whenGetMovie_thenReturnNotFound() {
+        // given
+        UUID movieId = createMovie("Deleted", LocalDate.now(), createGenre("Genre Name"), true);
+
+        // when - then
+        webTestClient.get().uri(MOVIE_BASE_URL + "/{movieId}", movieId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(RESOURCE_NOT_FOUND.name());
+    }
+
+    @DisplayName(value = "JUnit Test for get Movie with an invalid ID")
+    @Test
+    public void givenInvalidMovieId_whenGetMovie_thenReturnBadRequest() {
+        webTestClient.get().uri(MOVIE_BASE_URL + "/{movieId}", "not-an-uuid")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(INVALID_ID_FORMAT.name());
+    }
+
+    @DisplayName(value = "JUnit Test for list Movies filtered by title and genre in descending order")
+    @Test
+    public void givenFilters_whenListMovies_thenReturnMatchingMoviesInOrder() {
+        // given
+        UUID genreId = createGenre("Genre Name");
+        UUID otherGenreId = createGenre("Other Genre");
+        UUID older = createMovie("the lion king", LocalDate.of(1994, 6, 15), genreId, false);
+        UUID newer = createMovie("the lion king II", LocalDate.of(1998, 10, 27), genreId, false);
+        createMovie("the lion guard", LocalDate.of(2015, 1, 15), otherGenreId, false);
+        createMovie("frozen", LocalDate.of(2013, 11, 27), genreId, false);
+
+        // when - then
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(MOVIE_BASE_URL)
+                        .queryParam("title", "lion")
+                        .queryParam("genre", genreId)
+                        .queryParam("order", "DESC")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(newer.toString())
+                .jsonPath("$[1].id").isEqualTo(older.toString());
+    }
+
+    @DisplayName(value = "JUnit Test for list Movies with a negative page")
+    @Test
+    public void givenNegativePage_whenListMovies_thenReturnBadRequest() {
+        webTestClient.get().uri(MOVIE_BASE_URL + "?page=-1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(INVALID_ARGUMENT.name());
+    }
+
+    @DisplayName(value = "JUnit Test for stream every Movie as NDJSON beyond the page size")
+    @Test
+    public void givenMoreMoviesThanAPage_whenStreamMovies_thenReturnEveryMovie() {
+        // given
+        UUID genreId = createGenre("Genre Name");
+        int movies = ELEMENTS_PER_PAGE * 2 + 3;
+        IntStream.range(0, movies).forEach(i ->
+                createMovie("Movie %d".formatted(i), LocalDate.of(2000, 1, 1).plusDays(i), genreId, false));
+
+        // when
+        var body = webTestClient.get().uri(MOVIE_BASE_URL)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(MovieResponseDto.class)
+                .getResponseBody();
+
+        // then
+        StepVerifier.create(body)
+                .assertNext(movie -> assertThat(movie.title()).isEqualTo("Movie 0"))
+                .expectNextCount(movies - 1)
+                .verifyComplete();
+    }
+}
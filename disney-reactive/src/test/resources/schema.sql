@@ -0,0 +1,28 @@
+-- same tables Hibernate generates for the servlet application
+CREATE TABLE IF NOT EXISTS genres (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255)
+);
+CREATE TABLE IF NOT EXISTS movies (
+    id UUID PRIMARY KEY,
+    image VARCHAR(255),
+    title VARCHAR(255),
+    creation_date DATE,
+    rate INTEGER NOT NULL,
+    genre_id UUID REFERENCES genres (id),
+    deleted BOOLEAN NOT NULL
+);
+CREATE TABLE IF NOT EXISTS characters (
+    id UUID PRIMARY KEY,
+    image VARCHAR(255),
+    name VARCHAR(255),
+    age INTEGER NOT NULL,
+    weight DOUBLE PRECISION NOT NULL,
+    history VARCHAR(255),
+    deleted BOOLEAN NOT NULL
+);
+CREATE TABLE IF NOT EXISTS rel_movie_character (
+    movie_id UUID NOT NULL REFERENCES movies (id),
+    character_id UUID NOT NULL REFERENCES characters (id),
+    PRIMARY KEY (movie_id, character_id)
+);